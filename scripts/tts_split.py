@@ -4,8 +4,13 @@
 - Primary splitter: kss.split_sentences
 - Fallback: naive punctuation/newline split
 
-Input: stdin (utf-8)
-Output: JSON array of strings (utf-8)
+One-shot mode:
+  Input: stdin (utf-8)
+  Output: JSON array of strings (utf-8)
+
+Worker mode (--serve), kept alive by the bot across requests:
+  Input: one JSON object per line, {"text": "..."}
+  Output: one JSON array per line, in request order
 """
 
 import json
@@ -26,14 +31,10 @@ def naive_split(text: str):
     return out
 
 
-def main():
-    text = sys.stdin.read()
+def split(text: str):
     text = (text or "").strip()
-
     if not text:
-        print("[]")
-        return
-
+        return []
     try:
         # kss sometimes prints banners/logs to stdout depending on environment.
         # Swallow any stdout noise so we always output a single JSON payload.
@@ -42,11 +43,37 @@ def main():
 
             # kss can return list[str]
             parts = kss.split_sentences(text)
-        out = [p.strip() for p in parts if p and str(p).strip()]
+        return [p.strip() for p in parts if p and str(p).strip()]
     except Exception:
-        out = naive_split(text)
+        return naive_split(text)
+
+
+def serve():
+    out = sys.stdout
+    # Keep library noise off the response channel for the whole session.
+    sys.stdout = sys.stderr
+    split("워밍업 문장입니다.")  # load kss once, before the first real request
+    while True:
+        line = sys.stdin.readline()
+        if not line:
+            return
+        line = line.strip()
+        if not line:
+            continue
+        try:
+            text = json.loads(line).get("text", "")
+        except Exception:
+            text = ""
+        out.write(json.dumps(split(text), ensure_ascii=False) + "\n")
+        out.flush()
+
+
+def main():
+    if "--serve" in sys.argv[1:]:
+        serve()
+        return
 
-    print(json.dumps(out, ensure_ascii=False))
+    print(json.dumps(split(sys.stdin.read()), ensure_ascii=False))
 
 
 if __name__ == "__main__":
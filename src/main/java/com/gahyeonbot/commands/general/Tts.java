@@ -5,12 +5,8 @@ import com.gahyeonbot.commands.util.Description;
 import com.gahyeonbot.commands.util.ResponseUtil;
 import com.gahyeonbot.core.audio.GuildMusicManager;
 import com.gahyeonbot.services.music.MusicService;
+import com.gahyeonbot.services.tts.TtsPipeline;
 import com.gahyeonbot.services.tts.TtsService;
-import com.gahyeonbot.services.tts.TtsTrackMetadata;
-import com.sedmelluq.discord.lavaplayer.player.AudioLoadResultHandler;
-import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
-import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
-import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
@@ -20,11 +16,9 @@ import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import org.springframework.stereotype.Component;
 
-import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Component
@@ -33,8 +27,8 @@ public class Tts extends AbstractCommand {
     private static final String OPT_TEXT = "text";
 
     private final TtsService ttsService;
+    private final TtsPipeline ttsPipeline;
     private final MusicService musicService;
-    private final com.gahyeonbot.core.audio.AudioManager audioManager;
 
     @Override
     public String getName() {
@@ -115,72 +109,15 @@ public class Tts extends AbstractCommand {
             return;
         }
 
-        // 1) First segment is synthesized first for faster perceived response.
-        Path firstAudio;
-        try {
-            firstAudio = ttsService.synthesizeSegmentToAudio(segments.get(0));
-        } catch (Exception e) {
-            log.error("TTS 첫 문장 합성 실패", e);
-            ResponseUtil.replyError(event, "TTS 합성에 실패했어: " + e.getMessage());
-            return;
-        }
-
-        AtomicBoolean firstQueued = new AtomicBoolean(false);
-        enqueueWav(event, musicManager, firstAudio, firstQueued);
-
-        // 2) Remaining segments synthesize in background and queue as they are ready.
-        if (segments.size() > 1) {
-            CompletableFuture.runAsync(() -> {
-                for (int i = 1; i < segments.size(); i++) {
-                    String segment = segments.get(i);
-                    try {
-                        Path audio = ttsService.synthesizeSegmentToAudio(segment);
-                        enqueueWav(event, musicManager, audio, firstQueued);
-                    } catch (Exception e) {
-                        log.error("TTS 후속 문장 합성 실패 (index={})", i, e);
-                    }
-                }
-            });
-        }
-    }
-
-    private void enqueueWav(SlashCommandInteractionEvent event, GuildMusicManager musicManager, Path wav, AtomicBoolean firstQueued) {
-        audioManager.getPlayerManager().loadItem(wav.toString(), new AudioLoadResultHandler() {
-            @Override
-            public void trackLoaded(AudioTrack track) {
-                // Mark for cleanup.
-                track.setUserData(new TtsTrackMetadata(wav, true));
-
-                musicManager.playOrQueueTrack(track);
-                firstQueued.compareAndSet(false, true);
-            }
-
-            @Override
-            public void playlistLoaded(AudioPlaylist playlist) {
-                // Should not happen for wav, but handle defensively.
-                if (!playlist.getTracks().isEmpty()) {
-                    trackLoaded(playlist.getTracks().get(0));
-                } else {
-                    fail("재생 가능한 트랙이 없어.");
-                }
-            }
-
-            @Override
-            public void noMatches() {
-                fail("오디오를 로드하지 못했어.");
-            }
-
-            @Override
-            public void loadFailed(FriendlyException e) {
-                fail("오디오 로딩 실패: " + e.getMessage());
-            }
-
-            private void fail(String msg) {
-                log.warn("TTS wav enqueue 실패: {} ({})", msg, wav);
-                if (firstQueued.compareAndSet(false, true)) {
-                    ResponseUtil.replyError(event, msg);
-                }
-            }
-        });
+        // Segments synthesize ahead of playback and are queued in order as in-memory tracks.
+        ttsPipeline.play(segments, null, "command", false, musicManager::playOrQueueTrack)
+                .whenComplete((queued, failure) -> {
+                    if (failure == null) return;
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                    log.error("TTS 합성 실패", cause);
+                    ResponseUtil.replyError(event, "TTS 합성에 실패했어: " + cause.getMessage());
+                });
     }
 }
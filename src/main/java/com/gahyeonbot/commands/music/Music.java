@@ -32,6 +32,8 @@ public class Music extends AbstractCommand {
 
     private static final String OPT_ACTION = "action";
     private static final String OPT_QUERY = "query";
+    private static final String OPT_POSITION = "position";
+    private static final String OPT_TO = "to";
 
     private enum Action {
         ADD,
@@ -39,7 +41,10 @@ public class Music extends AbstractCommand {
         RESUME,
         SKIP,
         QUEUE,
-        CLEAR
+        CLEAR,
+        REMOVE,
+        MOVE,
+        SHUFFLE
     }
 
     @Override
@@ -71,12 +76,23 @@ public class Music extends AbstractCommand {
                 .addChoice("재생", "resume")
                 .addChoice("다음곡", "skip")
                 .addChoice("대기열", "queue")
-                .addChoice("초기화", "clear");
+                .addChoice("초기화", "clear")
+                .addChoice("삭제", "remove")
+                .addChoice("이동", "move")
+                .addChoice("섞기", "shuffle");
 
         OptionData query = new OptionData(OptionType.STRING, OPT_QUERY, "노래 제목/검색어 (추가할 때 사용)", false)
                 .setNameLocalization(DiscordLocale.KOREAN, "노래");
 
-        return List.of(action, query);
+        OptionData position = new OptionData(OptionType.INTEGER, OPT_POSITION, "대기열 번호 (삭제/이동할 때 사용)", false)
+                .setNameLocalization(DiscordLocale.KOREAN, "번호")
+                .setMinValue(1);
+
+        OptionData to = new OptionData(OptionType.INTEGER, OPT_TO, "옮길 번호 (이동할 때 사용)", false)
+                .setNameLocalization(DiscordLocale.KOREAN, "위치")
+                .setMinValue(1);
+
+        return List.of(action, query, position, to);
     }
 
     @Override
@@ -117,6 +133,9 @@ public class Music extends AbstractCommand {
             case SKIP -> handleSkip(event, guild);
             case QUEUE -> handleQueue(event, guild);
             case CLEAR -> handleClear(event, guild);
+            case REMOVE -> handleRemove(event, guild);
+            case MOVE -> handleMove(event, guild);
+            case SHUFFLE -> handleShuffle(event, guild);
         }
     }
 
@@ -132,10 +151,20 @@ public class Music extends AbstractCommand {
             case "skip" -> Action.SKIP;
             case "queue" -> Action.QUEUE;
             case "clear" -> Action.CLEAR;
+            case "remove" -> Action.REMOVE;
+            case "move" -> Action.MOVE;
+            case "shuffle" -> Action.SHUFFLE;
             default -> null;
         };
     }
 
+    /**
+     * 1부터 세는 대기열 번호를 0부터 시작하는 위치로 바꿉니다. 없으면 -1을 반환합니다.
+     */
+    private int parsePosition(OptionMapping opt) {
+        return opt == null ? -1 : opt.getAsInt() - 1;
+    }
+
     private String parseQuery(OptionMapping opt) {
         if (opt == null) return null;
         String s = opt.getAsString();
@@ -168,14 +197,15 @@ public class Music extends AbstractCommand {
 
     private void handleQueue(SlashCommandInteractionEvent event, Guild guild) {
         GuildMusicManager musicManager = musicManagers.get(guild.getIdLong());
-        if (musicManager == null || musicManager.getQueue().isEmpty()) {
+        if (musicManager == null || musicManager.isQueueEmpty()) {
             ResponseUtil.replyEphemeralEmbed(event, EmbedUtil.createInfoEmbed("""
                     지금은 대기열이 비어있어.
                     노래 추가: `/뮤직 query:노래제목`
                     """.trim()));
             return;
         }
-        ResponseUtil.replyEmbed(event, EmbedUtil.createQueueEmbed(musicManager.getQueue()));
+        var page = musicManager.getQueue(0, EmbedUtil.QUEUE_PAGE_SIZE);
+        ResponseUtil.replyEmbed(event, EmbedUtil.createQueueEmbed(page, 0, musicManager.getQueueSize()));
     }
 
     private void handlePause(SlashCommandInteractionEvent event, Guild guild) {
@@ -231,5 +261,55 @@ public class Music extends AbstractCommand {
         musicManager.stopPlayback(guild.getAudioManager());
         ResponseUtil.replyEmbed(event, EmbedUtil.createMusicStopEmbed(event));
     }
-}
 
+    private void handleRemove(SlashCommandInteractionEvent event, Guild guild) {
+        GuildMusicManager musicManager = musicManagers.get(guild.getIdLong());
+        if (musicManager == null || musicManager.isQueueEmpty()) {
+            ResponseUtil.replyError(event, "대기열이 비어있습니다.");
+            return;
+        }
+        int index = parsePosition(event.getOption(OPT_POSITION));
+        if (index < 0 || index >= musicManager.getQueueSize()) {
+            ResponseUtil.replyError(event, "1부터 " + musicManager.getQueueSize() + " 사이의 대기열 번호를 입력하세요.");
+            return;
+        }
+        try {
+            var removed = musicManager.removeFromQueue(index);
+            ResponseUtil.replySuccess(event, (index + 1) + "번 `" + removed.getInfo().title + "`을(를) 대기열에서 삭제했습니다.");
+        } catch (IndexOutOfBoundsException e) {
+            // 번호를 확인한 뒤 곡이 재생되어 대기열이 줄어든 경우
+            ResponseUtil.replyError(event, "대기열이 바뀌었습니다. 다시 확인해주세요.");
+        }
+    }
+
+    private void handleMove(SlashCommandInteractionEvent event, Guild guild) {
+        GuildMusicManager musicManager = musicManagers.get(guild.getIdLong());
+        if (musicManager == null || musicManager.isQueueEmpty()) {
+            ResponseUtil.replyError(event, "대기열이 비어있습니다.");
+            return;
+        }
+        int from = parsePosition(event.getOption(OPT_POSITION));
+        int to = parsePosition(event.getOption(OPT_TO));
+        int size = musicManager.getQueueSize();
+        if (from < 0 || from >= size || to < 0 || to >= size) {
+            ResponseUtil.replyError(event, "position과 to에 1부터 " + size + " 사이의 대기열 번호를 입력하세요.");
+            return;
+        }
+        try {
+            musicManager.moveInQueue(from, to);
+            ResponseUtil.replySuccess(event, (from + 1) + "번 곡을 " + (to + 1) + "번으로 옮겼습니다.");
+        } catch (IndexOutOfBoundsException e) {
+            ResponseUtil.replyError(event, "대기열이 바뀌었습니다. 다시 확인해주세요.");
+        }
+    }
+
+    private void handleShuffle(SlashCommandInteractionEvent event, Guild guild) {
+        GuildMusicManager musicManager = musicManagers.get(guild.getIdLong());
+        if (musicManager == null || musicManager.getQueueSize() < 2) {
+            ResponseUtil.replyError(event, "섞을 곡이 대기열에 두 곡 이상 있어야 합니다.");
+            return;
+        }
+        musicManager.shuffleQueue();
+        ResponseUtil.replySuccess(event, "대기열 " + musicManager.getQueueSize() + "곡을 섞었습니다.");
+    }
+}
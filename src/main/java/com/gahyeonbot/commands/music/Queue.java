@@ -4,13 +4,15 @@ import com.gahyeonbot.commands.util.*;
 import com.gahyeonbot.core.audio.GuildMusicManager;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 음악 대기열을 표시하는 명령어 클래스.
- * 현재 서버의 음악 대기열에 있는 모든 곡을 목록으로 표시합니다.
+ * 현재 서버의 음악 대기열을 페이지 단위로 표시합니다.
  * 
  * @author GahyeonBot Team
  * @version 1.0
@@ -50,7 +52,10 @@ public class Queue extends AbstractCommand {
 
     @Override
     public List<OptionData> getOptions() {
-        return List.of();
+        return List.of(
+                new OptionData(OptionType.INTEGER, "page", "표시할 페이지 (기본 1)", false)
+                        .setMinValue(1)
+        );
     }
 
     @Override
@@ -66,12 +71,19 @@ public class Queue extends AbstractCommand {
 
         var musicManager = musicManagers.get(guild.getIdLong());
 
-        if (musicManager == null || musicManager.getQueue().isEmpty()) { // 변경된 부분
+        if (musicManager == null || musicManager.isQueueEmpty()) {
             ResponseUtil.replyError(event, "현재 대기열에 곡이 없습니다.");
             return;
         }
 
-        var embed = EmbedUtil.createQueueEmbed(musicManager.getQueue()); // 변경된 부분
+        int total = musicManager.getQueueSize();
+        int pageCount = Math.max(1, (total + EmbedUtil.QUEUE_PAGE_SIZE - 1) / EmbedUtil.QUEUE_PAGE_SIZE);
+        OptionMapping pageOption = event.getOption("page");
+        int page = pageOption != null ? (int) Math.min(pageOption.getAsLong(), pageCount) : 1;
+        int offset = (page - 1) * EmbedUtil.QUEUE_PAGE_SIZE;
+
+        var tracks = musicManager.getQueue(offset, EmbedUtil.QUEUE_PAGE_SIZE);
+        var embed = EmbedUtil.createQueueEmbed(tracks, offset, total);
         ResponseUtil.replyEmbed(event, embed);
     }
 }
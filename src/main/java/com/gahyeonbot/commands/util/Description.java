@@ -95,7 +95,7 @@ public class Description {
     public static final String MUSIC_NAME = "music";
     public static final String MUSIC_NAME_KO = "뮤직";
     public static final String MUSIC_DESC = "음악 재생/대기열을 한 번에 제어합니다.";
-    public static final String MUSIC_DETAIL = "예) /뮤직 action:추가 query:노래제목, /뮤직 action:대기열";
+    public static final String MUSIC_DETAIL = "예) /뮤직 action:추가 query:노래제목, /뮤직 action:대기열, /뮤직 action:이동 position:3 to:1";
 
     public static final String ADD_NAME = "music-add";
     public static final String ADD_NAME_KO = "뮤직추가";
@@ -22,6 +22,8 @@ public class EmbedUtil {
     private static final Color BRAND_WARNING = new Color(0xF59E0B);
     private static final Color BRAND_ERROR   = new Color(0xEF4444);
 
+    public static final int QUEUE_PAGE_SIZE = 15;
+
     private static final String BOT_NAME = "가현봇";
     private static final DateTimeFormatter RESERVATION_TIME_FORMATTER = DateTimeFormatter.ofPattern("MM-dd HH:mm");
 
@@ -60,6 +62,15 @@ public class EmbedUtil {
                 .setFooter(requester.getName(), requester.getEffectiveAvatarUrl());
     }
 
+    public static EmbedBuilder createPlaylistProgressEmbed(String playlistName, int added, int total, User requester) {
+        boolean done = added >= total;
+        return base(done ? BRAND_SUCCESS : BRAND_PRIMARY)
+                .setTitle(done ? "재생목록 추가 완료" : "재생목록 추가 중")
+                .setDescription("**" + playlistName + "**")
+                .addField("추가된 곡", added + " / " + total, true)
+                .setFooter(requester.getName(), requester.getEffectiveAvatarUrl());
+    }
+
     public static EmbedBuilder createErrorEmbed(String errorMessage) {
         return base(BRAND_ERROR)
                 .setTitle("오류 발생")
@@ -125,16 +136,25 @@ public class EmbedUtil {
     }
 
     public static EmbedBuilder createQueueEmbed(List<AudioTrack> tracks) {
+        return createQueueEmbed(tracks, 0, tracks.size());
+    }
+
+    public static EmbedBuilder createQueueEmbed(List<AudioTrack> page, int offset, int total) {
         EmbedBuilder embed = base(BRAND_PRIMARY)
                 .setTitle("현재 대기열");
 
         StringJoiner queueMessage = new StringJoiner("\n");
-        for (int i = 0; i < tracks.size(); i++) {
-            AudioTrack track = tracks.get(i);
-            queueMessage.add("`" + (i + 1) + ".` " + track.getInfo().title + " \u2014 " + formatDuration(track.getDuration()));
+        for (int i = 0; i < page.size(); i++) {
+            AudioTrack track = page.get(i);
+            queueMessage.add("`" + (offset + i + 1) + ".` " + track.getInfo().title + " \u2014 " + formatDuration(track.getDuration()));
         }
 
         embed.setDescription(queueMessage.toString());
+        if (total > page.size()) {
+            int pageNumber = offset / QUEUE_PAGE_SIZE + 1;
+            int pageCount = (total + QUEUE_PAGE_SIZE - 1) / QUEUE_PAGE_SIZE;
+            embed.setFooter(pageNumber + " / " + pageCount + " 페이지 · 총 " + total + "곡");
+        }
         return embed;
     }
 
@@ -0,0 +1,151 @@
+package com.gahyeonbot.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 수신기.
+ * 연결 하나로 구독한 모든 채널을 LISTEN하고, 알림을 채널별 구독자에게 나눠 줍니다.
+ * PostgreSQL이 아니거나 {@code database.listen-notify}가 꺼져 있으면 아무 것도 하지 않으며,
+ * 구독자는 {@link #isActive()}로 확인해 프로세스 내 신호만 씁니다.
+ */
+@Slf4j
+@Component
+public class PostgresNotificationListener {
+    private static final int LISTEN_TIMEOUT_MILLIS = 10_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    /**
+     * 채널 구독자. 콜백은 수신 스레드에서 호출되므로 오래 막지 않아야 합니다.
+     */
+    public interface Subscriber {
+        void onNotification(String payload);
+
+        /**
+         * LISTEN을 (다시) 시작한 직후 호출됩니다. 연결이 없던 동안 놓친 알림을 따라잡는 데 씁니다.
+         */
+        default void onListening() {
+        }
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean postgres;
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresNotificationListener(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            @Value("${database.listen-notify:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        try (Connection connection = dataSource.getConnection()) {
+            postgres = connection.isWrapperFor(PGConnection.class);
+        } catch (Exception e) {
+            log.warn("LISTEN/NOTIFY용 DB 확인 실패, 프로세스 내 신호만 사용", e);
+        }
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+    }
+
+    public boolean isActive() {
+        return enabled && postgres;
+    }
+
+    /**
+     * 채널을 구독합니다. 수신 스레드는 첫 구독 때 시작되며, 나중에 추가한 채널은 다음 대기 주기에 LISTEN됩니다.
+     */
+    public synchronized void subscribe(String channel, Subscriber subscriber) {
+        if (!isActive()) return;
+        subscribers.put(channel, subscriber);
+        if (listener == null) {
+            running = true;
+            listener = Thread.ofPlatform().name("postgres-listen").daemon().start(this::listen);
+        }
+    }
+
+    /**
+     * 채널에 알림을 보냅니다. 현재 트랜잭션이 있으면 커밋될 때 전달됩니다.
+     */
+    public void notify(String channel, String payload) {
+        if (!isActive()) return;
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                Set<String> listening = new HashSet<>();
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    listenNewChannels(connection, listening);
+                    PGNotification[] notifications = pg.getNotifications(LISTEN_TIMEOUT_MILLIS);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getName(), notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) return;
+                log.warn("LISTEN 연결 실패, {}ms 후 재시도", RECONNECT_DELAY_MILLIS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listenNewChannels(Connection connection, Set<String> listening) throws Exception {
+        for (Map.Entry<String, Subscriber> entry : subscribers.entrySet()) {
+            if (!listening.add(entry.getKey())) continue;
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + entry.getKey());
+            }
+            log.info("LISTEN 시작 channel={}", entry.getKey());
+            try {
+                entry.getValue().onListening();
+            } catch (Exception e) {
+                log.warn("LISTEN 시작 처리 실패 channel={}", entry.getKey(), e);
+            }
+        }
+    }
+
+    private void dispatch(String channel, String payload) {
+        Subscriber subscriber = subscribers.get(channel);
+        if (subscriber == null) return;
+        try {
+            subscriber.onNotification(payload);
+        } catch (Exception e) {
+            log.warn("알림 처리 실패 channel={}", channel, e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.player.DefaultAudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManagers;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import org.springframework.stereotype.Component;
 import se.michaelthelin.spotify.SpotifyApi;
 import se.michaelthelin.spotify.model_objects.specification.Track;
@@ -26,6 +27,7 @@ public class AudioManager {
     private static final Logger logger = LoggerFactory.getLogger(AudioManager.class);
     private final AppCredentialsConfig config;
     private AudioPlayerManager playerManager;
+    private InMemoryAudioSourceManager memorySource;
     private SpotifyApi spotifyApi;
 
     /**
@@ -37,6 +39,8 @@ public class AudioManager {
         this.playerManager = new DefaultAudioPlayerManager();
         AudioSourceManagers.registerRemoteSources(playerManager);
         AudioSourceManagers.registerLocalSource(playerManager);
+        memorySource = new InMemoryAudioSourceManager();
+        playerManager.registerSourceManager(memorySource);
 
         spotifyApi = new SpotifyApi.Builder()
                 .setClientId(config.getSpotifyClientId())
@@ -76,6 +80,18 @@ public class AudioManager {
         return playerManager;
     }
 
+    /**
+     * 메모리의 오디오 바이트로 트랙을 만듭니다. 임시 파일과 loadItem 왕복이 필요 없습니다.
+     * 
+     * @param title 트랙 제목
+     * @param data 오디오 파일 바이트
+     * @param format 파일 확장자 힌트 (예: wav, mp3)
+     * @return 재생 가능한 트랙
+     */
+    public AudioTrack createMemoryTrack(String title, byte[] data, String format) {
+        return memorySource.createTrack(title, data, format);
+    }
+
     /**
      * Spotify 쿼리를 기반으로 SoundCloud 트랙을 검색합니다.
      * 
@@ -1,23 +1,27 @@
 package com.gahyeonbot.core.audio;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayer;
-import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
 import net.dv8tion.jda.api.audio.AudioSendHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
 
 /**
  * AudioPlayerSendHandler
  * - Discord API의 AudioSendHandler를 구현하여 LavaPlayer의 오디오 데이터를 Discord 보이스 채널로 전송.
+ * - MutableAudioFrame과 재사용 가능한 direct ByteBuffer를 사용하여 20ms마다 힙 할당이 발생하지 않도록 합니다.
  */
 public class AudioPlayerSendHandler implements AudioSendHandler {
-    private static final Logger logger = LoggerFactory.getLogger(AudioPlayerSendHandler.class);
-    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0); // 재사용 가능한 빈 ByteBuffer
+    /**
+     * Opus 프레임 하나를 담기에 충분한 버퍼 크기 (LavaPlayer 기본 Opus 프레임은 수백 바이트 이내).
+     */
+    static final int FRAME_BUFFER_SIZE = 1024;
 
     private final AudioPlayer audioPlayer;
-    private AudioFrame lastFrame;
+    private final TrackScheduler scheduler;
+    private final ByteBuffer buffer;
+    private final MutableAudioFrame frame;
+    private boolean frameReady;
 
     /**
      * AudioPlayerSendHandler 생성자
@@ -25,34 +29,74 @@ public class AudioPlayerSendHandler implements AudioSendHandler {
      * @param audioPlayer LavaPlayer의 AudioPlayer 인스턴스
      */
     public AudioPlayerSendHandler(AudioPlayer audioPlayer) {
+        this(audioPlayer, ByteBuffer.allocateDirect(FRAME_BUFFER_SIZE));
+    }
+
+    /**
+     * 외부에서 관리하는 버퍼를 사용하는 생성자.
+     *
+     * @param audioPlayer LavaPlayer의 AudioPlayer 인스턴스
+     * @param buffer 프레임 데이터를 담을 재사용 버퍼 (길드 단위로 하나)
+     */
+    public AudioPlayerSendHandler(AudioPlayer audioPlayer, ByteBuffer buffer) {
+        this(audioPlayer, null, buffer);
+    }
+
+    /**
+     * 스케줄러의 활성 플레이어에서 프레임을 가져오는 생성자.
+     * 무음 없는 전환 시 활성 플레이어가 바뀌어도 같은 핸들러를 그대로 사용합니다.
+     *
+     * @param scheduler 트랙 스케줄러
+     * @param buffer 프레임 데이터를 담을 재사용 버퍼 (길드 단위로 하나)
+     */
+    public AudioPlayerSendHandler(TrackScheduler scheduler, ByteBuffer buffer) {
+        this(null, scheduler, buffer);
+    }
+
+    private AudioPlayerSendHandler(AudioPlayer audioPlayer, TrackScheduler scheduler, ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() < FRAME_BUFFER_SIZE) {
+            throw new IllegalArgumentException("프레임 버퍼는 최소 " + FRAME_BUFFER_SIZE + "바이트여야 합니다.");
+        }
         this.audioPlayer = audioPlayer;
+        this.scheduler = scheduler;
+        this.buffer = buffer;
+        this.frame = new MutableAudioFrame();
+        this.frame.setBuffer(buffer);
     }
 
     /**
      * 오디오 데이터를 제공할 수 있는지 확인.
+     * 프레임 데이터는 공유 버퍼에 직접 기록되므로 새 객체가 생성되지 않습니다.
      *
      * @return true면 오디오 데이터 제공 가능, false면 불가능.
      */
     @Override
     public boolean canProvide() {
-        if (lastFrame == null) {
-            lastFrame = audioPlayer.provide();
+        if (!frameReady) {
+            buffer.clear();
+            if (scheduler == null) {
+                frameReady = audioPlayer.provide(frame);
+            } else {
+                frameReady = scheduler.getActivePlayer().provide(frame);
+                if (frameReady) scheduler.onFrameProvided();
+            }
         }
-        return lastFrame != null;
+        return frameReady;
     }
+
     /**
      * 20ms 길이의 오디오 데이터를 제공.
      *
-     * @return 오디오 데이터가 담긴 ByteBuffer.
+     * @return 오디오 데이터가 담긴 ByteBuffer (다음 호출 전까지만 유효).
      */
     @Override
     public ByteBuffer provide20MsAudio() {
-        if (lastFrame == null) {
-            return EMPTY_BUFFER;
+        if (!frameReady) {
+            buffer.clear().limit(0);
+            return buffer;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(lastFrame.getData());
-        lastFrame = null;
-        return buffer;
+        frameReady = false;
+        return buffer.flip();
     }
 
     /**
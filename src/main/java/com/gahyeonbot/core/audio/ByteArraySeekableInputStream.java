@@ -0,0 +1,73 @@
+package com.gahyeonbot.core.audio;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 메모리에 있는 오디오 바이트를 LavaPlayer 컨테이너 파서가 읽을 수 있도록 감싸는 스트림.
+ * 배열을 복사하지 않으며, 같은 배열로 여러 스트림을 동시에 열 수 있습니다.
+ */
+final class ByteArraySeekableInputStream extends SeekableInputStream {
+    private final byte[] data;
+    private int position;
+
+    ByteArraySeekableInputStream(byte[] data) {
+        super(data.length, 0);
+        this.data = data;
+    }
+
+    @Override
+    public int read() {
+        return position < data.length ? data[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) return 0;
+        if (position >= data.length) return -1;
+        int count = Math.min(length, data.length - position);
+        System.arraycopy(data, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long count) {
+        int skipped = (int) Math.max(0, Math.min(count, data.length - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return data.length - position;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    protected void seekHard(long target) {
+        position = (int) Math.max(0, Math.min(target, data.length));
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return true;
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void close() {
+        // 닫을 자원이 없습니다.
+    }
+}
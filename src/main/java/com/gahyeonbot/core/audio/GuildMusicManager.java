@@ -9,7 +9,10 @@ import net.dv8tion.jda.api.managers.AudioManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * 서버별 음악 재생을 관리하는 클래스.
@@ -21,7 +24,6 @@ import java.util.List;
 public class GuildMusicManager {
     private static final Logger logger = LoggerFactory.getLogger(GuildMusicManager.class);
 
-    private final AudioPlayer player;
     private final TrackScheduler scheduler;
     private final AudioSendHandler sendHandler;
 
@@ -32,32 +34,50 @@ public class GuildMusicManager {
      * @param audioManager Discord 오디오 매니저
      */
     public GuildMusicManager(AudioPlayerManager manager, AudioManager audioManager) {
+        this(manager, audioManager, 0, null);
+    }
+
+    /**
+     * 무음 없는 전환(gapless)을 지원하는 GuildMusicManager 생성자.
+     * 
+     * @param manager 오디오 플레이어 매니저
+     * @param audioManager Discord 오디오 매니저
+     * @param prefetchMillis 트랙 종료 몇 ms 전에 다음 트랙을 준비할지 (0이면 비활성화)
+     * @param transitionRecorder 트랙 전환 지연 기록기 (gapless 여부, 지연 시간), null 허용
+     */
+    public GuildMusicManager(AudioPlayerManager manager, AudioManager audioManager,
+                             long prefetchMillis, BiConsumer<Boolean, Duration> transitionRecorder) {
         if (manager == null) {
             throw new IllegalArgumentException("AudioPlayerManager는 null일 수 없습니다.");
         }
 
-        this.player = manager.createPlayer();
-        this.scheduler = new TrackScheduler(player, audioManager);
-        this.player.addListener(scheduler);
+        AudioPlayer player = manager.createPlayer();
+        AudioPlayer standby = prefetchMillis > 0 ? manager.createPlayer() : null;
+        this.scheduler = new TrackScheduler(player, standby, audioManager, prefetchMillis, transitionRecorder);
+        player.addListener(scheduler);
+        if (standby != null) {
+            standby.addListener(scheduler);
+        }
 
-        // AudioSendHandler 캐싱
-        this.sendHandler = new AudioPlayerSendHandler(player);
+        // AudioSendHandler 캐싱 (길드당 하나의 direct 버퍼 재사용)
+        this.sendHandler = new AudioPlayerSendHandler(scheduler,
+                ByteBuffer.allocateDirect(AudioPlayerSendHandler.FRAME_BUFFER_SIZE));
 
         String connectedChannelName = audioManager.getConnectedChannel() != null
                 ? audioManager.getConnectedChannel().getName()
                 : "연결 없음";
 
-        logger.info("GuildMusicManager 초기화됨 - AudioPlayer 상태: {}, AudioManager 채널: {}",
-                player.getPlayingTrack() != null ? "재생 중" : "대기 중", connectedChannelName);
+        logger.info("GuildMusicManager 초기화됨 - AudioPlayer 상태: {}, AudioManager 채널: {}, gapless: {}",
+                player.getPlayingTrack() != null ? "재생 중" : "대기 중", connectedChannelName, standby != null);
     }
 
     /**
-     * 오디오 플레이어를 반환합니다.
+     * 현재 오디오를 전송하고 있는 플레이어를 반환합니다.
      * 
      * @return AudioPlayer 인스턴스
      */
     public AudioPlayer getPlayer() {
-        return player;
+        return scheduler.getActivePlayer();
     }
 
     /**
@@ -84,7 +104,7 @@ public class GuildMusicManager {
      * @return 현재 재생 중인 트랙
      */
     public AudioTrack getCurrentTrack() {
-        return player.getPlayingTrack();
+        return getPlayer().getPlayingTrack();
     }
 
     /**
@@ -96,25 +116,72 @@ public class GuildMusicManager {
         return scheduler.getQueue();
     }
 
+    /**
+     * 음악 대기열의 한 페이지를 반환합니다.
+     * 
+     * @param offset 시작 위치
+     * @param limit 최대 개수
+     * @return 페이지에 해당하는 트랙 목록
+     */
+    public List<AudioTrack> getQueue(int offset, int limit) {
+        return scheduler.getQueue(offset, limit);
+    }
+
+    /**
+     * 음악 대기열의 크기를 반환합니다.
+     * 
+     * @return 대기열의 트랙 수
+     */
+    public int getQueueSize() {
+        return scheduler.getQueueSize();
+    }
+
+    /**
+     * 대기열의 지정한 위치에서 트랙을 제거합니다.
+     * 
+     * @param index 제거할 위치 (0부터 시작)
+     * @return 제거된 트랙
+     */
+    public AudioTrack removeFromQueue(int index) {
+        return scheduler.removeFromQueue(index);
+    }
+
+    /**
+     * 대기열에서 트랙의 위치를 옮깁니다.
+     * 
+     * @param from 현재 위치 (0부터 시작)
+     * @param to 이동할 위치 (0부터 시작)
+     */
+    public void moveInQueue(int from, int to) {
+        scheduler.moveInQueue(from, to);
+    }
+
+    /**
+     * 대기열을 무작위로 섞습니다.
+     */
+    public void shuffleQueue() {
+        scheduler.shuffleQueue();
+    }
+
     /**
      * 음악을 일시정지합니다.
      */
     public void pause() {
-        player.setPaused(true);
+        getPlayer().setPaused(true);
     }
 
     /**
      * 음악을 재생합니다.
      */
     public void resume() {
-        player.setPaused(false);
+        getPlayer().setPaused(false);
     }
 
     /**
      * 음악을 정지합니다.
      */
     public void stop() {
-        player.stopTrack();
+        getPlayer().stopTrack();
         scheduler.clearQueue();
         logger.info("음악 재생 중단 및 대기열 초기화");
     }
@@ -133,7 +200,7 @@ public class GuildMusicManager {
      * @return 즉시 재생되면 true, 대기열에 추가되면 false
      */
     public boolean playOrQueueTrack(AudioTrack track) {
-        if (!player.startTrack(track, true)) {
+        if (!getPlayer().startTrack(track, true)) {
             scheduler.queue(track);
             return false; // 대기열에 추가됨
         }
@@ -146,11 +213,11 @@ public class GuildMusicManager {
      * @return 일시정지 상태이면 true
      */
     public boolean isPaused() {
-        return player.isPaused();
+        return getPlayer().isPaused();
     }
 
     public String getCurrentTrackTitle() {
-        AudioTrack currentTrack = player.getPlayingTrack();
+        AudioTrack currentTrack = getPlayer().getPlayingTrack();
         return (currentTrack != null) ? currentTrack.getInfo().title : "현재 재생 중인 트랙이 없습니다.";
     }
 
@@ -158,6 +225,15 @@ public class GuildMusicManager {
         scheduler.queue(track);
     }
 
+    /**
+     * 여러 트랙을 대기열 끝에 한 번에 추가합니다.
+     * 
+     * @param tracks 추가할 트랙 목록
+     */
+    public void queueTracks(List<AudioTrack> tracks) {
+        scheduler.queueAll(tracks);
+    }
+
     public boolean skipCurrentTrack() {
         if (isPlaying()) {
             scheduler.nextTrack();
@@ -182,7 +258,7 @@ public class GuildMusicManager {
     }
 
     public boolean isPlaying() {
-        return player.getPlayingTrack() != null;
+        return getPlayer().getPlayingTrack() != null;
     }
 
     public void setPaused(boolean b) {
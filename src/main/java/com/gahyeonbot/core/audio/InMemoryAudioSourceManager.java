@@ -0,0 +1,89 @@
+package com.gahyeonbot.core.audio;
+
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerRegistry;
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+
+/**
+ * 메모리에 있는 오디오(WAV, MP3 등)를 임시 파일 없이 트랙으로 만드는 소스 매니저.
+ * 식별자로 불러올 수 있는 항목은 없으며, {@link #createTrack(String, byte[], String)}로만 트랙을 만듭니다.
+ */
+public class InMemoryAudioSourceManager implements AudioSourceManager {
+    private static final String IDENTIFIER_PREFIX = "memory:";
+
+    private final MediaContainerRegistry containerRegistry;
+
+    public InMemoryAudioSourceManager() {
+        this(MediaContainerRegistry.DEFAULT_REGISTRY);
+    }
+
+    public InMemoryAudioSourceManager(MediaContainerRegistry containerRegistry) {
+        this.containerRegistry = containerRegistry;
+    }
+
+    /**
+     * 오디오 바이트의 컨테이너를 감지하여 재생 가능한 트랙을 만듭니다.
+     *
+     * @param title 트랙 제목
+     * @param data 오디오 파일 바이트 (복사하지 않고 공유합니다)
+     * @param format 파일 확장자 힌트 (예: wav, mp3), null 허용
+     * @return 재생 가능한 트랙
+     * @throws FriendlyException 형식을 인식하지 못하거나 지원하지 않는 경우
+     */
+    public AudioTrack createTrack(String title, byte[] data, String format) {
+        AudioReference reference = new AudioReference(IDENTIFIER_PREFIX + title, title);
+        MediaContainerDetectionResult result;
+        try (ByteArraySeekableInputStream inputStream = new ByteArraySeekableInputStream(data)) {
+            result = new MediaContainerDetection(containerRegistry, reference, inputStream,
+                    MediaContainerHints.from(null, format)).detectContainer();
+        }
+        if (result == null || !result.isContainerDetected()) {
+            throw new FriendlyException("오디오 형식을 인식하지 못했습니다.", FriendlyException.Severity.COMMON, null);
+        }
+        if (!result.isSupportedFile()) {
+            throw new FriendlyException(result.getUnsupportedReason(), FriendlyException.Severity.COMMON, null);
+        }
+        return new InMemoryAudioTrack(result.getTrackInfo(), result.getContainerDescriptor(), data, this);
+    }
+
+    @Override
+    public String getSourceName() {
+        return "memory";
+    }
+
+    @Override
+    public AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
+        return null;
+    }
+
+    @Override
+    public boolean isTrackEncodable(AudioTrack track) {
+        return false;
+    }
+
+    @Override
+    public void encodeTrack(AudioTrack track, DataOutput output) {
+        // 메모리 트랙은 한 번 재생하고 버리므로 직렬화하지 않습니다. isTrackEncodable이 false라 호출되지 않습니다.
+    }
+
+    @Override
+    public AudioTrack decodeTrack(AudioTrackInfo trackInfo, DataInput input) {
+        return null;
+    }
+
+    @Override
+    public void shutdown() {
+        // 정리할 자원이 없습니다.
+    }
+}
@@ -0,0 +1,44 @@
+package com.gahyeonbot.core.audio;
+
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDescriptor;
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
+
+/**
+ * 메모리의 오디오 바이트를 재생하는 트랙.
+ * 복제본(makeClone)은 같은 바이트 배열을 공유합니다.
+ */
+public class InMemoryAudioTrack extends DelegatedAudioTrack {
+    private final MediaContainerDescriptor containerTrackFactory;
+    private final byte[] data;
+    private final InMemoryAudioSourceManager sourceManager;
+
+    InMemoryAudioTrack(AudioTrackInfo trackInfo, MediaContainerDescriptor containerTrackFactory,
+                       byte[] data, InMemoryAudioSourceManager sourceManager) {
+        super(trackInfo);
+        this.containerTrackFactory = containerTrackFactory;
+        this.data = data;
+        this.sourceManager = sourceManager;
+    }
+
+    @Override
+    public void process(LocalAudioTrackExecutor executor) throws Exception {
+        try (ByteArraySeekableInputStream inputStream = new ByteArraySeekableInputStream(data)) {
+            processDelegate((InternalAudioTrack) containerTrackFactory.createTrack(trackInfo, inputStream), executor);
+        }
+    }
+
+    @Override
+    protected AudioTrack makeShallowClone() {
+        return new InMemoryAudioTrack(trackInfo, containerTrackFactory, data, sourceManager);
+    }
+
+    @Override
+    public AudioSourceManager getSourceManager() {
+        return sourceManager;
+    }
+}
@@ -1,68 +1,414 @@
 package com.gahyeonbot.core.audio;
 
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * 음악 트랙 대기열을 관리하는 클래스.
  * 음악 트랙의 추가, 제거, 조회 기능을 제공합니다.
- * 
+ *
+ * <p>내부적으로 크기 정보를 가진 영속(persistent) AVL 트리를 사용합니다.
+ * 변경은 경로 복사로 O(log n)에 새 스냅샷을 만들고 CAS로 교체하므로,
+ * 조회는 잠금 없이 O(1)에 스냅샷을 얻을 수 있고 재생 스레드의 {@code pollTrack}도 잠금을 잡지 않습니다.</p>
+ *
  * @author GahyeonBot Team
  * @version 1.0
  */
 public class TrackQueue {
-    private final BlockingQueue<AudioTrack> queue;
+    private final AtomicReference<Snapshot> state = new AtomicReference<>(Snapshot.EMPTY);
 
     /**
-     * TrackQueue 생성자.
+     * 트랙을 대기열에 추가합니다.
+     *
+     * @param track 추가할 트랙
      */
-    public TrackQueue() {
-        this.queue = new LinkedBlockingQueue<>();
+    public void addTrack(AudioTrack track) {
+        if (track == null) return;
+        update(s -> s.with(Node.insert(s.root, s.size(), track)));
     }
 
     /**
-     * 트랙을 대기열에 추가합니다.
-     * 
-     * @param track 추가할 트랙
+     * 여러 트랙을 한 번에 대기열 끝에 추가합니다.
+     *
+     * @param tracks 추가할 트랙 목록
      */
-    public void addTrack(AudioTrack track) {
-        queue.offer(track);
+    public void addTracks(Collection<AudioTrack> tracks) {
+        if (tracks == null || tracks.isEmpty()) return;
+        List<AudioTrack> items = new ArrayList<>(tracks.size());
+        for (AudioTrack track : tracks) {
+            if (track != null) items.add(track);
+        }
+        if (items.isEmpty()) return;
+        Node appended = Node.build(items, 0, items.size());
+        update(s -> s.with(Node.concat(s.root, appended)));
+    }
+
+    /**
+     * 지정한 위치에 트랙을 삽입합니다.
+     *
+     * @param index 삽입 위치 (0 이상, 대기열 크기 이하)
+     * @param track 삽입할 트랙
+     */
+    public void insertTrack(int index, AudioTrack track) {
+        if (track == null) return;
+        update(s -> {
+            checkPosition(index, s.size());
+            return s.with(Node.insert(s.root, index, track));
+        });
+    }
+
+    /**
+     * 지정한 위치의 트랙을 제거합니다.
+     *
+     * @param index 제거할 위치
+     * @return 제거된 트랙
+     */
+    public AudioTrack removeTrack(int index) {
+        while (true) {
+            Snapshot current = state.get();
+            checkIndex(index, current.size());
+            AudioTrack removed = current.get(index);
+            if (state.compareAndSet(current, current.with(Node.remove(current.root, index)))) {
+                return removed;
+            }
+        }
+    }
+
+    /**
+     * 트랙의 위치를 옮깁니다.
+     *
+     * @param from 현재 위치
+     * @param to 이동할 위치
+     */
+    public void moveTrack(int from, int to) {
+        update(s -> {
+            checkIndex(from, s.size());
+            checkIndex(to, s.size());
+            if (from == to) return s;
+            AudioTrack track = s.get(from);
+            return s.with(Node.insert(Node.remove(s.root, from), to, track));
+        });
+    }
+
+    /**
+     * 대기열 순서를 무작위로 섞습니다.
+     */
+    public void shuffle() {
+        update(s -> {
+            if (s.size() < 2) return s;
+            List<AudioTrack> items = new ArrayList<>(s.asList());
+            Collections.shuffle(items, ThreadLocalRandom.current());
+            return s.with(Node.build(items, 0, items.size()));
+        });
     }
 
     /**
      * 대기열에서 다음 트랙을 가져옵니다.
-     * 
+     *
      * @return 다음 트랙, 대기열이 비어있으면 null
      */
     public AudioTrack pollTrack() {
-        return queue.poll();
+        while (true) {
+            Snapshot current = state.get();
+            if (current.isEmpty()) {
+                return null;
+            }
+            if (state.compareAndSet(current, current.with(Node.remove(current.root, 0)))) {
+                return current.peek();
+            }
+        }
+    }
+
+    /**
+     * 다음 트랙을 제거하지 않고 반환합니다.
+     *
+     * @return 다음 트랙, 대기열이 비어있으면 null
+     */
+    public AudioTrack peekTrack() {
+        return state.get().peek();
+    }
+
+    /**
+     * 현재 대기열의 불변 스냅샷을 반환합니다. 복사 없이 O(1)입니다.
+     *
+     * @return 대기열 스냅샷
+     */
+    public Snapshot snapshot() {
+        return state.get();
     }
 
     /**
      * 대기열의 모든 트랙을 반환합니다.
-     * 
+     * 반환되는 목록은 호출 시점 스냅샷의 읽기 전용 뷰입니다.
+     *
      * @return 트랙 목록
      */
     public List<AudioTrack> getTracks() {
-        return new ArrayList<>(queue);
+        return state.get().asList();
+    }
+
+    /**
+     * 대기열의 일부 구간을 반환합니다.
+     *
+     * @param offset 시작 위치
+     * @param limit 최대 개수
+     * @return 구간에 해당하는 트랙 목록
+     */
+    public List<AudioTrack> getTracks(int offset, int limit) {
+        return state.get().page(offset, limit);
+    }
+
+    /**
+     * 대기열 크기를 반환합니다.
+     *
+     * @return 트랙 수
+     */
+    public int size() {
+        return state.get().size();
     }
 
     /**
      * 대기열이 비어있는지 확인합니다.
-     * 
+     *
      * @return 대기열이 비어있으면 true
      */
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return state.get().isEmpty();
     }
 
     /**
      * 대기열을 초기화합니다.
      */
     public void clear() {
-        queue.clear();
+        state.set(Snapshot.EMPTY);
+    }
+
+    private void update(UnaryOperator<Snapshot> change) {
+        while (true) {
+            Snapshot current = state.get();
+            Snapshot next = change.apply(current);
+            if (next == current || state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("대기열 위치가 범위를 벗어났습니다: " + index + " (크기 " + size + ")");
+        }
+    }
+
+    private static void checkPosition(int index, int size) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("대기열 위치가 범위를 벗어났습니다: " + index + " (크기 " + size + ")");
+        }
+    }
+
+    /**
+     * 대기열의 불변 스냅샷.
+     * 크기와 첫 트랙은 생성 시점에 계산되어 O(1)로 조회됩니다.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(null);
+
+        private final Node root;
+        private final AudioTrack head;
+
+        private Snapshot(Node root) {
+            this.root = root;
+            this.head = root == null ? null : Node.get(root, 0);
+        }
+
+        private Snapshot with(Node nextRoot) {
+            return nextRoot == null ? EMPTY : new Snapshot(nextRoot);
+        }
+
+        public int size() {
+            return Node.size(root);
+        }
+
+        public boolean isEmpty() {
+            return root == null;
+        }
+
+        public AudioTrack peek() {
+            return head;
+        }
+
+        public AudioTrack get(int index) {
+            checkIndex(index, size());
+            return Node.get(root, index);
+        }
+
+        /**
+         * offset부터 최대 limit개의 트랙을 반환합니다. O(log n + limit).
+         */
+        public List<AudioTrack> page(int offset, int limit) {
+            int size = size();
+            if (offset < 0 || limit <= 0 || offset >= size) {
+                return List.of();
+            }
+            int end = (int) Math.min((long) offset + limit, size);
+            List<AudioTrack> out = new ArrayList<>(end - offset);
+            Node.collect(root, offset, end, 0, out);
+            return Collections.unmodifiableList(out);
+        }
+
+        /**
+         * 스냅샷 전체에 대한 읽기 전용 List 뷰. 복사하지 않으며 get은 O(log n)입니다.
+         */
+        public List<AudioTrack> asList() {
+            if (root == null) {
+                return List.of();
+            }
+            return new AbstractList<>() {
+                @Override
+                public AudioTrack get(int index) {
+                    return Snapshot.this.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return Snapshot.this.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * 크기 정보를 가진 불변 AVL 노드. 모든 변경은 경로 복사로 새 노드를 만듭니다.
+     */
+    private static final class Node {
+        final AudioTrack track;
+        final Node left;
+        final Node right;
+        final int height;
+        final int size;
+
+        private Node(Node left, AudioTrack track, Node right) {
+            this.left = left;
+            this.track = track;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static AudioTrack get(Node node, int index) {
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (index < leftSize) {
+                    node = node.left;
+                } else if (index == leftSize) {
+                    return node.track;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            throw new IndexOutOfBoundsException();
+        }
+
+        static Node insert(Node node, int index, AudioTrack track) {
+            if (node == null) {
+                return new Node(null, track, null);
+            }
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                return balance(insert(node.left, index, track), node.track, node.right);
+            }
+            return balance(node.left, node.track, insert(node.right, index - leftSize - 1, track));
+        }
+
+        static Node remove(Node node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return balance(remove(node.left, index), node.track, node.right);
+            }
+            if (index > leftSize) {
+                return balance(node.left, node.track, remove(node.right, index - leftSize - 1));
+            }
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            return balance(node.left, get(node.right, 0), remove(node.right, 0));
+        }
+
+        /**
+         * 두 트리를 순서대로 이어 붙입니다. O(log n).
+         */
+        static Node concat(Node left, Node right) {
+            if (left == null) return right;
+            if (right == null) return left;
+            AudioTrack middle = get(right, 0);
+            return join(left, middle, remove(right, 0));
+        }
+
+        private static Node join(Node left, AudioTrack middle, Node right) {
+            int lh = height(left);
+            int rh = height(right);
+            if (lh > rh + 1) {
+                return balance(left.left, left.track, join(left.right, middle, right));
+            }
+            if (rh > lh + 1) {
+                return balance(join(left, middle, right.left), right.track, right.right);
+            }
+            return new Node(left, middle, right);
+        }
+
+        static Node build(List<AudioTrack> items, int from, int to) {
+            if (from >= to) return null;
+            int mid = (from + to) >>> 1;
+            return new Node(build(items, from, mid), items.get(mid), build(items, mid + 1, to));
+        }
+
+        static void collect(Node node, int from, int to, int base, List<AudioTrack> out) {
+            if (node == null) return;
+            int index = base + size(node.left);
+            if (from < index) {
+                collect(node.left, from, to, base, out);
+            }
+            if (index >= from && index < to) {
+                out.add(node.track);
+            }
+            if (to > index + 1) {
+                collect(node.right, from, to, index + 1, out);
+            }
+        }
+
+        private static Node balance(Node left, AudioTrack track, Node right) {
+            int lh = height(left);
+            int rh = height(right);
+            if (lh > rh + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node(left.left, left.track, new Node(left.right, track, right));
+                }
+                Node lr = left.right;
+                return new Node(new Node(left.left, left.track, lr.left), lr.track, new Node(lr.right, track, right));
+            }
+            if (rh > lh + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node(new Node(left, track, right.left), right.track, right.right);
+                }
+                Node rl = right.left;
+                return new Node(new Node(left, track, rl.left), rl.track, new Node(rl.right, right.track, right.right));
+            }
+            return new Node(left, track, right);
+        }
     }
 }
@@ -5,25 +5,39 @@ import com.sedmelluq.discord.lavaplayer.player.AudioPlayer;
 import com.sedmelluq.discord.lavaplayer.player.event.AudioEventAdapter;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason;
+import com.sedmelluq.discord.lavaplayer.track.TrackMarker;
+import com.sedmelluq.discord.lavaplayer.track.TrackMarkerHandler.MarkerState;
 import com.gahyeonbot.services.tts.TtsTrackMetadata;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.nio.file.Files;
+import java.util.function.BiConsumer;
 
 /**
  * 음악 트랙 스케줄링을 관리하는 클래스.
  * 음악 대기열 관리, 자동 재생 전환, 트랙 종료 이벤트 처리를 담당합니다.
+ *
+ * <p>대기 플레이어(standby)가 주어지면 무음 없는 전환(gapless) 모드로 동작합니다.
+ * 현재 트랙이 끝나기 {@code prefetchMillis} 전에 다음 트랙의 복제본을 일시정지된 대기 플레이어에서 시작해
+ * 연결·프로브·디코딩을 미리 끝내 두고, 현재 트랙이 끝나면 전송 대상 플레이어만 바꿉니다.</p>
  * 
  * @author GahyeonBot Team
  * @version 1.0
  */
 public class TrackScheduler extends AudioEventAdapter {
 
-    private final AudioPlayer player;
+    private final AudioPlayer[] players;
     private final TrackQueue trackQueue; // 대기열 관리 클래스
     private final AudioManager audioManager;
+    private final long prefetchMillis;
+    private final BiConsumer<Boolean, Duration> transitionRecorder;
+
+    private volatile int active;
+    private AudioTrack prefetchSource; // 대기열에 남아 있는 원본 트랙
+    private AudioTrack prefetched;     // 대기 플레이어에서 버퍼링 중인 복제본
+    private AudioTrack discarding;     // 폐기 중인 복제본 (원본과 TTS 파일을 공유하므로 정리하지 않음)
+    private volatile long transitionStartedNanos;
+    private volatile boolean transitionGapless;
 
     /**
      * TrackScheduler 생성자.
@@ -32,9 +46,34 @@ public class TrackScheduler extends AudioEventAdapter {
      * @param audioManager Discord 오디오 매니저
      */
     public TrackScheduler(AudioPlayer player, AudioManager audioManager) {
-        this.player = player;
+        this(player, null, audioManager, 0, null);
+    }
+
+    /**
+     * 무음 없는 전환을 지원하는 TrackScheduler 생성자.
+     * 
+     * @param player 오디오 플레이어
+     * @param standby 다음 트랙을 미리 버퍼링할 대기 플레이어 (null이면 비활성화)
+     * @param audioManager Discord 오디오 매니저
+     * @param prefetchMillis 트랙 종료 몇 ms 전에 다음 트랙을 준비할지
+     * @param transitionRecorder 트랙 전환 지연 기록기 (gapless 여부, 지연 시간)
+     */
+    public TrackScheduler(AudioPlayer player, AudioPlayer standby, AudioManager audioManager,
+                          long prefetchMillis, BiConsumer<Boolean, Duration> transitionRecorder) {
+        this.players = standby == null ? new AudioPlayer[]{player} : new AudioPlayer[]{player, standby};
         this.audioManager = audioManager;
         this.trackQueue = new TrackQueue();
+        this.prefetchMillis = standby == null ? 0 : prefetchMillis;
+        this.transitionRecorder = transitionRecorder;
+    }
+
+    /**
+     * 현재 Discord로 오디오를 전송하고 있는 플레이어를 반환합니다.
+     * 
+     * @return 활성 플레이어
+     */
+    public AudioPlayer getActivePlayer() {
+        return players[active];
     }
 
     /**
@@ -43,11 +82,28 @@ public class TrackScheduler extends AudioEventAdapter {
      * @param track 추가할 트랙
      */
     public void queue(AudioTrack track) {
-        if (!player.startTrack(track, true)) {
+        if (!getActivePlayer().startTrack(track, true)) {
             trackQueue.addTrack(track);
         }
     }
 
+    /**
+     * 여러 트랙을 대기열 끝에 한 번에 추가합니다.
+     * 재생 중인 트랙이 없으면 첫 트랙을 바로 재생합니다.
+     * 
+     * @param tracks 추가할 트랙 목록
+     */
+    public void queueAll(List<AudioTrack> tracks) {
+        if (tracks == null || tracks.isEmpty()) return;
+        AudioPlayer player = getActivePlayer();
+        if (player.getPlayingTrack() == null && trackQueue.isEmpty()
+                && player.startTrack(tracks.getFirst(), true)) {
+            trackQueue.addTracks(tracks.subList(1, tracks.size()));
+            return;
+        }
+        trackQueue.addTracks(tracks);
+    }
+
     /**
      * 대기열의 모든 트랙을 반환합니다.
      * 
@@ -57,6 +113,53 @@ public class TrackScheduler extends AudioEventAdapter {
         return trackQueue.getTracks();
     }
 
+    /**
+     * 대기열의 일부 구간을 반환합니다.
+     * 
+     * @param offset 시작 위치
+     * @param limit 최대 개수
+     * @return 구간에 해당하는 트랙 목록
+     */
+    public List<AudioTrack> getQueue(int offset, int limit) {
+        return trackQueue.getTracks(offset, limit);
+    }
+
+    /**
+     * 대기열 크기를 반환합니다.
+     * 
+     * @return 대기열의 트랙 수
+     */
+    public int getQueueSize() {
+        return trackQueue.size();
+    }
+
+    /**
+     * 대기열의 지정한 위치에서 트랙을 제거합니다.
+     * 
+     * @param index 제거할 위치 (0부터 시작)
+     * @return 제거된 트랙
+     */
+    public AudioTrack removeFromQueue(int index) {
+        return trackQueue.removeTrack(index);
+    }
+
+    /**
+     * 대기열에서 트랙의 위치를 옮깁니다.
+     * 
+     * @param from 현재 위치 (0부터 시작)
+     * @param to 이동할 위치 (0부터 시작)
+     */
+    public void moveInQueue(int from, int to) {
+        trackQueue.moveTrack(from, to);
+    }
+
+    /**
+     * 대기열을 무작위로 섞습니다.
+     */
+    public void shuffleQueue() {
+        trackQueue.shuffle();
+    }
+
     /**
      * 대기열이 비어있는지 확인합니다.
      * 
@@ -74,12 +177,23 @@ public class TrackScheduler extends AudioEventAdapter {
     }
 
     private void nextTrack(boolean closeWhenEmpty) {
+        AudioPlayer previous = getActivePlayer();
         AudioTrack nextTrack = trackQueue.pollTrack();
-        if (nextTrack != null) {
-            player.startTrack(nextTrack, false);
-        } else if (closeWhenEmpty) {
-            closeConnection();
+        if (nextTrack == null) {
+            discardPrefetch();
+            if (closeWhenEmpty) {
+                closeConnection();
+            }
+            return;
+        }
+        transitionStartedNanos = System.nanoTime();
+        if (handOver(nextTrack)) {
+            transitionGapless = true;
+            previous.stopTrack();
+            return;
         }
+        transitionGapless = false;
+        getActivePlayer().startTrack(nextTrack, false);
     }
 
     /**
@@ -87,6 +201,84 @@ public class TrackScheduler extends AudioEventAdapter {
      */
     public void clearQueue() {
         trackQueue.clear();
+        discardPrefetch();
+    }
+
+    /**
+     * 활성 플레이어가 프레임을 전송할 때 호출됩니다. 트랙 전환 후 첫 프레임이면 전환 지연을 기록합니다.
+     */
+    void onFrameProvided() {
+        long started = transitionStartedNanos;
+        if (started == 0) return;
+        transitionStartedNanos = 0;
+        if (transitionRecorder != null) {
+            transitionRecorder.accept(transitionGapless, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    /**
+     * 대기 플레이어에서 준비된 복제본이 대기열의 다음 트랙과 같으면 활성 플레이어를 교체합니다.
+     */
+    private synchronized boolean handOver(AudioTrack nextTrack) {
+        AudioTrack ready = prefetched;
+        boolean matches = ready != null && prefetchSource == nextTrack;
+        prefetched = null;
+        prefetchSource = null;
+        if (ready == null) {
+            return false;
+        }
+        AudioPlayer standby = players[1 - active];
+        if (!matches || standby.getPlayingTrack() != ready) {
+            stopDiscarded(standby, ready);
+            return false;
+        }
+        boolean paused = players[active].isPaused();
+        active = 1 - active;
+        standby.setPaused(paused);
+        onActiveTrackStart(ready);
+        return true;
+    }
+
+    private synchronized void prefetchNext(AudioTrack current) {
+        if (prefetched != null || getActivePlayer().getPlayingTrack() != current) return;
+        AudioTrack next = trackQueue.peekTrack();
+        if (next == null) return;
+        AudioTrack clone = next.makeClone();
+        clone.setUserData(next.getUserData());
+        AudioPlayer standby = players[1 - active];
+        standby.setPaused(true);
+        if (standby.startTrack(clone, false)) {
+            prefetchSource = next;
+            prefetched = clone;
+        }
+    }
+
+    private synchronized void discardPrefetch() {
+        AudioTrack ready = prefetched;
+        if (ready == null) return;
+        prefetched = null;
+        prefetchSource = null;
+        stopDiscarded(players[1 - active], ready);
+    }
+
+    private void stopDiscarded(AudioPlayer standby, AudioTrack clone) {
+        discarding = clone;
+        try {
+            standby.stopTrack();
+        } finally {
+            discarding = null;
+        }
+    }
+
+    private void armPrefetch(AudioTrack track) {
+        if (prefetchMillis <= 0 || track == null || track.getInfo().isStream) return;
+        long duration = track.getDuration();
+        if (duration == Long.MAX_VALUE || duration <= prefetchMillis * 2) return;
+        track.setMarker(new TrackMarker(duration - prefetchMillis, state -> {
+            if (state == MarkerState.REACHED || state == MarkerState.LATE) {
+                prefetchNext(track);
+            }
+        }));
     }
 
     /**
@@ -99,8 +291,26 @@ public class TrackScheduler extends AudioEventAdapter {
         }
     }
 
+    @Override
+    public void onTrackStart(AudioPlayer player, AudioTrack track) {
+        if (player == getActivePlayer()) {
+            onActiveTrackStart(track);
+        }
+    }
+
+    /**
+     * 트랙이 활성 플레이어에서 재생을 시작했을 때 호출됩니다. 무음 없는 전환으로 넘겨받은 트랙도 포함합니다.
+     */
+    private void onActiveTrackStart(AudioTrack track) {
+        armPrefetch(track);
+        if (track.getUserData() instanceof TtsTrackMetadata meta && meta.listener() != null) {
+            meta.listener().segmentStarted();
+        }
+    }
+
     /**
      * 트랙 종료 이벤트를 처리합니다.
+     * 대기 플레이어의 이벤트(미리 준비한 트랙의 폐기 등)는 무시합니다.
      * 
      * @param player 오디오 플레이어
      * @param track 종료된 트랙
@@ -108,25 +318,34 @@ public class TrackScheduler extends AudioEventAdapter {
      */
     @Override
     public void onTrackEnd(AudioPlayer player, AudioTrack track, AudioTrackEndReason endReason) {
-        cleanupIfTts(track);
+        if (player != getActivePlayer()) {
+            synchronized (this) {
+                if (track == discarding) return;
+                if (track == prefetched) {
+                    // 미리 준비하던 복제본이 로드에 실패하면 원본은 전환 시점에 일반 방식으로 재생됩니다.
+                    prefetched = null;
+                    prefetchSource = null;
+                    return;
+                }
+            }
+            // 전환 직후 이전 플레이어에서 정지된 트랙
+            endTtsSegment(track);
+            return;
+        }
+        endTtsSegment(track);
         boolean keepConnection = track != null
                 && track.getUserData() instanceof TtsTrackMetadata meta
                 && meta.keepConnection();
         if (!endReason.mayStartNext) {
             System.out.println("트랙 종료: " + track.getInfo().title + " (이유: " + endReason + ")");
+            return;
         }
         nextTrack(!keepConnection);
     }
 
-    private void cleanupIfTts(AudioTrack track) {
-        if (track == null) return;
-        Object data = track.getUserData();
-        if (data instanceof TtsTrackMetadata meta && meta.deleteOnEnd() && meta.wavPath() != null) {
-            try {
-                Files.deleteIfExists(meta.wavPath());
-            } catch (Exception ignored) {
-                // Best-effort cleanup.
-            }
+    private void endTtsSegment(AudioTrack track) {
+        if (track != null && track.getUserData() instanceof TtsTrackMetadata meta && meta.listener() != null) {
+            meta.listener().segmentEnded();
         }
     }
 }
@@ -1,6 +1,6 @@
 package com.gahyeonbot.listeners;
 
-import com.gahyeonbot.services.assistant.GuildAssistantChannelsService;
+import com.gahyeonbot.services.assistant.GuildAssistantChannelIndex;
 import com.gahyeonbot.services.assistant.VoiceAssistantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,20 +14,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Component
 public class AssistantVoiceChannelListener extends ListenerAdapter {
-    private final GuildAssistantChannelsService channelsService;
+    private final GuildAssistantChannelIndex channelIndex;
     private final VoiceAssistantService voiceAssistantService;
 
     @Override
     public void onGuildVoiceUpdate(@NotNull GuildVoiceUpdateEvent event) {
         if (event.getMember().getUser().isBot()) return;
-        var configured = channelsService.find(event.getGuild().getIdLong()).orElse(null);
-        if (configured == null) return;
+        long guildId = event.getGuild().getIdLong();
+        long voiceChannelId = channelIndex.voiceChannelId(guildId);
+        if (voiceChannelId == 0) return;
 
         AudioChannel joined = event.getChannelJoined();
-        if (joined != null && joined.getIdLong() == configured.getVoiceChannelId()) {
-            var textChannel = event.getGuild().getTextChannelById(configured.getTextChannelId());
+        if (joined != null && joined.getIdLong() == voiceChannelId) {
+            var textChannel = event.getGuild().getTextChannelById(channelIndex.textChannelId(guildId));
             if (textChannel == null) {
-                log.warn("자동 음성 비서 시작 실패: 전용 채팅 채널 없음 guild={}", event.getGuild().getIdLong());
+                log.warn("자동 음성 비서 시작 실패: 전용 채팅 채널 없음 guild={}", guildId);
                 return;
             }
             var result = voiceAssistantService.start(event.getGuild(), event.getMember(), textChannel);
@@ -36,7 +37,7 @@ public class AssistantVoiceChannelListener extends ListenerAdapter {
         }
 
         AudioChannel left = event.getChannelLeft();
-        if (left != null && left.getIdLong() == configured.getVoiceChannelId()) {
+        if (left != null && left.getIdLong() == voiceChannelId) {
             boolean stoppedWithOwner = voiceAssistantService.stopWhenOwnerLeaves(
                     event.getGuild(), event.getMember().getIdLong(), left.getIdLong());
             if (!stoppedWithOwner
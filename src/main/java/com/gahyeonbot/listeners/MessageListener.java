@@ -2,7 +2,7 @@ package com.gahyeonbot.listeners;
 
 import com.gahyeonbot.services.ai.OpenAiService;
 import com.gahyeonbot.services.ai.agent.AgentApprovalRequiredException;
-import com.gahyeonbot.services.assistant.GuildAssistantChannelsService;
+import com.gahyeonbot.services.assistant.GuildAssistantChannelIndex;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
@@ -10,26 +10,29 @@ import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 @Slf4j
 @Component
 public class MessageListener extends ListenerAdapter {
-    private final GuildAssistantChannelsService channelsService;
+    /** Discord 메시지 수정 제한(채널당 5초에 5회) 안에서 여유를 둔 간격. */
+    private static final Duration EDIT_INTERVAL = Duration.ofMillis(1200);
+
+    private final GuildAssistantChannelIndex channelIndex;
     private final OpenAiService openAiService;
     private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
 
-    public MessageListener(GuildAssistantChannelsService channelsService, OpenAiService openAiService) {
-        this.channelsService = channelsService;
+    public MessageListener(GuildAssistantChannelIndex channelIndex, OpenAiService openAiService) {
+        this.channelIndex = channelIndex;
         this.openAiService = openAiService;
     }
 
     @Override
     public void onMessageReceived(@NotNull MessageReceivedEvent event) {
         if (!event.isFromGuild() || event.getAuthor().isBot() || event.isWebhookMessage()) return;
-        var configured = channelsService.find(event.getGuild().getIdLong()).orElse(null);
-        if (configured == null || configured.getTextChannelId() != event.getChannel().getIdLong()) return;
+        if (!channelIndex.isTextChannel(event.getGuild().getIdLong(), event.getChannel().getIdLong())) return;
 
         String question = event.getMessage().getContentRaw().trim();
         if (question.isEmpty()) return;
@@ -41,6 +44,7 @@ public class MessageListener extends ListenerAdapter {
     }
 
     private void answer(MessageReceivedEvent event, String question) {
+        StreamingReply reply = new StreamingReply(event.getChannel(), EDIT_INTERVAL);
         try {
             event.getChannel().sendTyping().queue();
             String response = openAiService.chat(
@@ -48,28 +52,22 @@ public class MessageListener extends ListenerAdapter {
                     event.getAuthor().getIdLong(),
                     event.getAuthor().getName(),
                     event.getGuild().getIdLong(),
-                    question);
+                    question,
+                    reply);
             if (response == null || response.isBlank()) {
-                event.getChannel().sendMessage("AI 응답을 받지 못했습니다. 잠시 후 다시 시도해 주세요.").queue();
+                reply.fail("AI 응답을 받지 못했습니다. 잠시 후 다시 시도해 주세요.");
                 return;
             }
-            sendChunks(event, response);
+            reply.complete(response);
         } catch (AgentApprovalRequiredException e) {
-            event.getChannel().sendMessage("도구 실행 승인이 필요해요. `/에이전트`에서 확인해 주세요. run: `"
-                    + e.getRunId() + "`").queue();
+            reply.fail("도구 실행 승인이 필요해요. `/에이전트`에서 확인해 주세요. run: `"
+                    + e.getRunId() + "`");
         } catch (OpenAiService.RateLimitException | OpenAiService.AdversarialPromptException e) {
-            event.getChannel().sendMessage("⚠️ " + e.getMessage()).queue();
+            reply.fail("⚠️ " + e.getMessage());
         } catch (Exception e) {
             log.error("전용 채팅 채널 AI 응답 실패 guild={} user={}",
                     event.getGuild().getIdLong(), event.getAuthor().getIdLong(), e);
-            event.getChannel().sendMessage("처리 중 문제가 발생했습니다. 잠시 후 다시 시도해 주세요.").queue();
-        }
-    }
-
-    private void sendChunks(MessageReceivedEvent event, String response) {
-        for (int start = 0; start < response.length(); start += 1900) {
-            event.getChannel().sendMessage(
-                    response.substring(start, Math.min(start + 1900, response.length()))).queue();
+            reply.fail("처리 중 문제가 발생했습니다. 잠시 후 다시 시도해 주세요.");
         }
     }
 
@@ -0,0 +1,125 @@
+package com.gahyeonbot.listeners;
+
+import com.gahyeonbot.services.ai.agent.AgentStreamListener;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스트리밍 중인 에이전트 답변을 메시지 하나로 보여주는 응답기.
+ * 첫 텍스트가 오면 메시지를 보내고, 이후에는 최소 간격을 두고 직전 수정이 끝난 경우에만 수정하여
+ * 중간 텍스트를 합칩니다. 완성된 답변은 {@link #complete(String)}로 확정하며, 길면 나머지를 새 메시지로 보냅니다.
+ */
+final class StreamingReply implements AgentStreamListener {
+    static final int MESSAGE_LIMIT = 1900;
+    private static final String PLACEHOLDER = "…";
+
+    private final MessageChannel channel;
+    private final long minEditIntervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private CompletableFuture<Message> message;
+    private CompletableFuture<?> lastEdit;
+    private String shown = "";
+    private long lastEditNanos;
+
+    StreamingReply(MessageChannel channel, Duration minEditInterval) {
+        this.channel = channel;
+        this.minEditIntervalNanos = minEditInterval.toNanos();
+    }
+
+    @Override
+    public void onPartial(String text) {
+        if (text == null || text.isBlank()) return;
+        lock.lock();
+        try {
+            show(preview(text), false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onReset() {
+        lock.lock();
+        try {
+            if (message != null) show(PLACEHOLDER, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최종 답변으로 메시지를 확정합니다. 스트리밍된 메시지가 없으면 새로 보냅니다.
+     */
+    void complete(String response) {
+        List<String> chunks = chunks(response);
+        if (chunks.isEmpty()) return;
+        lock.lock();
+        try {
+            if (message == null) {
+                chunks.forEach(chunk -> channel.sendMessage(chunk).queue());
+                return;
+            }
+            show(chunks.get(0), true);
+            CompletableFuture<?> tail = lastEdit;
+            for (String chunk : chunks.subList(1, chunks.size())) {
+                tail = tail.handle((ignored, failure) -> null)
+                        .thenCompose(ignored -> channel.sendMessage(chunk).submit());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패 안내로 메시지를 바꿉니다. 스트리밍된 메시지가 없으면 새로 보냅니다.
+     */
+    void fail(String notice) {
+        lock.lock();
+        try {
+            if (message == null) {
+                channel.sendMessage(notice).queue();
+            } else {
+                show(notice, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void show(String content, boolean force) {
+        long now = System.nanoTime();
+        if (message == null) {
+            message = channel.sendMessage(content).submit();
+            lastEdit = message;
+            shown = content;
+            lastEditNanos = now;
+            return;
+        }
+        if (content.equals(shown)) return;
+        if (!force && (now - lastEditNanos < minEditIntervalNanos || !lastEdit.isDone())) return;
+        shown = content;
+        lastEditNanos = now;
+        // 직전 수정이 끝난 뒤에 보내야 Discord에서 순서가 뒤바뀌지 않습니다.
+        lastEdit = lastEdit.handle((ignored, failure) -> null)
+                .thenCompose(ignored -> message)
+                .thenCompose(sent -> sent.editMessage(content).submit());
+    }
+
+    private static String preview(String text) {
+        return text.length() <= MESSAGE_LIMIT ? text : text.substring(0, MESSAGE_LIMIT - 1) + "…";
+    }
+
+    static List<String> chunks(String response) {
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < response.length(); start += MESSAGE_LIMIT) {
+            chunks.add(response.substring(start, Math.min(start + MESSAGE_LIMIT, response.length())));
+        }
+        return chunks;
+    }
+}
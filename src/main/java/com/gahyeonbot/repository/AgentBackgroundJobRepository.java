@@ -3,18 +3,24 @@ package com.gahyeonbot.repository;
 import com.gahyeonbot.entity.AgentBackgroundJob;
 import com.gahyeonbot.services.ai.agent.AgentBackgroundJobStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.List;
 
 public interface AgentBackgroundJobRepository extends JpaRepository<AgentBackgroundJob, String> {
+    /**
+     * 실행할 때가 된 작업을 잠그고 가져옵니다.
+     * 다른 워커가 잠근 행은 기다리지 않고 건너뛰어(PostgreSQL {@code FOR UPDATE SKIP LOCKED}) 워커끼리 서로 막지 않습니다.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<AgentBackgroundJob>
-    findFirstByStatusAndAvailableAtLessThanEqualOrderByAvailableAtAsc(
-            AgentBackgroundJobStatus status, LocalDateTime now);
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<AgentBackgroundJob> findByStatusAndAvailableAtLessThanEqualOrderByAvailableAtAsc(
+            AgentBackgroundJobStatus status, LocalDateTime now, Pageable pageable);
 
     List<AgentBackgroundJob> findByStatusAndLockedAtBefore(
             AgentBackgroundJobStatus status, LocalDateTime cutoff);
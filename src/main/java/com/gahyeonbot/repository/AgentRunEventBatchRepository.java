@@ -0,0 +1,13 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.AgentRunEvent;
+
+import java.util.List;
+
+public interface AgentRunEventBatchRepository {
+    /**
+     * 이벤트들을 JDBC 배치 한 번으로 삽입합니다.
+     * IDENTITY 키 때문에 JPA saveAll은 행마다 INSERT를 보내므로, 버퍼링된 이벤트 저장에 사용합니다.
+     */
+    void insertAll(List<AgentRunEvent> events);
+}
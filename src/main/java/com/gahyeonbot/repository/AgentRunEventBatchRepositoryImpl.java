@@ -0,0 +1,32 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.AgentRunEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+class AgentRunEventBatchRepositoryImpl implements AgentRunEventBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO agent_run_events (run_id, sequence, event_type, step, tool_name, payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AgentRunEvent> events) {
+        if (events.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.getRun().getId());
+            statement.setLong(2, event.getSequence());
+            statement.setString(3, event.getEventType().name());
+            statement.setInt(4, event.getStep());
+            statement.setString(5, event.getToolName());
+            statement.setString(6, event.getPayload());
+            statement.setTimestamp(7, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
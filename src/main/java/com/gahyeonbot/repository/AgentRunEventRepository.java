@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
-public interface AgentRunEventRepository extends JpaRepository<AgentRunEvent, Long> {
+public interface AgentRunEventRepository
+        extends JpaRepository<AgentRunEvent, Long>, AgentRunEventBatchRepository {
     List<AgentRunEvent> findByRunIdOrderBySequenceAsc(String runId);
 }
@@ -0,0 +1,50 @@
+package com.gahyeonbot.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 인스턴스(blue/green)가 함께 쓰는 PostgreSQL 토큰 버킷.
+ * 토큰 충전과 차감을 UPDATE 한 문장으로 처리하므로 행 잠금 외의 조정이 필요 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiRateLimitBucketRepository {
+    private static final String ENSURE_SQL = """
+            INSERT INTO ai_rate_limit_buckets (bucket_key, tokens, capacity, refill_per_second, updated_at)
+            VALUES (?, ?, ?, ?, LOCALTIMESTAMP)
+            ON CONFLICT (bucket_key) DO UPDATE
+            SET capacity = EXCLUDED.capacity, refill_per_second = EXCLUDED.refill_per_second
+            """;
+    private static final String TAKE_SQL = """
+            UPDATE ai_rate_limit_buckets
+            SET tokens = LEAST(capacity, tokens + EXTRACT(EPOCH FROM (LOCALTIMESTAMP - updated_at)) * refill_per_second) - 1,
+                updated_at = LOCALTIMESTAMP
+            WHERE bucket_key = ?
+              AND LEAST(capacity, tokens + EXTRACT(EPOCH FROM (LOCALTIMESTAMP - updated_at)) * refill_per_second) >= 1
+            """;
+    private static final String REFUND_SQL = """
+            UPDATE ai_rate_limit_buckets SET tokens = LEAST(capacity, tokens + 1) WHERE bucket_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버킷이 없으면 {@code initialTokens}로 만들고, 있으면 용량과 충전 속도만 갱신합니다.
+     */
+    public void ensure(String key, double initialTokens, double capacity, double refillPerSecond) {
+        jdbcTemplate.update(ENSURE_SQL, key, initialTokens, capacity, refillPerSecond);
+    }
+
+    /**
+     * @return 토큰 하나를 차감했으면 true
+     */
+    public boolean tryTake(String key) {
+        return jdbcTemplate.update(TAKE_SQL, key) == 1;
+    }
+
+    public void refund(String key) {
+        jdbcTemplate.update(REFUND_SQL, key);
+    }
+}
@@ -17,7 +17,8 @@ import java.util.List;
  * @version 1.0
  */
 @Repository
-public interface ConversationHistoryRepository extends JpaRepository<ConversationHistory, Long> {
+public interface ConversationHistoryRepository
+        extends JpaRepository<ConversationHistory, Long>, ConversationSummaryBatchRepository {
 
     /**
      * 사용자의 최근 N건 대화 조회 (최신순)
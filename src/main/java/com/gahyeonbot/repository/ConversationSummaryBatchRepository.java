@@ -0,0 +1,15 @@
+package com.gahyeonbot.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface ConversationSummaryBatchRepository {
+    /**
+     * 대화별 요약을 JDBC 배치 한 번으로 기록합니다.
+     * 이미 요약된 행은 건너뛰므로 같은 대화를 두 번 요약해도 먼저 쓴 요약이 유지됩니다.
+     *
+     * @param summaries 대화 ID별 요약
+     * @return 실제로 기록된 대화 ID
+     */
+    Set<Long> markSummarized(Map<Long, String> summaries);
+}
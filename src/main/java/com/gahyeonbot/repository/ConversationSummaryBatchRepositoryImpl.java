@@ -0,0 +1,40 @@
+package com.gahyeonbot.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+class ConversationSummaryBatchRepositoryImpl implements ConversationSummaryBatchRepository {
+    private static final String UPDATE_SQL = """
+            UPDATE conversation_history SET summary = ?, summarized = true
+            WHERE id = ? AND summarized = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<Long> markSummarized(Map<Long, String> summaries) {
+        if (summaries.isEmpty()) return Set.of();
+        List<Map.Entry<Long, String>> rows = new ArrayList<>(summaries.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.getValue());
+            statement.setLong(2, row.getKey());
+        });
+        Set<Long> updated = new HashSet<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 기록된 것으로 봅니다.
+                if (count != 0) updated.add(rows.get(index).getKey());
+                index++;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.DmDeliveryLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DmDeliveryLogBatchRepository {
+    /**
+     * 발송 전 로그를 JDBC 배치 한 번으로 선점합니다.
+     * 같은 dedupe key가 이미 있으면 전송 실패(FAILED_SEND)와 {@code staleBefore}보다 오래된 선점(RECEIVED)만
+     * 다시 선점하고 나머지는 건너뜁니다. 그보다 새 선점은 다른 인스턴스가 보내는 중일 수 있습니다.
+     *
+     * @param logs 선점할 발송 로그
+     * @param staleBefore 이 시각 이전에 선점하고 결과가 없는 행은 버려진 것으로 봅니다
+     * @return 실제로 기록된 발송 로그
+     */
+    List<DmDeliveryLog> reserveAll(List<DmDeliveryLog> logs, LocalDateTime staleBefore);
+
+    /**
+     * 발송 결과(상태, 실패 사유, 시도 시각)를 dedupe key 기준으로 JDBC 배치 한 번에 기록합니다.
+     *
+     * @param logs 결과를 채운 발송 로그
+     */
+    void updateResults(List<DmDeliveryLog> logs);
+}
@@ -0,0 +1,63 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.DmDeliveryLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class DmDeliveryLogBatchRepositoryImpl implements DmDeliveryLogBatchRepository {
+    private static final String RESERVE_SQL = """
+            INSERT INTO dm_delivery_log (run_id, dedupe_key, user_id, content_hash, status, attempted_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (dedupe_key) DO UPDATE SET status = EXCLUDED.status, error_message = NULL,
+                                                   attempted_at = EXCLUDED.attempted_at
+            WHERE dm_delivery_log.status = 'FAILED_SEND'
+               OR (dm_delivery_log.status = 'RECEIVED' AND dm_delivery_log.attempted_at < ?)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE dm_delivery_log SET status = ?, error_message = ?, attempted_at = ?
+            WHERE dedupe_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DmDeliveryLog> reserveAll(List<DmDeliveryLog> logs, LocalDateTime staleBefore) {
+        if (logs.isEmpty()) return List.of();
+        int[][] counts = jdbcTemplate.batchUpdate(RESERVE_SQL, logs, logs.size(), (statement, row) -> {
+            statement.setString(1, row.getRunId());
+            statement.setString(2, row.getDedupeKey());
+            statement.setLong(3, row.getUserId());
+            statement.setString(4, row.getContentHash());
+            statement.setString(5, row.getStatus());
+            statement.setTimestamp(6, Timestamp.valueOf(row.getAttemptedAt()));
+            statement.setTimestamp(7, Timestamp.valueOf(staleBefore));
+        });
+        List<DmDeliveryLog> reserved = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 기록된 것으로 봅니다.
+                if (count != 0) reserved.add(logs.get(index));
+                index++;
+            }
+        }
+        return reserved;
+    }
+
+    @Override
+    public void updateResults(List<DmDeliveryLog> logs) {
+        if (logs.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_SQL, logs, logs.size(), (statement, row) -> {
+            statement.setString(1, row.getStatus());
+            statement.setString(2, row.getErrorMessage());
+            statement.setTimestamp(3, Timestamp.valueOf(row.getAttemptedAt()));
+            statement.setString(4, row.getDedupeKey());
+        });
+    }
+}
@@ -2,9 +2,23 @@ package com.gahyeonbot.repository;
 
 import com.gahyeonbot.entity.DmDeliveryLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Set;
+
 @Repository
-public interface DmDeliveryLogRepository extends JpaRepository<DmDeliveryLog, Long> {
+public interface DmDeliveryLogRepository extends JpaRepository<DmDeliveryLog, Long>, DmDeliveryLogBatchRepository {
     boolean existsByDedupeKey(String dedupeKey);
+
+    /**
+     * 한 실행에서 처리가 끝난 dedupe key. 선점만 하고 결과가 없는 행(RECEIVED)과 전송 실패(FAILED_SEND)는
+     * 빠지므로, 재시작한 캠페인은 이 키만 건너뛰고 나머지를 다시 보냅니다.
+     */
+    @Query("""
+            SELECT d.dedupeKey FROM DmDeliveryLog d
+            WHERE d.runId = :runId AND d.status NOT IN ('RECEIVED', 'FAILED_SEND')
+            """)
+    Set<String> findDoneDedupeKeysByRunId(@Param("runId") String runId);
 }
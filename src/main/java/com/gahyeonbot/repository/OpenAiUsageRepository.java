@@ -67,4 +67,13 @@ public interface OpenAiUsageRepository extends JpaRepository<OpenAiUsage, Long>
      */
     @Query("SELECT COUNT(u) FROM OpenAiUsage u WHERE u.createdAt >= :monthStart AND u.success = true")
     long countMonthlyUsage(@Param("monthStart") LocalDateTime monthStart);
+
+    /**
+     * 특정 시간 이후 성공한 요청의 사용자 ID와 시각 조회 (메모리 Rate Limit 재구성용)
+     *
+     * @param since 시작 시간
+     * @return [userId, createdAt] 리스트
+     */
+    @Query("SELECT u.userId, u.createdAt FROM OpenAiUsage u WHERE u.createdAt >= :since AND u.success = true")
+    List<Object[]> findSuccessfulUsageSince(@Param("since") LocalDateTime since);
 }
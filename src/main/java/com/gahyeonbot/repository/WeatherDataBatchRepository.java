@@ -0,0 +1,14 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.WeatherData;
+
+import java.util.List;
+
+public interface WeatherDataBatchRepository {
+    /**
+     * 현재 날씨 행들을 JDBC 배치 한 번으로 추가합니다.
+     *
+     * @param rows 추가할 날씨 데이터
+     */
+    void insertAll(List<WeatherData> rows);
+}
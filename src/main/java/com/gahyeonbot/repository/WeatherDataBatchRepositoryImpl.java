@@ -0,0 +1,36 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.WeatherData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+class WeatherDataBatchRepositoryImpl implements WeatherDataBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO weather_data (city, city_name, country, temperature, precipitation, wind_speed,
+                                      precipitation_probability, weather_description, fetched_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<WeatherData> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.getCity());
+            statement.setString(2, row.getCityName());
+            statement.setString(3, row.getCountry());
+            statement.setDouble(4, row.getTemperature());
+            statement.setDouble(5, row.getPrecipitation());
+            statement.setDouble(6, row.getWindSpeed());
+            statement.setObject(7, row.getPrecipitationProbability(), Types.INTEGER);
+            statement.setString(8, row.getWeatherDescription());
+            statement.setTimestamp(9, Timestamp.valueOf(row.getFetchedAt()));
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.WeatherForecast;
+
+import java.util.List;
+
+public interface WeatherForecastBatchRepository {
+    /**
+     * 예보 행들을 JDBC 배치 한 번으로 추가합니다. 예보 히스토리는 덮어쓰지 않고 계속 쌓습니다.
+     *
+     * @param rows 추가할 예보
+     */
+    void insertAll(List<WeatherForecast> rows);
+}
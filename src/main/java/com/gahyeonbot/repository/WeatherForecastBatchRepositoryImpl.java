@@ -0,0 +1,37 @@
+package com.gahyeonbot.repository;
+
+import com.gahyeonbot.entity.WeatherForecast;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+class WeatherForecastBatchRepositoryImpl implements WeatherForecastBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO weather_forecast (city, city_name, country, forecast_date, temp_max, temp_min,
+                                          precipitation_probability, weather_description, fetched_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<WeatherForecast> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.getCity());
+            statement.setString(2, row.getCityName());
+            statement.setString(3, row.getCountry());
+            statement.setDate(4, Date.valueOf(row.getForecastDate()));
+            statement.setDouble(5, row.getTempMax());
+            statement.setDouble(6, row.getTempMin());
+            statement.setObject(7, row.getPrecipitationProbability(), Types.INTEGER);
+            statement.setString(8, row.getWeatherDescription());
+            statement.setTimestamp(9, Timestamp.valueOf(row.getFetchedAt()));
+        });
+    }
+}
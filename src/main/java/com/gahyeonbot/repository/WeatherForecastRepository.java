@@ -19,7 +19,8 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface WeatherForecastRepository extends JpaRepository<WeatherForecast, Long> {
+public interface WeatherForecastRepository
+        extends JpaRepository<WeatherForecast, Long>, WeatherForecastBatchRepository {
 
     /**
      * 특정 도시, 특정 날짜의 가장 최신 예보 조회
@@ -69,6 +70,32 @@ public interface WeatherForecastRepository extends JpaRepository<WeatherForecast
             """, nativeQuery = true)
     List<WeatherForecast> findLatestForecastsForDate(@Param("date") LocalDate date);
 
+    /**
+     * 모든 도시의 기간 내 날짜별 최신 예보 조회 (도시·날짜별 최신 1건씩)
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (city, forecast_date) *
+            FROM weather_forecast
+            WHERE forecast_date BETWEEN :startDate AND :endDate
+            ORDER BY city, forecast_date, fetched_at DESC
+            """, nativeQuery = true)
+    List<WeatherForecast> findLatestForecastsBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 모든 도시의 기간 내 날짜별 첫 예보 조회 (도시·날짜별 최초 1건씩)
+     */
+    @Query(value = """
+            SELECT DISTINCT ON (city, forecast_date) *
+            FROM weather_forecast
+            WHERE forecast_date BETWEEN :startDate AND :endDate
+            ORDER BY city, forecast_date, fetched_at ASC
+            """, nativeQuery = true)
+    List<WeatherForecast> findFirstForecastsBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * 오래된 예보 히스토리 정리 (30일 이상 지난 예보 대상 날짜)
      */
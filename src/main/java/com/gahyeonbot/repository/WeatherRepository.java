@@ -16,7 +16,8 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface WeatherRepository extends JpaRepository<WeatherData, Long> {
+public interface WeatherRepository
+        extends JpaRepository<WeatherData, Long>, WeatherDataBatchRepository {
 
     /**
      * 특정 도시의 가장 최근 날씨 데이터 조회
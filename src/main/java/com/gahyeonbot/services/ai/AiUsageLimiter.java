@@ -0,0 +1,299 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.repository.AiRateLimitBucketRepository;
+import com.gahyeonbot.repository.OpenAiUsageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 텍스트 AI 요청의 Rate Limit 카운터.
+ * 사용자별·전체 성공 요청 시각을 최근 24시간만큼 메모리에 슬라이딩 윈도우로 보관해, 요청마다 COUNT 쿼리를 보내지 않습니다.
+ * 시작 시 DB 사용 내역으로 다시 채우며, 중복 질문은 프롬프트 전문 대신 SHA-256 해시로 비교합니다.
+ * PostgreSQL이면 봇 전체 하루 한도를 {@link AiRateLimitBucketRepository} 토큰 버킷으로도 관리해
+ * blue/green 배포 중 두 인스턴스가 동시에 떠 있어도 한도를 함께 씁니다.
+ */
+@Slf4j
+@Component
+public class AiUsageLimiter {
+    static final String DAILY_TOTAL_BUCKET = "openai:daily-total";
+    private static final long WINDOW_MILLIS = Duration.ofDays(1).toMillis();
+    private static final long PROMPT_RETENTION_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final int LOCK_STRIPES = 64;
+
+    private final OpenAiUsageRepository usageRepository;
+    private final AiRateLimitBucketRepository bucketRepository;
+    private final DataSource dataSource;
+    private final boolean sharedBucketEnabled;
+    private final Clock clock;
+
+    private final Map<Long, UserWindow> users = new ConcurrentHashMap<>();
+    private final ArrayDeque<Long> dailyTotal = new ArrayDeque<>();
+    private final Lock[] userLocks = new Lock[LOCK_STRIPES];
+    private YearMonth month;
+    private long monthlyCount;
+    private volatile boolean sharedBucket;
+
+    @Autowired
+    public AiUsageLimiter(
+            OpenAiUsageRepository usageRepository,
+            AiRateLimitBucketRepository bucketRepository,
+            DataSource dataSource,
+            @Value("${ai.rate-limit.shared-bucket:true}") boolean sharedBucketEnabled) {
+        this(usageRepository, bucketRepository, dataSource, sharedBucketEnabled, Clock.systemDefaultZone());
+    }
+
+    AiUsageLimiter(
+            OpenAiUsageRepository usageRepository,
+            AiRateLimitBucketRepository bucketRepository,
+            DataSource dataSource,
+            boolean sharedBucketEnabled,
+            Clock clock) {
+        this.usageRepository = usageRepository;
+        this.bucketRepository = bucketRepository;
+        this.dataSource = dataSource;
+        this.sharedBucketEnabled = sharedBucketEnabled;
+        this.clock = clock;
+        this.month = YearMonth.now(clock);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            userLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 최근 24시간 성공 내역과 이번 달 사용량을 DB에서 읽어 카운터를 다시 채웁니다.
+     */
+    @PostConstruct
+    void rebuild() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<Object[]> rows = new ArrayList<>(usageRepository.findSuccessfulUsageSince(now.minusDays(1)));
+            rows.sort(Comparator.comparing(row -> (LocalDateTime) row[1]));
+            for (Object[] row : rows) {
+                long at = ((LocalDateTime) row[1]).atZone(clock.getZone()).toInstant().toEpochMilli();
+                users.computeIfAbsent((Long) row[0], id -> new UserWindow()).addSuccess(at);
+                synchronized (this) {
+                    dailyTotal.addLast(at);
+                }
+            }
+            long monthly = usageRepository.countMonthlyUsage(month.atDay(1).atStartOfDay());
+            synchronized (this) {
+                monthlyCount = monthly;
+            }
+            log.info("AI Rate Limit 카운터 재구성 완료 - 24시간 {}건, 이번 달 {}건", rows.size(), monthly);
+        } catch (Exception e) {
+            log.warn("AI Rate Limit 카운터 재구성 실패, 빈 카운터로 시작", e);
+        }
+    }
+
+    /**
+     * 같은 사용자의 요청을 순서대로 처리하기 위한 잠금. 사용자 수와 관계없이 개수가 고정되어 있습니다.
+     */
+    public Lock lockFor(Long userId) {
+        return userLocks[Math.floorMod(Long.hashCode(userId), LOCK_STRIPES)];
+    }
+
+    /**
+     * @return 같은 사용자가 {@code window} 안에 같은 프롬프트를 보냈으면 true
+     */
+    public boolean isDuplicate(Long userId, String prompt, Duration window) {
+        UserWindow user = users.get(userId);
+        return user != null && user.sentSince(promptHash(prompt), clock.millis() - window.toMillis());
+    }
+
+    /**
+     * @return 사용자가 최근 {@code window}(최대 24시간) 동안 성공한 요청 수
+     */
+    public long userCount(Long userId, Duration window) {
+        UserWindow user = users.get(userId);
+        return user == null ? 0 : user.successesSince(clock.millis() - window.toMillis());
+    }
+
+    /**
+     * @return 최근 24시간 동안 봇 전체에서 성공한 요청 수
+     */
+    public synchronized long dailyTotal() {
+        prune(dailyTotal, clock.millis() - WINDOW_MILLIS);
+        return dailyTotal.size();
+    }
+
+    /**
+     * @return 이번 달 봇 전체에서 성공한 요청 수
+     */
+    public synchronized long monthlyTotal() {
+        rollMonth();
+        return monthlyCount;
+    }
+
+    /**
+     * 처리한 요청을 기록합니다. 성공한 요청만 한도에 포함되며, 프롬프트는 성공 여부와 관계없이 중복 검사에 쓰입니다.
+     */
+    public void record(Long userId, String prompt, boolean success) {
+        long now = clock.millis();
+        String hash = promptHash(prompt);
+        // compute 안에서 갱신해야 evictIdle이 막 지운 윈도우에 기록하지 않습니다.
+        users.compute(userId, (id, user) -> {
+            UserWindow window = user == null ? new UserWindow() : user;
+            window.addPrompt(hash, now);
+            if (success) window.addSuccess(now);
+            return window;
+        });
+        if (!success) return;
+        synchronized (this) {
+            dailyTotal.addLast(now);
+            prune(dailyTotal, now - WINDOW_MILLIS);
+            rollMonth();
+            monthlyCount++;
+        }
+    }
+
+    /**
+     * 인스턴스 간 공유 하루 한도 버킷을 준비합니다. PostgreSQL이 아니거나 비활성화되어 있으면 메모리 카운터만 씁니다.
+     *
+     * @param dailyLimit 봇 전체 하루 한도
+     */
+    public void shareDailyLimit(int dailyLimit) {
+        if (!sharedBucketEnabled || dataSource == null) return;
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isWrapperFor(PGConnection.class)) return;
+        } catch (Exception e) {
+            log.warn("공유 Rate Limit 버킷용 DB 확인 실패, 메모리 카운터만 사용", e);
+            return;
+        }
+        try {
+            bucketRepository.ensure(DAILY_TOTAL_BUCKET, Math.max(0, dailyLimit - dailyTotal()),
+                    dailyLimit, dailyLimit / (double) Duration.ofDays(1).toSeconds());
+            sharedBucket = true;
+        } catch (Exception e) {
+            log.warn("공유 Rate Limit 버킷 준비 실패, 메모리 카운터만 사용", e);
+        }
+    }
+
+    /**
+     * 공유 하루 한도에서 요청 하나를 차감합니다. 공유 버킷을 쓰지 않으면 항상 true입니다.
+     */
+    public boolean tryTakeShared() {
+        if (!sharedBucket) return true;
+        try {
+            return bucketRepository.tryTake(DAILY_TOTAL_BUCKET);
+        } catch (Exception e) {
+            log.warn("공유 Rate Limit 버킷 차감 실패, 메모리 카운터로 판단", e);
+            return true;
+        }
+    }
+
+    /**
+     * 실패한 요청의 공유 한도 차감을 되돌립니다.
+     */
+    public void refundShared() {
+        if (!sharedBucket) return;
+        try {
+            bucketRepository.refund(DAILY_TOTAL_BUCKET);
+        } catch (Exception e) {
+            log.warn("공유 Rate Limit 버킷 환불 실패", e);
+        }
+    }
+
+    /**
+     * 24시간 동안 요청이 없는 사용자의 윈도우를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.rate-limit.evict-millis:600000}")
+    public void evictIdle() {
+        long now = clock.millis();
+        for (Long userId : users.keySet()) {
+            users.computeIfPresent(userId, (id, user) -> user.idle(now) ? null : user);
+        }
+    }
+
+    static String promptHash(String prompt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((prompt == null ? "" : prompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void rollMonth() {
+        YearMonth current = YearMonth.now(clock);
+        if (!current.equals(month)) {
+            month = current;
+            monthlyCount = 0;
+        }
+    }
+
+    private static void prune(ArrayDeque<Long> timestamps, long cutoff) {
+        while (!timestamps.isEmpty() && timestamps.peekFirst() < cutoff) {
+            timestamps.pollFirst();
+        }
+    }
+
+    private static final class UserWindow {
+        private final ArrayDeque<Long> successes = new ArrayDeque<>();
+        private final LinkedHashMap<String, Long> prompts = new LinkedHashMap<>();
+
+        synchronized void addSuccess(long at) {
+            successes.addLast(at);
+            prune(successes, at - WINDOW_MILLIS);
+        }
+
+        synchronized long successesSince(long cutoff) {
+            long count = 0;
+            Iterator<Long> newestFirst = successes.descendingIterator();
+            while (newestFirst.hasNext() && newestFirst.next() >= cutoff) {
+                count++;
+            }
+            return count;
+        }
+
+        synchronized void addPrompt(String hash, long at) {
+            prompts.remove(hash);
+            prompts.put(hash, at);
+            prunePrompts(at);
+        }
+
+        synchronized boolean sentSince(String hash, long cutoff) {
+            Long at = prompts.get(hash);
+            return at != null && at >= cutoff;
+        }
+
+        synchronized boolean idle(long now) {
+            prune(successes, now - WINDOW_MILLIS);
+            prunePrompts(now);
+            return successes.isEmpty() && prompts.isEmpty();
+        }
+
+        private void prunePrompts(long now) {
+            Iterator<Long> oldestFirst = prompts.values().iterator();
+            while (oldestFirst.hasNext() && oldestFirst.next() < now - PROMPT_RETENTION_MILLIS) {
+                oldestFirst.remove();
+            }
+        }
+    }
+}
@@ -5,18 +5,16 @@ import com.gahyeonbot.repository.ConversationHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
-import org.springframework.ai.chat.messages.UserMessage;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 대화 히스토리 관리 서비스.
@@ -30,11 +28,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ConversationHistoryService {
 
-    private static final int RECENT_CONVERSATION_COUNT = 5;
-    private static final int MAX_SUMMARY_CONTEXT_COUNT = 10;
+    static final int RECENT_CONVERSATION_COUNT = 5;
+    static final int MAX_SUMMARY_CONTEXT_COUNT = 10;
 
     private final ConversationHistoryRepository repository;
-    private final GlmService glmService;
+    private final ConversationSummarizer summarizer;
+    private final ConversationMemoryCache memoryCache;
 
     /**
      * 대화를 저장합니다.
@@ -52,11 +51,12 @@ public class ConversationHistoryService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        repository.save(history);
+        ConversationHistory saved = repository.save(history);
+        afterCommit(() -> memoryCache.appendConversation(saved));
         log.debug("대화 저장 완료 - 사용자: {}", userId);
 
-        // 비동기로 오래된 대화 요약 처리
-        summarizeOldConversationsAsync(userId);
+        // 오래된 대화 요약은 커밋 후 사용자별로 모아서 처리
+        afterCommit(() -> summarizer.request(userId));
     }
 
     /**
@@ -112,72 +112,17 @@ public class ConversationHistoryService {
     /**
      * 에이전트 호출에 사용할 역할 기반 대화 메시지와 장기 요약을 반환합니다.
      * 이전 대화를 하나의 사용자 문자열로 합치지 않아 user/assistant 경계가 보존됩니다.
+     * 사용자별 메모리 캐시에 있으면 DB를 읽지 않습니다.
      */
-    @Transactional(readOnly = true)
     public AgentConversationContext buildAgentContext(Long userId) {
-        List<ConversationHistory> summaries = repository.findLatestSummary(
-                userId, PageRequest.of(0, MAX_SUMMARY_CONTEXT_COUNT));
-        List<ConversationHistory> orderedSummaries = new ArrayList<>(summaries);
-        Collections.reverse(orderedSummaries);
-        String summary = orderedSummaries.stream()
-                .map(ConversationHistory::getSummary)
-                .filter(value -> value != null && !value.isBlank())
-                .map(String::trim)
-                .collect(Collectors.joining("\n- ", "- ", ""));
-
-        List<ConversationHistory> recent = repository.findRecentByUserId(
-                userId, PageRequest.of(0, RECENT_CONVERSATION_COUNT));
-        List<ConversationHistory> orderedRecent = new ArrayList<>(recent);
-        Collections.reverse(orderedRecent);
-        List<Message> messages = new ArrayList<>(orderedRecent.size() * 2);
-        for (ConversationHistory conversation : orderedRecent) {
-            if (conversation.getUserMessage() != null && !conversation.getUserMessage().isBlank()) {
-                messages.add(new UserMessage(conversation.getUserMessage()));
-            }
-            if (conversation.getAiResponse() != null && !conversation.getAiResponse().isBlank()) {
-                messages.add(new AssistantMessage(conversation.getAiResponse()));
-            }
-        }
-        return new AgentConversationContext(summary, List.copyOf(messages));
+        return memoryCache.get(userId, () -> ConversationMemoryCache.Memory.of(
+                repository.findLatestSummary(userId, PageRequest.of(0, MAX_SUMMARY_CONTEXT_COUNT)),
+                repository.findRecentByUserId(userId, PageRequest.of(0, RECENT_CONVERSATION_COUNT))));
     }
 
     public record AgentConversationContext(String summary, List<Message> messages) {
     }
 
-    /**
-     * 오래된 대화를 비동기로 요약합니다.
-     *
-     * @param userId 사용자 ID
-     */
-    @Async
-    @Transactional
-    public void summarizeOldConversationsAsync(Long userId) {
-        try {
-            List<ConversationHistory> unsummarized = repository.findUnsummarizedOldConversations(
-                    userId, RECENT_CONVERSATION_COUNT);
-
-            if (unsummarized.isEmpty()) {
-                return;
-            }
-
-            log.debug("요약 대상 대화 {}건 발견 - 사용자: {}", unsummarized.size(), userId);
-
-            for (ConversationHistory conv : unsummarized) {
-                try {
-                    String summary = glmService.summarize(conv.getUserMessage(), conv.getAiResponse());
-                    conv.setSummary(summary);
-                    conv.setSummarized(true);
-                    repository.save(conv);
-                    log.debug("대화 요약 완료 - ID: {}", conv.getId());
-                } catch (Exception e) {
-                    log.error("대화 요약 실패 - ID: {}", conv.getId(), e);
-                }
-            }
-        } catch (Exception e) {
-            log.error("대화 요약 처리 중 오류 - 사용자: {}", userId, e);
-        }
-    }
-
     /**
      * 사용자의 대화 히스토리를 초기화합니다.
      *
@@ -188,9 +133,27 @@ public class ConversationHistoryService {
         List<ConversationHistory> histories = repository.findRecentByUserId(
                 userId, PageRequest.of(0, 1000));
         repository.deleteAll(histories);
+        afterCommit(() -> memoryCache.invalidate(userId));
         log.info("대화 히스토리 초기화 - 사용자: {}", userId);
     }
 
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행합니다.
+     * 커밋 전에 캐시를 갱신하면 롤백된 대화가 캐시에 남을 수 있습니다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * 문자열 자르기
      */
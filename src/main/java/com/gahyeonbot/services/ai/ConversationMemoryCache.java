@@ -0,0 +1,193 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.entity.ConversationHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 에이전트 대화 메모리(장기 요약 + 최근 대화) 캐시.
+ * 대화 저장과 요약이 캐시를 직접 갱신(write-through)하므로, 캐시 적중 시 DB를 읽지 않고 컨텍스트를 만듭니다.
+ * 로드 도중 다른 쓰기가 있었다면 로드 결과는 보관하지 않아, 오래된 DB 스냅샷이 갱신분을 덮어쓰지 않습니다.
+ */
+@Component
+public class ConversationMemoryCache {
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer hitBuilds;
+    private final Timer missBuilds;
+
+    private final LinkedHashMap<Long, Memory> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long writes;
+
+    @Autowired
+    public ConversationMemoryCache(
+            @Value("${ai.memory-cache.max-users:1000}") int maxUsers,
+            @Value("${ai.memory-cache.ttl-minutes:60}") long ttlMinutes,
+            MeterRegistry meterRegistry) {
+        this(maxUsers, Duration.ofMinutes(ttlMinutes), meterRegistry);
+    }
+
+    ConversationMemoryCache(int maxUsers, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxUsers = Math.max(1, maxUsers);
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter("gahyeonbot.ai.memory.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gahyeonbot.ai.memory.cache", "result", "miss");
+        this.hitBuilds = meterRegistry.timer("gahyeonbot.ai.memory.context.build", "cache", "hit");
+        this.missBuilds = meterRegistry.timer("gahyeonbot.ai.memory.context.build", "cache", "miss");
+        meterRegistry.gauge("gahyeonbot.ai.memory.cache.size", this, ConversationMemoryCache::size);
+    }
+
+    /**
+     * 캐시된 컨텍스트를 반환하거나, 없으면 {@code loader}로 DB에서 읽어 보관합니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader DB에서 메모리를 읽는 함수
+     * @return 에이전트 대화 컨텍스트
+     */
+    public ConversationHistoryService.AgentConversationContext get(Long userId, Supplier<Memory> loader) {
+        long startedNanos = System.nanoTime();
+        long token;
+        synchronized (this) {
+            Memory cached = entries.get(userId);
+            if (cached != null && cached.expiresAt - startedNanos > 0) {
+                ConversationHistoryService.AgentConversationContext context = cached.context();
+                hits.increment();
+                hitBuilds.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+                return context;
+            }
+            token = writes;
+        }
+        misses.increment();
+        Memory loaded = loader.get();
+        ConversationHistoryService.AgentConversationContext context;
+        synchronized (this) {
+            if (token == writes) {
+                loaded.expiresAt = System.nanoTime() + ttlNanos;
+                entries.put(userId, loaded);
+                while (entries.size() > maxUsers) {
+                    entries.pollFirstEntry();
+                }
+            }
+            context = loaded.context();
+        }
+        missBuilds.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        return context;
+    }
+
+    /**
+     * 커밋된 새 대화를 캐시된 최근 대화에 덧붙입니다.
+     */
+    public synchronized void appendConversation(ConversationHistory conversation) {
+        writes++;
+        Memory memory = entries.get(conversation.getUserId());
+        if (memory != null) memory.append(conversation);
+    }
+
+    /**
+     * 커밋된 요약을 캐시된 장기 요약에 반영합니다.
+     */
+    public synchronized void appendSummary(ConversationHistory conversation) {
+        writes++;
+        Memory memory = entries.get(conversation.getUserId());
+        if (memory != null) memory.summarize(conversation);
+    }
+
+    public synchronized void invalidate(Long userId) {
+        writes++;
+        entries.remove(userId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 한 사용자의 대화 메모리. 요약과 최근 대화 모두 오래된 순서로 보관합니다.
+     * 조회 결과가 최신순이므로 생성 시 뒤집습니다.
+     */
+    public static final class Memory {
+        private final List<Summary> summaries = new ArrayList<>();
+        private final List<Turn> recent = new ArrayList<>();
+        private ConversationHistoryService.AgentConversationContext context;
+        private long expiresAt;
+
+        public static Memory of(List<ConversationHistory> latestSummaries, List<ConversationHistory> recentConversations) {
+            Memory memory = new Memory();
+            for (int i = latestSummaries.size() - 1; i >= 0; i--) {
+                memory.summarize(latestSummaries.get(i));
+            }
+            for (int i = recentConversations.size() - 1; i >= 0; i--) {
+                memory.append(recentConversations.get(i));
+            }
+            return memory;
+        }
+
+        private void append(ConversationHistory conversation) {
+            if (recent.stream().anyMatch(turn -> Objects.equals(turn.id, conversation.getId()))) return;
+            recent.add(new Turn(conversation.getId(), conversation.getUserMessage(), conversation.getAiResponse()));
+            while (recent.size() > ConversationHistoryService.RECENT_CONVERSATION_COUNT) {
+                recent.remove(0);
+            }
+            context = null;
+        }
+
+        private void summarize(ConversationHistory conversation) {
+            String text = conversation.getSummary();
+            if (text == null || text.isBlank()) return;
+            if (summaries.stream().anyMatch(summary -> Objects.equals(summary.id, conversation.getId()))) return;
+            LocalDateTime createdAt = conversation.getCreatedAt();
+            int index = summaries.size();
+            while (index > 0 && createdAt != null && summaries.get(index - 1).createdAt != null
+                    && summaries.get(index - 1).createdAt.isAfter(createdAt)) {
+                index--;
+            }
+            summaries.add(index, new Summary(conversation.getId(), text.trim(), createdAt));
+            while (summaries.size() > ConversationHistoryService.MAX_SUMMARY_CONTEXT_COUNT) {
+                summaries.remove(0);
+            }
+            context = null;
+        }
+
+        private ConversationHistoryService.AgentConversationContext context() {
+            if (context == null) {
+                String summary = summaries.isEmpty() ? "" : summaries.stream()
+                        .map(Summary::text)
+                        .collect(Collectors.joining("\n- ", "- ", ""));
+                List<Message> messages = new ArrayList<>(recent.size() * 2);
+                for (Turn turn : recent) {
+                    if (turn.userMessage != null && !turn.userMessage.isBlank()) {
+                        messages.add(new UserMessage(turn.userMessage));
+                    }
+                    if (turn.aiResponse != null && !turn.aiResponse.isBlank()) {
+                        messages.add(new AssistantMessage(turn.aiResponse));
+                    }
+                }
+                context = new ConversationHistoryService.AgentConversationContext(summary, List.copyOf(messages));
+            }
+            return context;
+        }
+    }
+
+    private record Summary(Long id, String text, LocalDateTime createdAt) {}
+
+    private record Turn(Long id, String userMessage, String aiResponse) {}
+}
@@ -0,0 +1,139 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.entity.ConversationHistory;
+import com.gahyeonbot.repository.ConversationHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래된 대화의 요약 파이프라인.
+ * 사용자별 요청을 {@code ai.summary.debounce-millis} 동안 모아 한 번만 실행하고, 같은 사용자의 작업은 겹치지 않습니다.
+ * 요약 대상 대화는 최대 {@code ai.summary.batch-size}건씩 GLM 요청 한 번으로 요약하며,
+ * GLM 호출 동안 트랜잭션을 잡지 않고 결과만 짧은 트랜잭션 안에서 일괄 기록합니다.
+ * 동시에 진행되는 요약 GLM 호출은 {@code ai.summary.max-concurrency}개로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class ConversationSummarizer {
+    private final ConversationHistoryRepository repository;
+    private final GlmService glmService;
+    private final ConversationMemoryCache memoryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+    private final long debounceMillis;
+    private final int batchSize;
+
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final Counter requests;
+    private final Counter coalesced;
+    private final Counter summaries;
+    private final Counter glmCalls;
+    private final Counter glmCallsSaved;
+
+    @Autowired
+    public ConversationSummarizer(
+            ConversationHistoryRepository repository,
+            GlmService glmService,
+            ConversationMemoryCache memoryCache,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ai.summary.debounce-millis:5000}") long debounceMillis,
+            @Value("${ai.summary.batch-size:8}") int batchSize,
+            @Value("${ai.summary.max-concurrency:2}") int maxConcurrency) {
+        this.repository = repository;
+        this.glmService = glmService;
+        this.memoryCache = memoryCache;
+        this.transactionTemplate = transactionTemplate;
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(1, maxConcurrency),
+                Thread.ofPlatform().name("conversation-summarizer-", 0).daemon().factory());
+        this.requests = meterRegistry.counter("gahyeonbot.ai.summary.requests", "result", "scheduled");
+        this.coalesced = meterRegistry.counter("gahyeonbot.ai.summary.requests", "result", "coalesced");
+        this.summaries = meterRegistry.counter("gahyeonbot.ai.summary.written");
+        this.glmCalls = meterRegistry.counter("gahyeonbot.ai.summary.glm.calls");
+        this.glmCallsSaved = meterRegistry.counter("gahyeonbot.ai.summary.glm.calls.saved");
+    }
+
+    /**
+     * 사용자의 오래된 대화 요약을 예약합니다. 이미 예약되어 있으면 그 실행에 합쳐집니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void request(Long userId) {
+        if (!scheduled.add(userId)) {
+            coalesced.increment();
+            return;
+        }
+        requests.increment();
+        scheduler.schedule(() -> run(userId), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void run(Long userId) {
+        scheduled.remove(userId);
+        if (!running.add(userId)) {
+            // 같은 사용자의 이전 작업이 아직 돌고 있으면 끝난 뒤에 다시 봅니다.
+            request(userId);
+            return;
+        }
+        try {
+            summarize(userId);
+        } catch (Exception e) {
+            log.error("대화 요약 처리 중 오류 - 사용자: {}", userId, e);
+        } finally {
+            running.remove(userId);
+        }
+    }
+
+    void summarize(Long userId) {
+        List<ConversationHistory> unsummarized = repository.findUnsummarizedOldConversations(
+                userId, ConversationHistoryService.RECENT_CONVERSATION_COUNT);
+        if (unsummarized.isEmpty()) return;
+        log.debug("요약 대상 대화 {}건 발견 - 사용자: {}", unsummarized.size(), userId);
+
+        for (int start = 0; start < unsummarized.size(); start += batchSize) {
+            List<ConversationHistory> batch =
+                    unsummarized.subList(start, Math.min(start + batchSize, unsummarized.size()));
+            List<String> texts = glmService.summarizeAll(batch);
+            if (glmService.isEnabled()) {
+                glmCalls.increment();
+                glmCallsSaved.increment(batch.size() - 1);
+            }
+
+            Map<Long, String> byId = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                byId.put(batch.get(i).getId(), texts.get(i));
+            }
+            Set<Long> written = transactionTemplate.execute(status -> repository.markSummarized(byId));
+            for (ConversationHistory conversation : batch) {
+                if (written == null || !written.contains(conversation.getId())) continue;
+                conversation.setSummary(byId.get(conversation.getId()));
+                conversation.setSummarized(true);
+                memoryCache.appendSummary(conversation);
+            }
+            summaries.increment(written == null ? 0 : written.size());
+            log.debug("대화 {}건 요약 완료 - 사용자: {}", written == null ? 0 : written.size(), userId);
+        }
+    }
+}
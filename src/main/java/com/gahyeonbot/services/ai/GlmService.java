@@ -13,11 +13,14 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import com.gahyeonbot.entity.ConversationHistory;
 import com.gahyeonbot.entity.GitHubTrending;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -41,6 +44,7 @@ public class GlmService {
     private static final int README_SUMMARY_MAX_TOKENS = 260;
     private static final int DM_MAX_CHARS = 220;
     private static final Pattern BULLET_PREFIX = Pattern.compile("^[\\-\\*•]\\s*");
+    private static final Pattern NUMBERED_LINE = Pattern.compile("^\\[?(\\d+)[.)\\]]\\s*(.+)$");
 
     private final AppCredentialsConfig appCredentialsConfig;
 
@@ -145,6 +149,84 @@ public class GlmService {
         }
     }
 
+    /**
+     * 여러 대화를 GLM 요청 한 번으로 각각 한 문장씩 요약합니다.
+     * 응답에서 번호가 빠진 대화는 간단 요약으로 채우므로, 결과는 항상 입력과 같은 순서·길이입니다.
+     *
+     * @param conversations 요약할 대화 (오래된 순)
+     * @return 대화별 요약
+     */
+    public List<String> summarizeAll(List<ConversationHistory> conversations) {
+        if (conversations.isEmpty()) return List.of();
+        if (conversations.size() == 1) {
+            ConversationHistory only = conversations.get(0);
+            return List.of(summarize(only.getUserMessage(), only.getAiResponse()));
+        }
+        String[] summaries = new String[conversations.size()];
+        if (isEnabled) {
+            try {
+                StringBuilder prompt = new StringBuilder("""
+                        다음 대화들을 각각 핵심만 담아 한 문장(50자 이내)으로 요약해줘. 불필요한 표현 없이 내용만.
+                        대화마다 한 줄씩, 대화 번호를 붙여 "번호. 요약" 형식으로만 답해.
+                        """);
+                for (int i = 0; i < conversations.size(); i++) {
+                    ConversationHistory conversation = conversations.get(i);
+                    prompt.append("\n[").append(i + 1).append("]\n")
+                            .append("사용자: ").append(truncate(conversation.getUserMessage(), 200)).append('\n')
+                            .append("AI: ").append(truncate(conversation.getAiResponse(), 300)).append('\n');
+                }
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.setBearerAuth(apiKey);
+
+                Map<String, Object> requestBody = Map.of(
+                        "model", glmModel,
+                        "messages", List.of(
+                                Map.of("role", "user", "content", prompt.toString())
+                        ),
+                        "thinking", Map.of("type", "disabled"),
+                        "max_tokens", MAX_TOKENS * conversations.size(),
+                        "temperature", 0.3
+                );
+
+                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                        GLM_API_URL,
+                        HttpMethod.POST,
+                        new HttpEntity<>(requestBody, headers),
+                        new ParameterizedTypeReference<>() {}
+                );
+
+                if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+                    String content = extractContent(response.getBody());
+                    if (content != null) {
+                        content.lines().forEach(line -> {
+                            Matcher matcher = NUMBERED_LINE.matcher(line.trim());
+                            if (!matcher.matches()) return;
+                            int index = Integer.parseInt(matcher.group(1)) - 1;
+                            String text = matcher.group(2).trim();
+                            if (index >= 0 && index < summaries.length && !text.isEmpty()) summaries[index] = text;
+                        });
+                    }
+                }
+            } catch (HttpStatusCodeException e) {
+                log.warn("GLM 일괄 요약 HTTP 실패 - status: {}, body: {}", e.getStatusCode(), truncate(e.getResponseBodyAsString(), 400));
+            } catch (ResourceAccessException e) {
+                log.warn("GLM 일괄 요약 네트워크 실패(타임아웃 가능): {}", e.getMessage());
+            } catch (Exception e) {
+                log.error("GLM 일괄 요약 실패: {}", e.getMessage());
+            }
+        }
+        List<String> result = new ArrayList<>(summaries.length);
+        for (int i = 0; i < summaries.length; i++) {
+            ConversationHistory conversation = conversations.get(i);
+            result.add(summaries[i] != null
+                    ? summaries[i]
+                    : simpleSummary(conversation.getUserMessage(), conversation.getAiResponse()));
+        }
+        return result;
+    }
+
     /**
      * 정기 개인 메시지 본문을 생성합니다.
      *
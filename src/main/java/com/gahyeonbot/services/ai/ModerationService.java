@@ -0,0 +1,202 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.config.AppCredentialsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * OpenAI Moderation API 검사.
+ * 에이전트 실행과 나란히 돌 수 있도록 비동기로 호출하며, 결과는 정규화한 프롬프트의 해시별로
+ * {@code ai.moderation.cache-ttl-minutes} 동안 보관합니다. 호출이 실패하면 통과로 보고 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ModerationService {
+    private static final String MODERATION_URL = "https://api.openai.com/v1/moderations";
+
+    private final AppCredentialsConfig appCredentialsConfig;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer saved;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    @Value("${ai.moderation.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${ai.moderation.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+
+    private Predicate<String> client;
+
+    @Autowired
+    public ModerationService(
+            AppCredentialsConfig appCredentialsConfig,
+            MeterRegistry meterRegistry,
+            @Value("${ai.moderation.cache-max-entries:1000}") int maxEntries,
+            @Value("${ai.moderation.cache-ttl-minutes:60}") long ttlMinutes) {
+        this(appCredentialsConfig, meterRegistry, maxEntries, Duration.ofMinutes(ttlMinutes));
+    }
+
+    ModerationService(Predicate<String> client, MeterRegistry meterRegistry, int maxEntries, Duration ttl) {
+        this((AppCredentialsConfig) null, meterRegistry, maxEntries, ttl);
+        this.client = client;
+    }
+
+    private ModerationService(
+            AppCredentialsConfig appCredentialsConfig,
+            MeterRegistry meterRegistry,
+            int maxEntries,
+            Duration ttl) {
+        this.appCredentialsConfig = appCredentialsConfig;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter("gahyeonbot.ai.moderation.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gahyeonbot.ai.moderation.cache", "result", "miss");
+        this.saved = Timer.builder("gahyeonbot.ai.moderation.latency.saved")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        String apiKey = appCredentialsConfig.getOpenaiApiKey();
+        if (apiKey == null || apiKey.isBlank() || apiKey.startsWith("your_")) {
+            log.warn("OPENAI_API_KEY가 설정되지 않았습니다. Moderation 검사가 비활성화됩니다.");
+            return;
+        }
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        this.client = message -> request(restTemplate, apiKey, message);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return client != null;
+    }
+
+    /**
+     * 메시지 검사를 시작합니다. 캐시에 있으면 이미 완료된 결과를 돌려줍니다.
+     *
+     * @param message 검사할 메시지
+     * @return 검사 결과 (실패해도 예외로 끝나지 않음)
+     */
+    public CompletableFuture<Verdict> check(String message) {
+        String key = cacheKey(message);
+        long now = System.nanoTime();
+        synchronized (cache) {
+            Entry cached = cache.get(key);
+            if (cached != null && cached.expiresAt - now > 0) {
+                hits.increment();
+                return CompletableFuture.completedFuture(new Verdict(cached.flagged, 0));
+            }
+        }
+        misses.increment();
+        return CompletableFuture.supplyAsync(() -> {
+            long startedNanos = System.nanoTime();
+            boolean flagged;
+            try {
+                flagged = client.test(message);
+            } catch (Exception e) {
+                log.error("Moderation API 호출 실패 - 키워드 필터로 대체", e);
+                // API 호출 실패 시 통과로 처리 (키워드 필터가 대신 처리)
+                return new Verdict(false, System.nanoTime() - startedNanos);
+            }
+            long finishedNanos = System.nanoTime();
+            synchronized (cache) {
+                cache.put(key, new Entry(flagged, finishedNanos + ttlNanos));
+                while (cache.size() > maxEntries) {
+                    cache.pollFirstEntry();
+                }
+            }
+            return new Verdict(flagged, finishedNanos - startedNanos);
+        }, executor);
+    }
+
+    /**
+     * 검사를 앞에 두었을 때보다 줄어든 응답 시간을 기록합니다.
+     *
+     * @param verdict 검사 결과
+     * @param waitedNanos 답변이 준비된 뒤 검사 결과를 기다린 시간
+     */
+    public void recordSaved(Verdict verdict, long waitedNanos) {
+        saved.record(Duration.ofNanos(Math.max(0, verdict.elapsedNanos() - waitedNanos)));
+    }
+
+    /**
+     * 대소문자, 호환 문자, 공백 차이를 무시한 프롬프트 해시.
+     */
+    static String cacheKey(String message) {
+        String normalized = Normalizer.normalize(message == null ? "" : message, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+        return AiUsageLimiter.promptHash(normalized);
+    }
+
+    private static boolean request(RestTemplate restTemplate, String apiKey, String message) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                MODERATION_URL,
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("input", message), headers),
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) return false;
+        if (response.getBody().get("results") instanceof List<?> results && !results.isEmpty()
+                && results.get(0) instanceof Map<?, ?> first
+                && first.get("flagged") instanceof Boolean flagged && flagged) {
+            log.warn("Moderation API 차단: 부적절한 콘텐츠 감지");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param flagged 부적절한 콘텐츠로 판정되었으면 true
+     * @param elapsedNanos 검사에 걸린 시간 (캐시 적중 시 0)
+     */
+    public record Verdict(boolean flagged, long elapsedNanos) {}
+
+    private record Entry(boolean flagged, long expiresAt) {}
+}
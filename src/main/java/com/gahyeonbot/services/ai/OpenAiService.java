@@ -7,28 +7,28 @@ import com.gahyeonbot.services.ai.agent.AgentGateway;
 import com.gahyeonbot.services.ai.agent.AgentApprovalRequiredException;
 import com.gahyeonbot.services.ai.agent.AgentRequest;
 import com.gahyeonbot.services.ai.agent.AgentResult;
+import com.gahyeonbot.services.ai.agent.AgentRunGate;
+import com.gahyeonbot.services.ai.agent.AgentRunLedger;
 import com.gahyeonbot.services.ai.agent.AgentRuntime;
+import com.gahyeonbot.services.ai.agent.AgentStreamListener;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OpenAI API 서비스 클래스 (엄격한 Rate Limiting 및 보안 강화).
  * GPT 모델을 사용하여 대화형 AI 응답을 제공합니다.
  *
  * 비용 절감 및 보안 전략:
- * 1. OpenAI Moderation API: 프롬프트 인젝션 자동 차단 (최우선 방어선)
+ * 1. OpenAI Moderation API: 에이전트 실행과 동시에 검사하고, 통과하기 전에는 답변을 내보내지 않음
  * 2. 키워드 필터: 공백/특수문자 우회 방지 (보조 방어선)
  * 3. Rate Limiting: 사용자당 1시간 10회, 하루 30회 제한
  * 4. 봇 전체 제한: 하루 50회, 월 100회
@@ -46,14 +46,12 @@ public class OpenAiService {
     private final OpenAiUsageRepository usageRepository;
     private final AppCredentialsConfig appCredentialsConfig;
     private final AgentRuntime agentRuntime;
+    private final AiUsageLimiter usageLimiter;
+    private final ModerationService moderationService;
+    private final AgentRunLedger runLedger;
 
-    private String apiKey;
     private String agentApiKey;
     private boolean isEnabled = false;
-    private RestTemplate restTemplate;
-
-    // 사용자별 Lock: 동일 사용자의 동시 요청 방지 (ShardManager 동시성 제어)
-    private final Map<Long, Lock> userLocks = new ConcurrentHashMap<>();
 
     // Rate Limiting 상수
     private static final int HOURLY_LIMIT_PER_USER = 75;      // 사용자당 1시간 제한
@@ -78,7 +76,6 @@ public class OpenAiService {
     @PostConstruct
     public void initialize() {
         // AppCredentialsConfig에서 API 키 가져오기
-        this.apiKey = appCredentialsConfig.getOpenaiApiKey();
         this.agentApiKey = appCredentialsConfig.getAgentApiKey();
 
         if (agentApiKey == null || agentApiKey.isBlank() || agentApiKey.startsWith("your_")) {
@@ -88,8 +85,7 @@ public class OpenAiService {
         }
 
         try {
-            // RestTemplate 초기화
-            this.restTemplate = new RestTemplate();
+            usageLimiter.shareDailyLimit(DAILY_LIMIT_TOTAL);
 
             this.isEnabled = true;
             log.info("AI 게이트웨이가 활성화되었습니다. AgentRuntime + Rate Limiting + Moderation API 적용");
@@ -121,11 +117,21 @@ public class OpenAiService {
      * @throws AdversarialPromptException 적대적 프롬프트 감지 시
      */
     public String chat(String interactionId, Long userId, String username, Long guildId, String userMessage) throws RateLimitException, AdversarialPromptException {
-        // 사용자별 Lock 획득 (동일 사용자의 동시 요청 방지)
-        Lock userLock = userLocks.computeIfAbsent(userId, k -> new ReentrantLock());
+        return chat(interactionId, userId, username, guildId, userMessage, null);
+    }
+
+    /**
+     * {@link #chat(String, Long, String, Long, String)}와 같지만, 답변 텍스트를 만들어지는 대로 {@code listener}에 전달합니다.
+     *
+     * @param listener 부분 답변을 받을 콜백 (null이면 스트리밍하지 않음)
+     */
+    public String chat(String interactionId, Long userId, String username, Long guildId, String userMessage,
+                       AgentStreamListener listener) throws RateLimitException, AdversarialPromptException {
+        // 사용자별 Lock 획득 (동일 사용자의 동시 요청 방지, 고정 개수 스트라이프)
+        Lock userLock = usageLimiter.lockFor(userId);
         userLock.lock();
         try {
-            return chatInternal(interactionId, userId, username, guildId, userMessage);
+            return chatInternal(interactionId, userId, username, guildId, userMessage, listener);
         } finally {
             userLock.unlock();
         }
@@ -135,7 +141,8 @@ public class OpenAiService {
      * 내부 chat 메서드 (Lock으로 보호됨)
      */
     @Transactional
-    private String chatInternal(String interactionId, Long userId, String username, Long guildId, String userMessage) throws RateLimitException, AdversarialPromptException {
+    private String chatInternal(String interactionId, Long userId, String username, Long guildId, String userMessage,
+                                AgentStreamListener listener) throws RateLimitException, AdversarialPromptException {
         if (!isEnabled) {
             throw new RateLimitException("OpenAI 서비스가 비활성화되어 있습니다.");
         }
@@ -150,73 +157,61 @@ public class OpenAiService {
             throw new IllegalArgumentException("질문이 너무 깁니다. " + MAX_PROMPT_LENGTH + "자 이하로 입력해주세요.");
         }
 
-        // 2. OpenAI Moderation API 체크 (가장 강력한 필터)
-        if (apiKey != null && !apiKey.isBlank() && !apiKey.startsWith("your_")) {
-            try {
-                boolean isFlagged = checkModeration(userMessage);
-                if (isFlagged) {
-                    log.warn("OpenAI Moderation 차단 - 사용자: {}", username);
-                    logUsage(interactionId, userId, username, guildId, userMessage, null, false, "Moderation API 차단");
-                    throw new AdversarialPromptException("부적절한 요청이 감지되었습니다.");
-                }
-            } catch (AdversarialPromptException e) {
-                throw e; // 이미 차단된 경우 그대로 throw
-            } catch (Exception e) {
-                log.error("Moderation API 호출 실패 - 키워드 필터로 대체", e);
-                // Moderation API 실패 시 키워드 필터로 대체
-            }
-        }
-
-        // 3. 키워드 기반 적대적 프롬프트 차단 (보조 필터)
+        // 2. 키워드 기반 적대적 프롬프트 차단 (보조 필터)
         if (containsAdversarialKeyword(userMessage)) {
             log.warn("키워드 필터 차단 - 사용자: {}, 메시지: {}", username, userMessage);
             logUsage(interactionId, userId, username, guildId, userMessage, null, false, "키워드 필터 차단");
             throw new AdversarialPromptException("부적절한 요청이 감지되었습니다.");
         }
 
-        // 4. 중복 요청 차단 (10초 내)
-        LocalDateTime since = LocalDateTime.now().minusSeconds(DUPLICATE_CHECK_SECONDS);
-        List<OpenAiUsage> duplicates = usageRepository.findDuplicatePrompt(userId, userMessage, since);
-        if (!duplicates.isEmpty()) {
+        // 3. 중복 요청 차단 (10초 내, 메모리의 프롬프트 해시로 비교)
+        if (usageLimiter.isDuplicate(userId, userMessage, Duration.ofSeconds(DUPLICATE_CHECK_SECONDS))) {
             log.warn("중복 요청 차단 - 사용자: {}, 메시지: {}", username, userMessage);
             throw new RateLimitException("같은 질문을 너무 빨리 다시 물어봤습니다. 잠시 후 다시 시도해주세요.");
         }
 
-        // 6. 사용자당 Rate Limiting (1시간)
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        long hourlyUsage = usageRepository.countByUserIdAndCreatedAtAfter(userId, oneHourAgo);
+        // 4. 사용자당 Rate Limiting (1시간)
+        long hourlyUsage = usageLimiter.userCount(userId, Duration.ofHours(1));
         if (hourlyUsage >= HOURLY_LIMIT_PER_USER) {
             log.warn("1시간 제한 초과 - 사용자: {}, 사용: {}/{}", username, hourlyUsage, HOURLY_LIMIT_PER_USER);
             throw new RateLimitException("1시간당 " + HOURLY_LIMIT_PER_USER + "회 제한을 초과했습니다. 잠시 후 다시 시도해주세요.");
         }
 
-        // 7. 사용자당 Rate Limiting (하루)
-        LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
-        long dailyUsage = usageRepository.countByUserIdAndCreatedAtAfter(userId, oneDayAgo);
+        // 5. 사용자당 Rate Limiting (하루)
+        long dailyUsage = usageLimiter.userCount(userId, Duration.ofDays(1));
         if (dailyUsage >= DAILY_LIMIT_PER_USER) {
             log.warn("하루 제한 초과 - 사용자: {}, 사용: {}/{}", username, dailyUsage, DAILY_LIMIT_PER_USER);
             throw new RateLimitException("하루 " + DAILY_LIMIT_PER_USER + "회 제한을 초과했습니다. 내일 다시 시도해주세요.");
         }
 
-        // 8. 전체 하루 제한
-        long totalDailyUsage = usageRepository.countByCreatedAtAfter(oneDayAgo);
+        // 6. 전체 하루 제한 (blue/green 인스턴스가 함께 쓰는 공유 버킷 포함)
+        long totalDailyUsage = usageLimiter.dailyTotal();
         if (totalDailyUsage >= DAILY_LIMIT_TOTAL) {
             log.warn("전체 하루 제한 초과 - 사용: {}/{}", totalDailyUsage, DAILY_LIMIT_TOTAL);
             throw new RateLimitException("오늘의 AI 사용 한도가 모두 소진되었습니다. 내일 다시 시도해주세요.");
         }
 
-        // 9. 전체 월간 제한
-        LocalDateTime monthStart = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        long monthlyUsage = usageRepository.countMonthlyUsage(monthStart);
+        // 7. 전체 월간 제한
+        long monthlyUsage = usageLimiter.monthlyTotal();
         if (monthlyUsage >= MONTHLY_LIMIT_TOTAL) {
             log.warn("월간 제한 초과 - 사용: {}/{}", monthlyUsage, MONTHLY_LIMIT_TOTAL);
             throw new RateLimitException("이번 달 AI 사용 한도가 모두 소진되었습니다. 다음 달에 다시 시도해주세요.");
         }
 
+        if (!usageLimiter.tryTakeShared()) {
+            log.warn("공유 하루 제한 초과 - 사용자: {}", username);
+            throw new RateLimitException("오늘의 AI 사용 한도가 모두 소진되었습니다. 내일 다시 시도해주세요.");
+        }
+
+        // 8. OpenAI Moderation API 체크는 에이전트 실행과 동시에 시작하고, 통과할 때까지 답변을 보류
+        ModerationGate moderation = moderationService.isEnabled()
+                ? new ModerationGate(moderationService.check(userMessage), userId, listener)
+                : null;
+
         // 9. 공통 에이전트 런타임 호출
         try {
             log.info("에이전트 요청 시작 - 사용자: {}, 메시지 길이: {} 문자", username, userMessage.length());
-            AgentResult result = agentRuntime.execute(new AgentRequest(
+            AgentRequest request = new AgentRequest(
                     interactionId,
                     "discord:text:" + userId,
                     AgentGateway.TEXT,
@@ -224,7 +219,15 @@ public class OpenAiService {
                     userId,
                     username,
                     userMessage,
-                    8));
+                    8);
+            AgentResult result;
+            if (moderation != null) {
+                result = agentRuntime.execute(request, listener == null ? null : moderation, moderation);
+            } else {
+                result = listener == null
+                        ? agentRuntime.execute(request)
+                        : agentRuntime.execute(request, listener);
+            }
             String response = result.content();
             log.info("에이전트 응답 성공 - run={}, 사용자={}, 도구={}, {}ms",
                     result.runId(), username, result.tools(), result.duration().toMillis());
@@ -237,9 +240,17 @@ public class OpenAiService {
         } catch (AgentApprovalRequiredException approvalRequired) {
             log.info("에이전트 승인 대기 - run={}, tool={}",
                     approvalRequired.getRunId(), approvalRequired.getToolName());
+            usageLimiter.refundShared();
             throw approvalRequired;
         } catch (Exception e) {
+            if (moderation != null && moderation.flagged()) {
+                log.warn("OpenAI Moderation 차단 - 사용자: {}", username);
+                usageLimiter.refundShared();
+                logUsage(interactionId, userId, username, guildId, userMessage, null, false, "Moderation API 차단");
+                throw new AdversarialPromptException("부적절한 요청이 감지되었습니다.");
+            }
             log.error("OpenAI API 호출 실패 - 사용자: {}, 메시지: {}", username, userMessage, e);
+            usageLimiter.refundShared();
             logUsage(interactionId, userId, username, guildId, userMessage, null, false, e.getMessage());
             throw new ChatProcessingException(ChatProcessingException.ErrorType.OPENAI_API_FAILURE,
                     "AI 응답을 받지 못했습니다. 잠시 후 다시 시도해주세요.", e);
@@ -267,6 +278,7 @@ public class OpenAiService {
                     .build();
 
             usageRepository.save(usage);
+            usageLimiter.record(userId, prompt, success);
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
             // UNIQUE 제약조건 위반: 다른 인스턴스가 이미 처리 중
             log.warn("중복 Interaction ID 감지 - 다른 인스턴스가 처리 중: {}", interactionId);
@@ -305,50 +317,68 @@ public class OpenAiService {
     }
 
     /**
-     * OpenAI Moderation API를 사용하여 프롬프트의 적절성을 검사합니다.
-     *
-     * @param message 검사할 메시지
-     * @return true: 부적절한 콘텐츠 감지됨 (차단해야 함), false: 안전함
+     * Moderation 결과가 나올 때까지 답변을 보류하는 gate.
+     * 차단 판정이 나오면 진행 중인 실행을 바로 취소하고, 통과 전에는 스트리밍 중간 텍스트도 내보내지 않습니다.
+     * 중간 텍스트는 누적값이므로 통과 뒤 다음 텍스트가 그동안의 내용을 함께 전달합니다.
      */
-    private boolean checkModeration(String message) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
-            Map<String, String> body = Map.of("input", message);
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    "https://api.openai.com/v1/moderations",
-                    HttpMethod.POST,
-                    request,
-                    new ParameterizedTypeReference<>() {
-                    }
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                Map<String, Object> responseBody = response.getBody();
-                if (responseBody != null) {
-                    Object resultsObj = responseBody.get("results");
-                    if (resultsObj instanceof List<?> results && !results.isEmpty()) {
-                        Object first = results.get(0);
-                        if (first instanceof Map<?, ?> firstResult) {
-                            Object flaggedObj = firstResult.get("flagged");
-                            if (flaggedObj instanceof Boolean flagged && flagged) {
-                                log.warn("Moderation API 차단: 부적절한 콘텐츠 감지");
-                                return true;
-                            }
-                        }
-                    }
-                }
+    private final class ModerationGate implements AgentRunGate, AgentStreamListener {
+        private final CompletableFuture<ModerationService.Verdict> verdict;
+        private final Long userId;
+        private final AgentStreamListener delegate;
+        private volatile String runId;
+        private boolean shown;
+
+        private ModerationGate(CompletableFuture<ModerationService.Verdict> verdict, Long userId,
+                               AgentStreamListener delegate) {
+            this.verdict = verdict;
+            this.userId = userId;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void started(String runId) {
+            this.runId = runId;
+            verdict.thenAccept(result -> {
+                if (result.flagged()) cancelRun();
+            });
+        }
+
+        @Override
+        public void awaitRelease(String runId) throws AdversarialPromptException {
+            long waitStartedNanos = System.nanoTime();
+            ModerationService.Verdict result = verdict.join();
+            if (result.flagged()) {
+                cancelRun();
+                throw new AdversarialPromptException("부적절한 요청이 감지되었습니다.");
             }
-            return false;
+            moderationService.recordSaved(result, System.nanoTime() - waitStartedNanos);
+        }
 
-        } catch (Exception e) {
-            log.error("Moderation API 호출 실패 - 키워드 필터로 대체", e);
-            // API 호출 실패 시 false 반환 (키워드 필터가 대신 처리)
-            return false;
+        @Override
+        public synchronized void onPartial(String text) {
+            ModerationService.Verdict result = verdict.getNow(null);
+            if (result == null || result.flagged()) return;
+            shown = true;
+            delegate.onPartial(text);
+        }
+
+        @Override
+        public synchronized void onReset() {
+            if (shown) delegate.onReset();
+        }
+
+        private boolean flagged() {
+            ModerationService.Verdict result = verdict.getNow(null);
+            return result != null && result.flagged();
+        }
+
+        private void cancelRun() {
+            if (runId == null) return;
+            try {
+                runLedger.cancel(runId, userId, "moderation");
+            } catch (Exception e) {
+                log.warn("Moderation 차단 실행 취소 실패 run={}", runId, e);
+            }
         }
     }
 
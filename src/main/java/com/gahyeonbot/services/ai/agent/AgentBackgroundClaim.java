@@ -1,8 +1,11 @@
 package com.gahyeonbot.services.ai.agent;
 
+import java.time.LocalDateTime;
+
 public record AgentBackgroundClaim(
         String jobId,
         String runId,
         String jobType,
-        String payload
+        String payload,
+        LocalDateTime availableAt
 ) {}
@@ -5,11 +5,13 @@ import com.gahyeonbot.entity.AgentRun;
 import com.gahyeonbot.repository.AgentBackgroundJobRepository;
 import com.gahyeonbot.repository.AgentRunRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
@@ -20,6 +22,7 @@ public class AgentBackgroundQueue {
     private final AgentBackgroundJobRepository jobRepository;
     private final AgentRunRepository runRepository;
     private final AgentRunLedger ledger;
+    private final AgentBackgroundSignal signal;
 
     @Transactional
     public AgentBackgroundJob schedule(
@@ -44,26 +47,38 @@ public class AgentBackgroundQueue {
                 .build());
         ledger.transition(runId, AgentRunStatus.WAITING_BACKGROUND,
                 AgentEventType.BACKGROUND_WAIT_STARTED, job.getId());
+        signal.jobScheduled();
         return job;
     }
 
     @Transactional
     public Optional<AgentBackgroundClaim> claimDue() {
+        return claimDue(1).stream().findFirst();
+    }
+
+    /**
+     * 실행할 때가 된 작업을 최대 {@code limit}건 RUNNING으로 바꾸고 가져옵니다.
+     * 다른 워커가 잡고 있는 작업은 건너뜁니다.
+     */
+    @Transactional
+    public List<AgentBackgroundClaim> claimDue(int limit) {
         LocalDateTime now = LocalDateTime.now();
-        var job = jobRepository
-                .findFirstByStatusAndAvailableAtLessThanEqualOrderByAvailableAtAsc(
-                        AgentBackgroundJobStatus.PENDING, now);
-        job.ifPresent(value -> {
-            value.setStatus(AgentBackgroundJobStatus.RUNNING);
-            value.setAttempts(value.getAttempts() + 1);
-            value.setLockedAt(now);
-            value.setUpdatedAt(now);
-        });
-        return job.map(value -> new AgentBackgroundClaim(
-                value.getId(),
-                value.getRun().getId(),
-                value.getJobType(),
-                value.getPayload()));
+        List<AgentBackgroundJob> jobs = jobRepository.findByStatusAndAvailableAtLessThanEqualOrderByAvailableAtAsc(
+                AgentBackgroundJobStatus.PENDING, now, PageRequest.of(0, Math.max(1, limit)));
+        List<AgentBackgroundClaim> claims = new ArrayList<>(jobs.size());
+        for (AgentBackgroundJob job : jobs) {
+            job.setStatus(AgentBackgroundJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedAt(now);
+            job.setUpdatedAt(now);
+            claims.add(new AgentBackgroundClaim(
+                    job.getId(),
+                    job.getRun().getId(),
+                    job.getJobType(),
+                    job.getPayload(),
+                    job.getAvailableAt()));
+        }
+        return claims;
     }
 
     @Transactional
@@ -105,6 +120,7 @@ public class AgentBackgroundQueue {
             job.setLastError("worker restart recovery");
             job.setUpdatedAt(LocalDateTime.now());
         }
+        if (!stale.isEmpty()) signal.jobScheduled();
         return stale.size();
     }
 
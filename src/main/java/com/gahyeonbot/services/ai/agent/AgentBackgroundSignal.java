@@ -0,0 +1,89 @@
+package com.gahyeonbot.services.ai.agent;
+
+import com.gahyeonbot.config.PostgresNotificationListener;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 작업 디스패처를 깨우는 신호.
+ * 같은 프로세스에서 예약된 작업은 커밋 직후 바로 깨우고, PostgreSQL이면 LISTEN/NOTIFY로 다른 인스턴스도 깨웁니다.
+ * 신호가 유실되어도 디스패처는 {@code agent.background.poll-millis}마다 스스로 확인합니다.
+ */
+@Component
+public class AgentBackgroundSignal {
+    static final String CHANNEL = "agent_background_jobs";
+
+    private final PostgresNotificationListener notifications;
+    private final boolean listenEnabled;
+    private final Semaphore wakeups = new Semaphore(0);
+
+    public AgentBackgroundSignal(
+            PostgresNotificationListener notifications,
+            @Value("${agent.background.listen-notify:true}") boolean listenEnabled) {
+        this.notifications = notifications;
+        this.listenEnabled = listenEnabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!crossInstance()) return;
+        notifications.subscribe(CHANNEL, new PostgresNotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                wake();
+            }
+
+            @Override
+            public void onListening() {
+                // 끊긴 동안 놓친 알림이 있을 수 있으므로 한 번 깨웁니다.
+                wake();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션에서 예약한 작업을 알립니다. 커밋된 뒤에만 디스패처가 깨어납니다.
+     */
+    public void jobScheduled() {
+        if (crossInstance()) {
+            // NOTIFY는 트랜잭션이 커밋될 때 전달됩니다.
+            notifications.notify(CHANNEL, "");
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wake();
+                }
+            });
+        } else {
+            wake();
+        }
+    }
+
+    public void wake() {
+        if (wakeups.availablePermits() == 0) wakeups.release();
+    }
+
+    /**
+     * 신호가 오거나 {@code timeout}이 지날 때까지 기다립니다.
+     *
+     * @return 신호로 깨어났으면 true
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        boolean woken = wakeups.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        wakeups.drainPermits();
+        return woken;
+    }
+
+    private boolean crossInstance() {
+        return listenEnabled && notifications != null && notifications.isActive();
+    }
+}
@@ -1,48 +1,146 @@
 package com.gahyeonbot.services.ai.agent;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 백그라운드 작업 디스패처.
+ * 작업이 예약되면 {@link AgentBackgroundSignal}로 바로 깨어나, 빈 실행 슬롯 수만큼 작업을 한 번에 가져와
+ * 가상 스레드에서 실행합니다. 동시에 실행되는 작업은 {@code agent.background.max-concurrency}개로 제한되며,
+ * 신호가 없어도 {@code agent.background.poll-millis}마다 재시도 대기가 끝난 작업을 확인합니다.
+ */
 @Component
 @Slf4j
 public class AgentBackgroundWorker {
     private final AgentBackgroundQueue queue;
     private final AgentRuntime runtime;
+    private final AgentBackgroundSignal signal;
     private final Map<String, AgentBackgroundHandler> handlers;
+    private final Duration pollInterval;
+    private final Semaphore slots;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer scheduleToStart;
+    private final Counter started;
+    private volatile boolean running;
+    private Thread dispatcher;
 
+    @Autowired
     public AgentBackgroundWorker(
             AgentBackgroundQueue queue,
             AgentRuntime runtime,
-            List<AgentBackgroundHandler> handlers) {
+            AgentBackgroundSignal signal,
+            List<AgentBackgroundHandler> handlers,
+            MeterRegistry meterRegistry,
+            @Value("${agent.background.poll-millis:1000}") long pollMillis,
+            @Value("${agent.background.max-concurrency:8}") int maxConcurrency) {
         this.queue = queue;
         this.runtime = runtime;
+        this.signal = signal;
         this.handlers = handlers.stream().collect(Collectors.toUnmodifiableMap(
                 AgentBackgroundHandler::jobType, Function.identity()));
+        this.pollInterval = Duration.ofMillis(Math.max(10, pollMillis));
+        this.slots = new Semaphore(Math.max(1, maxConcurrency));
+        this.scheduleToStart = meterRegistry.timer("gahyeonbot.agent.background.schedule.to.start");
+        this.started = meterRegistry.counter("gahyeonbot.agent.background.jobs.started");
     }
 
-    @Scheduled(fixedDelayString = "${agent.background.poll-millis:1000}")
-    public void poll() {
-        queue.claimDue().ifPresent(job -> {
-            AgentBackgroundHandler handler = handlers.get(job.jobType());
-            if (handler == null) {
-                queue.retryOrFail(job.jobId(), "등록되지 않은 background job type: " + job.jobType());
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) return;
+        running = true;
+        dispatcher = Thread.ofPlatform().name("agent-background-dispatcher").daemon().start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (dispatcher != null) dispatcher.interrupt();
+        workers.shutdownNow();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                int free = slots.availablePermits();
+                int claimed = free > 0 ? dispatch(free) : 0;
+                // 가져온 만큼 슬롯이 찼으면 더 있을 수 있으므로 바로 다시 확인합니다.
+                if (claimed == 0 || claimed < free) signal.await(pollInterval);
+            } catch (InterruptedException e) {
                 return;
+            } catch (Exception e) {
+                log.warn("백그라운드 작업 디스패치 실패", e);
+                try {
+                    signal.await(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
             }
+        }
+    }
+
+    /**
+     * 최대 {@code limit}건을 가져와 실행을 시작합니다.
+     *
+     * @return 가져온 작업 수
+     */
+    int dispatch(int limit) {
+        List<AgentBackgroundClaim> claims = queue.claimDue(limit);
+        for (AgentBackgroundClaim job : claims) {
+            slots.acquireUninterruptibly();
+            started.increment();
+            if (job.availableAt() != null) {
+                scheduleToStart.record(Duration.between(job.availableAt(), LocalDateTime.now()));
+            }
+            workers.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    slots.release();
+                    // 슬롯이 비었으니 기다리던 작업을 가져올 수 있습니다.
+                    signal.wake();
+                }
+            });
+        }
+        return claims.size();
+    }
+
+    private void run(AgentBackgroundClaim job) {
+        AgentBackgroundHandler handler = handlers.get(job.jobType());
+        if (handler == null) {
+            queue.retryOrFail(job.jobId(), "등록되지 않은 background job type: " + job.jobType());
+            return;
+        }
+        try {
+            String result = handler.execute(job.payload());
+            runtime.resumeBackground(job.runId(), result);
+            queue.complete(job.jobId());
+        } catch (Exception e) {
+            log.warn("백그라운드 에이전트 작업 실패 job={}", job.jobId(), e);
             try {
-                String result = handler.execute(job.payload());
-                runtime.resumeBackground(job.runId(), result);
-                queue.complete(job.jobId());
-            } catch (Exception e) {
-                log.warn("백그라운드 에이전트 작업 실패 job={}", job.jobId(), e);
                 queue.retryOrFail(job.jobId(), limited(e.getMessage()));
+            } catch (Exception retryFailure) {
+                // 여기서 놓친 작업은 stale claim 복구가 다시 PENDING으로 돌립니다.
+                log.error("백그라운드 작업 재시도 기록 실패 job={}", job.jobId(), retryFailure);
             }
-        });
+        }
     }
 
     private static String limited(String value) {
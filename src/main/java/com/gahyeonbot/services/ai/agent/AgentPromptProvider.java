@@ -23,8 +23,19 @@ public class AgentPromptProvider {
         }
     }
 
-    public String systemPrompt(String longTermSummary) {
-        if (longTermSummary == null || longTermSummary.isBlank()) return systemPrompt;
-        return systemPrompt + "\n\n[사용자의 이전 대화 요약 - 참고 정보]\n" + longTermSummary;
+    /**
+     * 모든 실행에서 바이트 단위로 같은 시스템 프롬프트.
+     * 사용자·시각별로 달라지는 내용을 섞지 않아야 모델 제공자의 프롬프트 접두사 캐시가 적중합니다.
+     */
+    public String systemPrompt() {
+        return systemPrompt;
+    }
+
+    /**
+     * @return 장기 요약을 담은 별도 시스템 메시지 본문, 요약이 없으면 null
+     */
+    public String memoryPrompt(String longTermSummary) {
+        if (longTermSummary == null || longTermSummary.isBlank()) return null;
+        return "[사용자의 이전 대화 요약 - 참고 정보]\n" + longTermSummary;
     }
 }
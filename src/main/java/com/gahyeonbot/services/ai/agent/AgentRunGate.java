@@ -0,0 +1,18 @@
+package com.gahyeonbot.services.ai.agent;
+
+/**
+ * 실행과 나란히 진행되는 검사(예: Moderation)가 최종 답변 확정을 막을 수 있게 하는 훅.
+ * 런타임은 실행이 시작되면 {@link #started}를, 답변을 성공으로 기록하기 직전에 {@link #awaitRelease}를 호출합니다.
+ */
+public interface AgentRunGate {
+    /**
+     * 실행이 RUNNING으로 전이된 직후 호출됩니다. 검사 결과에 따라 이 실행을 취소할 때 쓰는 ID입니다.
+     */
+    default void started(String runId) {
+    }
+
+    /**
+     * 검사가 끝날 때까지 기다립니다. 답변을 내보내면 안 되면 예외를 던지며, 런타임은 답변을 기록하지 않습니다.
+     */
+    void awaitRelease(String runId) throws Exception;
+}
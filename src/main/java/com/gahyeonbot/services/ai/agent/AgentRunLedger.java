@@ -6,25 +6,49 @@ import com.gahyeonbot.entity.AgentSession;
 import com.gahyeonbot.repository.AgentRunEventRepository;
 import com.gahyeonbot.repository.AgentRunRepository;
 import com.gahyeonbot.repository.AgentSessionRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 에이전트 실행 상태와 이벤트 원장.
+ * 상태 전이는 행을 잠그고 즉시 기록합니다. write-behind 모드에서는 RUNNING 동안의 step/모델/도구 이벤트를
+ * 실행별 메모리 저널에 쌓고 시퀀스를 로컬에서 매긴 뒤, 다음 상태 전이(대기/종료) 트랜잭션에서 JDBC 배치로 기록합니다.
+ * 저널이 커지거나 오래되면 중간에도 기록하여 updatedAt을 갱신하므로, 프로세스가 죽더라도
+ * RUNNING으로 남은 행은 {@link AgentRecoveryService}가 기존처럼 정리합니다.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AgentRunLedger {
     private static final Map<AgentRunStatus, EnumSet<AgentRunStatus>> TRANSITIONS = transitions();
+    private static final int MAX_PENDING_EVENTS = 64;
+    private static final Duration MAX_PENDING_AGE = Duration.ofSeconds(30);
 
     private final AgentSessionRepository sessionRepository;
     private final AgentRunRepository runRepository;
     private final AgentRunEventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Journal> journals = new ConcurrentHashMap<>();
+
+    @Value("${agent.ledger.write-behind:true}")
+    private boolean writeBehind = true;
 
     @Transactional
     public AgentRun create(AgentRunRequest request) {
@@ -70,43 +94,54 @@ public class AgentRunLedger {
         if (!TRANSITIONS.getOrDefault(current, EnumSet.noneOf(AgentRunStatus.class)).contains(target)) {
             throw new IllegalStateException("허용되지 않은 agent run 상태 전이: " + current + " -> " + target);
         }
+        flushJournal(run);
         LocalDateTime now = LocalDateTime.now();
         run.setStatus(target);
         run.setUpdatedAt(now);
         if (target == AgentRunStatus.RUNNING && run.getStartedAt() == null) run.setStartedAt(now);
         if (target.terminal()) run.setCompletedAt(now);
         appendLocked(run, eventType, null, payload);
+        if (target == AgentRunStatus.RUNNING && writeBehind) {
+            journals.put(runId, new Journal(run));
+        }
         return run;
     }
 
-    @Transactional
+    /**
+     * step을 하나 진행합니다. 저널이 열려 있으면 메모리에서 처리하고, 아니면 행을 잠그고 바로 기록합니다.
+     */
     public AgentRun advanceStep(String runId, AgentEventType eventType, String payload) {
-        AgentRun run = locked(runId);
-        if (run.getStatus() != AgentRunStatus.RUNNING) {
-            throw new IllegalStateException("RUNNING 상태에서만 step을 진행할 수 있습니다.");
-        }
-        if (run.getCurrentStep() >= run.getMaxSteps()) {
-            throw new StepLimitExceededException(runId, run.getMaxSteps());
-        }
-        run.setCurrentStep(run.getCurrentStep() + 1);
-        run.setUpdatedAt(LocalDateTime.now());
-        appendLocked(run, eventType, null, payload);
-        return run;
+        AgentRun buffered = appendBuffered(runId, true, eventType, null, payload);
+        if (buffered != null) return buffered;
+        return transactionTemplate.execute(status -> {
+            AgentRun run = locked(runId);
+            if (run.getStatus() != AgentRunStatus.RUNNING) {
+                throw new IllegalStateException("RUNNING 상태에서만 step을 진행할 수 있습니다.");
+            }
+            if (run.getCurrentStep() >= run.getMaxSteps()) {
+                throw new StepLimitExceededException(runId, run.getMaxSteps());
+            }
+            run.setCurrentStep(run.getCurrentStep() + 1);
+            run.setUpdatedAt(LocalDateTime.now());
+            appendLocked(run, eventType, null, payload);
+            return run;
+        });
     }
 
-    @Transactional
     public void appendToolEvent(
             String runId,
             AgentEventType eventType,
             String toolName,
             String payload) {
-        AgentRun run = locked(runId);
-        appendLocked(run, eventType, toolName, payload);
+        if (appendBuffered(runId, false, eventType, toolName, payload) != null) return;
+        transactionTemplate.executeWithoutResult(status ->
+                appendLocked(locked(runId), eventType, toolName, payload));
     }
 
     @Transactional
     public AgentRun succeed(String runId, String output) {
         AgentRun run = locked(runId);
+        flushJournal(run);
         run.setOutputText(output);
         return transitionLocked(run, AgentRunStatus.SUCCEEDED, AgentEventType.RUN_SUCCEEDED, null);
     }
@@ -114,6 +149,9 @@ public class AgentRunLedger {
     @Transactional
     public AgentRun fail(String runId, String errorCode, String errorMessage) {
         AgentRun run = locked(runId);
+        // 실행 도중 취소되어 멈춘 경우 취소 상태를 그대로 둡니다.
+        if (run.getStatus() == AgentRunStatus.CANCELLED) return run;
+        flushJournal(run);
         run.setErrorCode(errorCode);
         run.setErrorMessage(errorMessage);
         return transitionLocked(run, AgentRunStatus.FAILED, AgentEventType.RUN_FAILED, errorCode);
@@ -126,6 +164,7 @@ public class AgentRunLedger {
             throw new SecurityException("이 실행을 취소할 권한이 없습니다.");
         }
         if (run.getStatus().terminal()) return run;
+        flushJournal(run);
         return transitionLocked(run, AgentRunStatus.CANCELLED, AgentEventType.RUN_CANCELLED, reason);
     }
 
@@ -145,6 +184,20 @@ public class AgentRunLedger {
         return run;
     }
 
+    /**
+     * 종료 시 열린 저널을 기록합니다. 실행은 RUNNING으로 남아 복구 서비스가 정리합니다.
+     */
+    @PreDestroy
+    void flushJournals() {
+        for (String runId : journals.keySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> flushJournal(locked(runId)));
+            } catch (Exception e) {
+                log.warn("agent run 저널 기록 실패 run={}", runId, e);
+            }
+        }
+    }
+
     private AgentSession getOrCreateSession(AgentRunRequest request) {
         return sessionRepository.findBySessionKey(request.sessionKey()).orElseGet(() -> {
             LocalDateTime now = LocalDateTime.now();
@@ -170,6 +223,76 @@ public class AgentRunLedger {
                 .orElseThrow(() -> new IllegalArgumentException("agent run을 찾을 수 없습니다: " + runId));
     }
 
+    /**
+     * 열린 저널에 이벤트를 쌓습니다. 저널이 없거나 이미 닫혔으면 null을 반환하여 호출자가 바로 기록하게 합니다.
+     * DB 기록은 저널 잠금을 놓은 뒤에 하므로, 행 잠금을 쥔 상태 전이와 잠금 순서가 엇갈리지 않습니다.
+     */
+    private AgentRun appendBuffered(
+            String runId,
+            boolean advance,
+            AgentEventType type,
+            String toolName,
+            String payload) {
+        Journal journal = journals.get(runId);
+        if (journal == null) return null;
+        List<AgentRunEvent> due;
+        journal.lock.lock();
+        try {
+            if (journal.closed) return null;
+            AgentRun run = journal.run;
+            if (advance) {
+                if (run.getCurrentStep() >= run.getMaxSteps()) {
+                    throw new StepLimitExceededException(runId, run.getMaxSteps());
+                }
+                run.setCurrentStep(run.getCurrentStep() + 1);
+            }
+            journal.append(type, toolName, payload);
+            due = journal.drainIfDue();
+        } finally {
+            journal.lock.unlock();
+        }
+        if (due != null) {
+            transactionTemplate.executeWithoutResult(status -> writeEvents(locked(runId), due));
+        }
+        return journal.run;
+    }
+
+    /**
+     * 실행의 저널을 닫고 남은 이벤트를 잠긴 행과 같은 트랜잭션에 기록합니다.
+     * 상태 전이 이벤트보다 먼저 호출되어야 시퀀스 순서가 유지됩니다.
+     * 다른 스레드가 비운 중간 묶음이 아직 기록 전일 수 있으므로, 남은 이벤트가 없어도
+     * 행의 step과 다음 시퀀스를 저널이 매긴 값까지 올려 그 묶음과 시퀀스가 겹치지 않게 합니다.
+     */
+    private void flushJournal(AgentRun run) {
+        Journal journal = journals.remove(run.getId());
+        if (journal == null) return;
+        List<AgentRunEvent> pending;
+        int journalStep;
+        long journalNextSequence;
+        journal.lock.lock();
+        try {
+            journal.closed = true;
+            pending = journal.drain();
+            journalStep = journal.run.getCurrentStep();
+            journalNextSequence = journal.run.getNextEventSequence();
+        } finally {
+            journal.lock.unlock();
+        }
+        run.setCurrentStep(Math.max(run.getCurrentStep(), journalStep));
+        run.setNextEventSequence(Math.max(run.getNextEventSequence(), journalNextSequence));
+        writeEvents(run, pending);
+    }
+
+    private void writeEvents(AgentRun run, List<AgentRunEvent> events) {
+        if (events.isEmpty()) return;
+        AgentRunEvent last = events.get(events.size() - 1);
+        // 중간 기록과 종료 기록이 어떤 순서로 커밋되더라도 카운터가 뒤로 가지 않게 합니다.
+        run.setCurrentStep(Math.max(run.getCurrentStep(), last.getStep()));
+        run.setNextEventSequence(Math.max(run.getNextEventSequence(), last.getSequence() + 1));
+        run.setUpdatedAt(LocalDateTime.now());
+        eventRepository.insertAll(events);
+    }
+
     private void appendLocked(AgentRun run, AgentEventType type, String toolName, String payload) {
         long sequence = run.getNextEventSequence();
         run.setNextEventSequence(sequence + 1);
@@ -199,6 +322,50 @@ public class AgentRunLedger {
         return Map.copyOf(result);
     }
 
+    /**
+     * RUNNING 실행 하나의 메모리 저널. step과 다음 시퀀스는 {@code run} 스냅샷에서 로컬로 진행합니다.
+     */
+    private static final class Journal {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AgentRun run;
+        private List<AgentRunEvent> pending = new ArrayList<>();
+        private long firstPendingNanos;
+        private boolean closed;
+
+        private Journal(AgentRun run) {
+            this.run = run;
+        }
+
+        private void append(AgentEventType type, String toolName, String payload) {
+            if (pending.isEmpty()) firstPendingNanos = System.nanoTime();
+            long sequence = run.getNextEventSequence();
+            run.setNextEventSequence(sequence + 1);
+            pending.add(AgentRunEvent.builder()
+                    .run(run)
+                    .sequence(sequence)
+                    .eventType(type)
+                    .step(run.getCurrentStep())
+                    .toolName(toolName)
+                    .payload(payload)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        private List<AgentRunEvent> drainIfDue() {
+            if (pending.size() < MAX_PENDING_EVENTS
+                    && System.nanoTime() - firstPendingNanos < MAX_PENDING_AGE.toNanos()) {
+                return null;
+            }
+            return drain();
+        }
+
+        private List<AgentRunEvent> drain() {
+            List<AgentRunEvent> drained = pending;
+            pending = new ArrayList<>();
+            return drained;
+        }
+    }
+
     public static class StepLimitExceededException extends RuntimeException {
         public StepLimitExceededException(String runId, int maxSteps) {
             super("agent run step limit 초과: runId=" + runId + ", maxSteps=" + maxSteps);
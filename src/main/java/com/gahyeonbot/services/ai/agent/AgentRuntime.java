@@ -3,6 +3,31 @@ package com.gahyeonbot.services.ai.agent;
 public interface AgentRuntime {
     AgentResult execute(AgentRequest request);
 
+    /**
+     * 답변 텍스트를 만들어지는 대로 {@code listener}에 전달하며 실행합니다.
+     * 기본 구현은 스트리밍 없이 실행한 뒤 완성된 답변을 한 번 전달합니다.
+     */
+    default AgentResult execute(AgentRequest request, AgentStreamListener listener) {
+        AgentResult result = execute(request);
+        listener.onPartial(result.content());
+        return result;
+    }
+
+    /**
+     * {@code gate}가 답변을 내보내도 된다고 할 때까지 성공 기록을 미루며 실행합니다.
+     * {@code listener}가 null이면 스트리밍하지 않습니다. 기본 구현은 실행이 끝난 뒤 gate를 확인합니다.
+     */
+    default AgentResult execute(AgentRequest request, AgentStreamListener listener, AgentRunGate gate) {
+        AgentResult result = listener == null ? execute(request) : execute(request, listener);
+        try {
+            gate.started(result.runId());
+            gate.awaitRelease(result.runId());
+        } catch (Exception e) {
+            throw new AgentExecutionException(result.runId(), "RUN_GATE_REJECTED", "답변이 보류되었습니다.", e);
+        }
+        return result;
+    }
+
     AgentResult resume(String runId, long actorUserId);
 
     AgentResult resumeBackground(String runId, String backgroundResult);
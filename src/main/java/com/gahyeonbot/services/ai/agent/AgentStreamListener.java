@@ -0,0 +1,20 @@
+package com.gahyeonbot.services.ai.agent;
+
+/**
+ * 스트리밍 실행 중 모델이 만든 답변 텍스트를 받는 콜백.
+ * 실행 스레드에서 호출되므로 오래 걸리는 작업은 비동기로 넘겨야 합니다.
+ */
+public interface AgentStreamListener {
+    /**
+     * 현재 모델 호출에서 지금까지 만들어진 답변 텍스트. 사고 과정 태그는 제외됩니다.
+     *
+     * @param text 누적 텍스트 (이전 호출의 텍스트를 포함)
+     */
+    void onPartial(String text);
+
+    /**
+     * 텍스트를 내보낸 모델 호출이 도구 호출로 끝나, 지금까지의 텍스트가 최종 답변이 아님을 알립니다.
+     */
+    default void onReset() {
+    }
+}
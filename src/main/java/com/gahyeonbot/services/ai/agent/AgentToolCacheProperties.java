@@ -0,0 +1,40 @@
+package com.gahyeonbot.services.ai.agent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 에이전트 도구 결과 캐시 설정.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "agent.tool-cache")
+public class AgentToolCacheProperties {
+    private boolean enabled = true;
+    /** 캐시에 보관할 최대 결과 수. */
+    private int maxEntries = 500;
+    /** 도구별 TTL이 없을 때 쓰는 보관 시간(초). */
+    private long defaultTtlSeconds = 60;
+    /** 도구 이름별 보관 시간(초). 0이면 해당 도구는 캐시하지 않습니다. */
+    private Map<String, Long> ttlSeconds = new HashMap<>(Map.of(
+            "get_current_weather", 600L,
+            "get_weather_forecast", 1_800L,
+            "get_supported_weather_locations", 86_400L,
+            "get_collected_github_trending", 3_600L,
+            "get_collected_github_repository", 3_600L,
+            "search_collected_github_repositories", 3_600L,
+            "search_collected_ai_papers", 600L,
+            "search_recent_collected_ai_papers", 600L,
+            "get_collected_ai_paper_by_arxiv_id", 3_600L,
+            "get_internal_knowledge_freshness", 60L));
+
+    long ttlSecondsFor(String toolName) {
+        return ttlSeconds.getOrDefault(toolName, defaultTtlSeconds);
+    }
+}
@@ -0,0 +1,133 @@
+package com.gahyeonbot.services.ai.agent;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 한 step의 도구 호출 실행기.
+ * 읽기 전용 도구는 가상 스레드에서 step당 최대 {@code agent.tools.max-concurrency}개까지 동시에 실행하고,
+ * 나머지는 요청 순서대로 하나씩 실행합니다. 각 호출은 {@code agent.tools.timeout-seconds} 안에 끝나야 하며,
+ * 결과는 항상 모델이 요청한 순서로 돌려줍니다.
+ */
+@Component
+public class AgentToolExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxConcurrency;
+    private final Duration timeout;
+
+    @Autowired
+    public AgentToolExecutor(
+            @Value("${agent.tools.max-concurrency:4}") int maxConcurrency,
+            @Value("${agent.tools.timeout-seconds:30}") long timeoutSeconds) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.timeout = Duration.ofSeconds(Math.max(1, timeoutSeconds));
+    }
+
+    AgentToolExecutor(int maxConcurrency, Duration timeout) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.timeout = timeout;
+    }
+
+    /**
+     * 도구 호출들을 실행합니다. 실패한 호출도 결과에 담기며, 예외를 던지지 않습니다.
+     *
+     * @param tasks 모델이 요청한 순서의 도구 호출
+     * @return 같은 순서의 실행 결과
+     */
+    public List<Outcome> executeAll(List<Task> tasks) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<Outcome>> concurrent = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            concurrent.add(task.concurrent()
+                    ? executor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            return run(task);
+                        } finally {
+                            permits.release();
+                        }
+                    })
+                    : null);
+        }
+        List<Outcome> outcomes = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Future<Outcome> future = concurrent.get(i);
+            outcomes.add(future == null ? run(tasks.get(i)) : await(tasks.get(i), future));
+        }
+        return outcomes;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Outcome run(Task task) {
+        long startedNanos = System.nanoTime();
+        Future<String> call = executor.submit(task.call());
+        try {
+            String result = call.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return new Outcome(result, null, System.nanoTime() - startedNanos);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            return new Outcome(null, new IllegalStateException(
+                    "도구 호출 시간이 초과되었습니다: " + task.name() + " (" + timeout.toMillis() + "ms)"),
+                    System.nanoTime() - startedNanos);
+        } catch (ExecutionException e) {
+            return new Outcome(null, unwrap(e), System.nanoTime() - startedNanos);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            return new Outcome(null, e, System.nanoTime() - startedNanos);
+        }
+    }
+
+    private static Outcome await(Task task, Future<Outcome> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new Outcome(null, unwrap(e), 0);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return new Outcome(null, new IllegalStateException("도구 호출이 중단되었습니다: " + task.name(), e), 0);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        return e.getCause() instanceof Exception cause ? cause : e;
+    }
+
+    /**
+     * @param name 도구 이름 (오류 메시지용)
+     * @param call 실제 도구 호출
+     * @param concurrent 다른 호출과 동시에 실행해도 되는지 여부
+     */
+    public record Task(String name, Callable<String> call, boolean concurrent) {
+    }
+
+    /**
+     * @param result 성공 시 도구 결과
+     * @param failure 실패 시 원인
+     * @param nanos 도구 실행에 걸린 시간 (대기 시간 제외)
+     */
+    public record Outcome(String result, Exception failure, long nanos) {
+        public boolean succeeded() {
+            return failure == null;
+        }
+    }
+}
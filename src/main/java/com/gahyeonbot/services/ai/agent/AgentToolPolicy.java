@@ -2,6 +2,7 @@ package com.gahyeonbot.services.ai.agent;
 
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Component
@@ -41,4 +42,13 @@ public class AgentToolPolicy {
     public AgentToolRisk riskOf(String toolName) {
         return risks.get(toolName);
     }
+
+    /**
+     * 위험도를 더한 새 정책을 만듭니다. 이 정책은 바뀌지 않으며, 이미 있는 도구의 위험도는 새 값으로 덮어씁니다.
+     */
+    public AgentToolPolicy withRisks(Map<String, AgentToolRisk> additions) {
+        Map<String, AgentToolRisk> merged = new HashMap<>(risks);
+        merged.putAll(additions);
+        return new AgentToolPolicy(merged);
+    }
 }
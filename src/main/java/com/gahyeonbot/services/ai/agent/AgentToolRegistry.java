@@ -0,0 +1,133 @@
+package com.gahyeonbot.services.ai.agent;
+
+import com.gahyeonbot.services.ai.GitHubKnowledgeTools;
+import com.gahyeonbot.services.ai.KnowledgeFreshnessTools;
+import com.gahyeonbot.services.ai.PaperKnowledgeTools;
+import com.gahyeonbot.services.ai.WeatherTools;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에이전트 도구 레지스트리.
+ * {@code @Tool} 메서드 리플렉션과 JSON 스키마 생성은 시작할 때와 도구가 등록될 때만 하고,
+ * 게이트웨이별로 {@link AgentToolPolicy}가 거부하지 않는 도구만 담은 불변 뷰를 미리 만들어 둡니다.
+ * 실행마다 {@link #view(AgentGateway)}로 현재 뷰를 가져가며, {@link #register}는 정책과 뷰를 모두 새로 만든 뒤
+ * 스냅샷 하나로 교체하므로 실행은 항상 같은 정책으로 만든 뷰를 봅니다.
+ */
+@Slf4j
+@Component
+public class AgentToolRegistry {
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public AgentToolRegistry(
+            AgentToolPolicy toolPolicy,
+            WeatherTools weatherTools,
+            GitHubKnowledgeTools gitHubKnowledgeTools,
+            PaperKnowledgeTools paperKnowledgeTools,
+            KnowledgeFreshnessTools knowledgeFreshnessTools) {
+        this(toolPolicy, List.of(weatherTools, gitHubKnowledgeTools, paperKnowledgeTools, knowledgeFreshnessTools));
+    }
+
+    AgentToolRegistry(AgentToolPolicy toolPolicy, List<Object> toolObjects) {
+        this.snapshot = new Snapshot(toolPolicy, List.copyOf(toolObjects), buildViews(toolPolicy, toolObjects));
+    }
+
+    /**
+     * 게이트웨이에서 쓸 수 있는 도구 뷰. 재시작 없이 등록된 도구도 다음 실행부터 반영됩니다.
+     */
+    public View view(AgentGateway gateway) {
+        return snapshot.views().get(gateway);
+    }
+
+    /**
+     * {@code @Tool} 메서드를 가진 객체와 위험도를 더한 정책으로 뷰를 다시 만들어 교체합니다.
+     * 만들다 실패하면 아무것도 바뀌지 않고, 진행 중인 실행은 이전 뷰를 계속 사용합니다.
+     *
+     * @param toolObject 도구 객체
+     * @param risks 도구 이름별 위험도 (등록하지 않은 도구는 정책상 거부되어 뷰에 나타나지 않습니다)
+     */
+    public synchronized void register(Object toolObject, Map<String, AgentToolRisk> risks) {
+        Snapshot current = snapshot;
+        AgentToolPolicy policy = current.policy().withRisks(risks);
+        List<Object> toolObjects = new ArrayList<>(current.toolObjects());
+        toolObjects.add(toolObject);
+        snapshot = new Snapshot(policy, List.copyOf(toolObjects), buildViews(policy, toolObjects));
+        log.info("에이전트 도구 등록 완료 type={}, tools={}", toolObject.getClass().getSimpleName(), risks.keySet());
+    }
+
+    private static Map<AgentGateway, View> buildViews(AgentToolPolicy toolPolicy, List<Object> toolObjects) {
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(toolObjects.toArray())
+                .build()
+                .getToolCallbacks();
+        Map<AgentGateway, View> built = new EnumMap<>(AgentGateway.class);
+        for (AgentGateway gateway : AgentGateway.values()) {
+            Map<String, ToolCallback> byName = new LinkedHashMap<>();
+            for (ToolCallback callback : callbacks) {
+                String name = callback.getToolDefinition().name();
+                if (toolPolicy.decide(gateway, name) != AgentToolDecision.DENY) byName.put(name, callback);
+            }
+            built.put(gateway, new View(gateway, toolPolicy, byName));
+        }
+        return Collections.unmodifiableMap(built);
+    }
+
+    private record Snapshot(AgentToolPolicy policy, List<Object> toolObjects, Map<AgentGateway, View> views) {
+    }
+
+    /**
+     * 한 게이트웨이의 도구 스냅샷. 뷰를 만든 정책도 함께 들고 있어 도구 목록과 허용 판단이 어긋나지 않습니다.
+     */
+    public static final class View {
+        private final AgentGateway gateway;
+        private final AgentToolPolicy policy;
+        private final Map<String, ToolCallback> callbacks;
+        private final ToolCallingChatOptions options;
+
+        private View(AgentGateway gateway, AgentToolPolicy policy, Map<String, ToolCallback> callbacks) {
+            this.gateway = gateway;
+            this.policy = policy;
+            this.callbacks = Collections.unmodifiableMap(callbacks);
+            this.options = DefaultToolCallingChatOptions.builder()
+                    .toolCallbacks(List.copyOf(callbacks.values()))
+                    .internalToolExecutionEnabled(false)
+                    .build();
+        }
+
+        public ToolCallback callback(String name) {
+            return callbacks.get(name);
+        }
+
+        public Map<String, ToolCallback> callbacks() {
+            return callbacks;
+        }
+
+        public AgentToolDecision decide(String toolName) {
+            return policy.decide(gateway, toolName);
+        }
+
+        public AgentToolRisk riskOf(String toolName) {
+            return policy.riskOf(toolName);
+        }
+
+        /**
+         * 이 뷰의 도구로 미리 만들어 둔 옵션의 사본. 모델 호출이 옵션을 바꿔도 다른 실행에 영향이 없습니다.
+         */
+        public ToolCallingChatOptions newOptions() {
+            return options.copy();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.gahyeonbot.services.ai.agent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도구 이름과 정규화된 인자를 키로 하는 크기 제한 + TTL 도구 결과 캐시.
+ * 같은 키의 호출이 동시에 들어오면 하나만 실제로 실행하고 나머지는 그 결과를 함께 받습니다.
+ * 실패한 호출은 캐시하지 않습니다.
+ */
+@Component
+public class AgentToolResultCache {
+    private final AgentToolCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(128, 0.75f, true);
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public AgentToolResultCache(
+            AgentToolCacheProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("gahyeonbot.agent.tool.cache.size", this, AgentToolResultCache::size);
+    }
+
+    /**
+     * 캐시된 결과를 반환하거나, 없으면 {@code loader}로 실행해 보관합니다.
+     *
+     * @param toolName 도구 이름
+     * @param arguments 모델이 보낸 JSON 인자
+     * @param loader 실제 도구 호출
+     * @return 도구 결과
+     * @throws Exception 실제 호출(또는 함께 기다린 호출)이 실패한 경우
+     */
+    public String call(String toolName, String arguments, Callable<String> loader) throws Exception {
+        long ttlSeconds = properties.ttlSecondsFor(toolName);
+        if (!properties.isEnabled() || ttlSeconds <= 0) return loader.call();
+
+        String key = toolName + ":" + normalizeArguments(arguments);
+        Entry cached = lookup(key);
+        if (cached != null) {
+            record(toolName, "hit");
+            Timer.builder("gahyeonbot.agent.tool.cache.saved")
+                    .tag("tool", toolName)
+                    .register(meterRegistry)
+                    .record(cached.loadNanos, TimeUnit.NANOSECONDS);
+            return cached.result;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            record(toolName, "shared");
+            try {
+                return running.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        record(toolName, "miss");
+        long startedNanos = System.nanoTime();
+        try {
+            String result = loader.call();
+            store(key, new Entry(result, System.nanoTime() - startedNanos,
+                    System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * JSON 인자의 키 순서와 문자열 표기 차이를 없앱니다. JSON이 아니면 앞뒤 공백만 제거합니다.
+     */
+    String normalizeArguments(String arguments) {
+        if (arguments == null || arguments.isBlank()) return "{}";
+        try {
+            return objectMapper.writeValueAsString(canonical(objectMapper.readTree(arguments)));
+        } catch (Exception e) {
+            return arguments.strip();
+        }
+    }
+
+    private static Object canonical(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, Object> sorted = new TreeMap<>();
+            node.fields().forEachRemaining(field -> sorted.put(field.getKey(), canonical(field.getValue())));
+            return sorted;
+        }
+        if (node.isArray()) {
+            List<Object> items = new ArrayList<>(node.size());
+            node.forEach(item -> items.add(canonical(item)));
+            return items;
+        }
+        if (node.isTextual()) {
+            return Normalizer.normalize(node.asText(), Normalizer.Form.NFKC).strip();
+        }
+        return node;
+    }
+
+    private synchronized Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        entries.put(key, entry);
+        while (entries.size() > Math.max(1, properties.getMaxEntries())) {
+            entries.pollFirstEntry();
+        }
+    }
+
+    private void record(String toolName, String result) {
+        meterRegistry.counter("gahyeonbot.agent.tool.cache", "tool", toolName, "result", result).increment();
+    }
+
+    private record Entry(String result, long loadNanos, long expiresAt) {}
+}
@@ -11,15 +11,14 @@ import org.springframework.ai.chat.messages.*;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
-import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -33,16 +32,30 @@ public class DefaultAgentRuntime implements AgentRuntime {
     private final AgentRunLedger ledger;
     private final AgentRunRepository runRepository;
     private final AgentApprovalService approvalService;
-    private final AgentToolPolicy toolPolicy;
+    private final AgentToolExecutor toolExecutor;
+    private final AgentToolRegistry toolRegistry;
+    private final AgentToolResultCache toolResultCache;
     private final AgentPromptProvider promptProvider;
     private final MeterRegistry meterRegistry;
-    private final WeatherTools weatherTools;
-    private final GitHubKnowledgeTools gitHubKnowledgeTools;
-    private final PaperKnowledgeTools paperKnowledgeTools;
-    private final KnowledgeFreshnessTools knowledgeFreshnessTools;
 
     @Override
     public AgentResult execute(AgentRequest request) {
+        return execute(request, null);
+    }
+
+    /**
+     * {@code listener}가 있으면 모델을 스트리밍으로 호출하여 답변 텍스트를 만들어지는 대로 전달합니다.
+     */
+    @Override
+    public AgentResult execute(AgentRequest request, AgentStreamListener listener) {
+        return execute(request, listener, null);
+    }
+
+    /**
+     * {@code gate}가 있으면 최종 답변을 성공으로 기록하기 전에 gate의 허용을 기다립니다.
+     */
+    @Override
+    public AgentResult execute(AgentRequest request, AgentStreamListener listener, AgentRunGate gate) {
         long startedNanos = System.nanoTime();
         AgentRun run = ledger.create(request.toRunRequest());
         if (run.getStatus() == AgentRunStatus.SUCCEEDED) {
@@ -55,7 +68,8 @@ public class DefaultAgentRuntime implements AgentRuntime {
         }
 
         ledger.transition(run.getId(), AgentRunStatus.RUNNING, AgentEventType.RUN_STARTED, null);
-        return runLoop(request, run, startedNanos, null);
+        if (gate != null) gate.started(run.getId());
+        return runLoop(request, run, startedNanos, null, listener, gate);
     }
 
     @Override
@@ -81,7 +95,7 @@ public class DefaultAgentRuntime implements AgentRuntime {
                 run.getInputText(),
                 run.getMaxSteps());
         ledger.transition(runId, AgentRunStatus.RUNNING, AgentEventType.RUN_RESUMED, "approval");
-        return runLoop(request, run, System.nanoTime(), null);
+        return runLoop(request, run, System.nanoTime(), null, null, null);
     }
 
     @Override
@@ -102,37 +116,32 @@ public class DefaultAgentRuntime implements AgentRuntime {
                 run.getMaxSteps());
         ledger.transition(runId, AgentRunStatus.RUNNING,
                 AgentEventType.BACKGROUND_RESULT_RECEIVED, limited(backgroundResult));
-        return runLoop(request, run, System.nanoTime(), backgroundResult);
+        return runLoop(request, run, System.nanoTime(), backgroundResult, null, null);
     }
 
     private AgentResult runLoop(
             AgentRequest request,
             AgentRun run,
             long startedNanos,
-            String backgroundResult) {
+            String backgroundResult,
+            AgentStreamListener listener,
+            AgentRunGate gate) {
         List<String> usedTools = new ArrayList<>();
+        AtomicBoolean firstToken = new AtomicBoolean();
         try {
             ConversationHistoryService.AgentConversationContext memory = loadMemory(request.userId());
             List<Message> messages = initialMessages(request, memory, backgroundResult);
-            ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
-                    .toolObjects(weatherTools, gitHubKnowledgeTools, paperKnowledgeTools, knowledgeFreshnessTools)
-                    .build()
-                    .getToolCallbacks();
-            Map<String, ToolCallback> callbackByName = new LinkedHashMap<>();
-            for (ToolCallback callback : callbacks) {
-                callbackByName.put(callback.getToolDefinition().name(), callback);
-            }
-            var options = DefaultToolCallingChatOptions.builder()
-                    .toolCallbacks(callbacks)
-                    .internalToolExecutionEnabled(false)
-                    .build();
+            AgentToolRegistry.View tools = toolRegistry.view(request.gateway());
+            var options = tools.newOptions();
             AgentLoopGuard loopGuard = new AgentLoopGuard(REPEATED_TOOL_CALL_LIMIT);
 
             while (true) {
                 AgentRun stepped = ledger.advanceStep(
                         run.getId(), AgentEventType.MODEL_CALL_STARTED, null);
-                ChatResponse response = chatModel.call(new Prompt(messages, options));
-                AssistantMessage assistant = response.getResult().getOutput();
+                Prompt prompt = new Prompt(messages, options);
+                AssistantMessage assistant = listener == null
+                        ? chatModel.call(prompt).getResult().getOutput()
+                        : streamModelCall(prompt, request.gateway(), startedNanos, listener, firstToken);
                 ledger.appendToolEvent(
                         run.getId(), AgentEventType.MODEL_CALL_COMPLETED, null,
                         "toolCalls=" + assistant.getToolCalls().size());
@@ -141,6 +150,7 @@ public class DefaultAgentRuntime implements AgentRuntime {
                 if (!assistant.hasToolCalls()) {
                     String content = sanitizeFinalResponse(assistant.getText());
                     if (content.isBlank()) throw new IllegalStateException("모델의 최종 응답이 비어 있습니다.");
+                    if (gate != null) gate.awaitRelease(run.getId());
                     ledger.succeed(run.getId(), content);
                     historyService.saveConversation(request.userId(), request.message(), content);
                     Duration duration = Duration.ofNanos(System.nanoTime() - startedNanos);
@@ -148,14 +158,15 @@ public class DefaultAgentRuntime implements AgentRuntime {
                     return new AgentResult(run.getId(), content, usedTools, duration);
                 }
 
-                List<ToolResponseMessage.ToolResponse> toolResponses = new ArrayList<>();
+                List<AssistantMessage.ToolCall> admitted = new ArrayList<>();
+                List<AgentToolExecutor.Task> tasks = new ArrayList<>();
                 for (AssistantMessage.ToolCall toolCall : assistant.getToolCalls()) {
                     loopGuard.recordToolCall(toolCall.name(), toolCall.arguments());
-                    ToolCallback callback = callbackByName.get(toolCall.name());
+                    ToolCallback callback = tools.callback(toolCall.name());
                     if (callback == null) {
                         throw new IllegalStateException("등록되지 않은 도구입니다: " + toolCall.name());
                     }
-                    AgentToolDecision decision = toolPolicy.decide(request.gateway(), toolCall.name());
+                    AgentToolDecision decision = tools.decide(toolCall.name());
                     ledger.appendToolEvent(run.getId(), AgentEventType.TOOL_CALL_REQUESTED,
                             toolCall.name(), limited(toolCall.arguments()));
                     if (decision == AgentToolDecision.DENY) {
@@ -176,22 +187,43 @@ public class DefaultAgentRuntime implements AgentRuntime {
                         }
                     }
 
+                    admitted.add(toolCall);
+                    boolean readOnly = isConcurrentSafe(tools, toolCall.name());
+                    tasks.add(new AgentToolExecutor.Task(
+                            toolCall.name(),
+                            readOnly
+                                    ? () -> toolResultCache.call(toolCall.name(), toolCall.arguments(),
+                                            () -> callback.call(toolCall.arguments()))
+                                    : () -> callback.call(toolCall.arguments()),
+                            readOnly));
+                }
+
+                for (AssistantMessage.ToolCall toolCall : admitted) {
                     ledger.appendToolEvent(
                             run.getId(), AgentEventType.TOOL_CALL_STARTED, toolCall.name(), null);
-                    String toolResult;
-                    try {
-                        toolResult = callback.call(toolCall.arguments());
-                    } catch (Exception toolFailure) {
+                }
+                long toolsStartedNanos = System.nanoTime();
+                List<AgentToolExecutor.Outcome> outcomes = toolExecutor.executeAll(tasks);
+                recordToolStepMetrics(request.gateway(), System.nanoTime() - toolsStartedNanos, outcomes);
+
+                List<ToolResponseMessage.ToolResponse> toolResponses = new ArrayList<>();
+                Exception firstFailure = null;
+                for (int i = 0; i < admitted.size(); i++) {
+                    AssistantMessage.ToolCall toolCall = admitted.get(i);
+                    AgentToolExecutor.Outcome outcome = outcomes.get(i);
+                    if (!outcome.succeeded()) {
                         ledger.appendToolEvent(run.getId(), AgentEventType.TOOL_CALL_FAILED,
-                                toolCall.name(), limited(toolFailure.getMessage()));
-                        throw toolFailure;
+                                toolCall.name(), limited(outcome.failure().getMessage()));
+                        if (firstFailure == null) firstFailure = outcome.failure();
+                        continue;
                     }
                     ledger.appendToolEvent(run.getId(), AgentEventType.TOOL_CALL_COMPLETED,
-                            toolCall.name(), limited(toolResult));
+                            toolCall.name(), limited(outcome.result()));
                     usedTools.add(toolCall.name());
                     toolResponses.add(new ToolResponseMessage.ToolResponse(
-                            toolCall.id(), toolCall.name(), toolResult));
+                            toolCall.id(), toolCall.name(), outcome.result()));
                 }
+                if (firstFailure != null) throw firstFailure;
                 messages.add(new ToolResponseMessage(toolResponses));
 
                 if (stepped.getCurrentStep() >= request.maxSteps()) {
@@ -218,6 +250,44 @@ public class DefaultAgentRuntime implements AgentRuntime {
         }
     }
 
+    /**
+     * 모델 응답을 스트리밍으로 받아 하나의 AssistantMessage로 합칩니다.
+     * 도구 호출은 청크로 나뉘어 오더라도 id별 마지막 값만 남깁니다.
+     */
+    private AssistantMessage streamModelCall(
+            Prompt prompt,
+            AgentGateway gateway,
+            long startedNanos,
+            AgentStreamListener listener,
+            AtomicBoolean firstToken) {
+        StringBuilder text = new StringBuilder();
+        Map<String, AssistantMessage.ToolCall> toolCalls = new LinkedHashMap<>();
+        String shown = "";
+        for (ChatResponse chunk : chatModel.stream(prompt).toIterable()) {
+            if (chunk == null || chunk.getResult() == null || chunk.getResult().getOutput() == null) continue;
+            AssistantMessage output = chunk.getResult().getOutput();
+            if (output.getText() != null) text.append(output.getText());
+            if (output.hasToolCalls()) {
+                for (AssistantMessage.ToolCall call : output.getToolCalls()) {
+                    String key = call.id() == null || call.id().isBlank() ? "#" + toolCalls.size() : call.id();
+                    toolCalls.put(key, call);
+                }
+            }
+            String visible = visiblePartial(text);
+            if (visible.isEmpty() || visible.equals(shown)) continue;
+            shown = visible;
+            if (firstToken.compareAndSet(false, true)) {
+                Timer.builder("gahyeonbot.agent.first.token")
+                        .tag("gateway", gateway.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry)
+                        .record(Duration.ofNanos(System.nanoTime() - startedNanos));
+            }
+            listener.onPartial(visible);
+        }
+        if (!toolCalls.isEmpty() && !shown.isEmpty()) listener.onReset();
+        return new AssistantMessage(text.toString(), Map.of(), List.copyOf(toolCalls.values()));
+    }
+
     private ConversationHistoryService.AgentConversationContext loadMemory(Long userId) {
         try {
             return historyService.buildAgentContext(userId);
@@ -232,7 +302,9 @@ public class DefaultAgentRuntime implements AgentRuntime {
             ConversationHistoryService.AgentConversationContext memory,
             String backgroundResult) {
         List<Message> messages = new ArrayList<>();
-        messages.add(new SystemMessage(promptProvider.systemPrompt(memory.summary())));
+        messages.add(new SystemMessage(promptProvider.systemPrompt()));
+        String memoryPrompt = promptProvider.memoryPrompt(memory.summary());
+        if (memoryPrompt != null) messages.add(new SystemMessage(memoryPrompt));
         messages.addAll(memory.messages());
         messages.add(new UserMessage("""
                 [gateway]
@@ -288,6 +360,28 @@ public class DefaultAgentRuntime implements AgentRuntime {
                 .record(duration);
     }
 
+    private boolean isConcurrentSafe(AgentToolRegistry.View tools, String toolName) {
+        AgentToolRisk risk = tools.riskOf(toolName);
+        return risk == AgentToolRisk.READ_ONLY || risk == AgentToolRisk.EXTERNAL_READ;
+    }
+
+    private void recordToolStepMetrics(
+            AgentGateway gateway,
+            long wallNanos,
+            List<AgentToolExecutor.Outcome> outcomes) {
+        long summedNanos = 0;
+        for (AgentToolExecutor.Outcome outcome : outcomes) summedNanos += outcome.nanos();
+        String gatewayTag = gateway.name().toLowerCase(Locale.ROOT);
+        Timer.builder("gahyeonbot.agent.tool.step.wall")
+                .tag("gateway", gatewayTag)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(wallNanos));
+        Timer.builder("gahyeonbot.agent.tool.step.summed")
+                .tag("gateway", gatewayTag)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(summedNanos));
+    }
+
     private static String limited(String value) {
         if (value == null) return null;
         return value.length() <= MAX_EVENT_PAYLOAD
@@ -295,6 +389,24 @@ public class DefaultAgentRuntime implements AgentRuntime {
                 : value.substring(0, MAX_EVENT_PAYLOAD) + "...[truncated]";
     }
 
+    /**
+     * 스트리밍 중인 텍스트에서 사용자에게 보여줄 부분만 남깁니다.
+     * 닫힌 사고 과정 뒤의 텍스트만 쓰고, 아직 열려 있는 사고 과정이나 잘린 태그는 숨깁니다.
+     */
+    static String visiblePartial(CharSequence raw) {
+        String content = raw.toString();
+        int thinkingEnd = content.toLowerCase(Locale.ROOT).lastIndexOf("</think>");
+        if (thinkingEnd >= 0) content = content.substring(thinkingEnd + "</think>".length());
+        int thinkingStart = content.toLowerCase(Locale.ROOT).indexOf("<think>");
+        if (thinkingStart >= 0) content = content.substring(0, thinkingStart);
+        int tag = content.lastIndexOf('<');
+        if (tag >= 0) {
+            String tail = content.substring(tag).toLowerCase(Locale.ROOT);
+            if ("<think>".startsWith(tail) || "</think>".startsWith(tail)) content = content.substring(0, tag);
+        }
+        return content.strip();
+    }
+
     static String sanitizeFinalResponse(String value) {
         if (value == null || value.isBlank()) return "";
         String content = value.trim();
@@ -1,6 +1,18 @@
 package com.gahyeonbot.services.assistant;
 
+import com.gahyeonbot.services.ai.agent.AgentStreamListener;
+
 public interface AssistantChatProvider {
     boolean isReady();
     String chat(long guildId, long userId, String username, String message);
+
+    /**
+     * Same as {@link #chat(long, long, String, String)}, reporting the answer text to {@code listener}
+     * as it is generated. Providers without streaming report the finished answer once.
+     */
+    default String chat(long guildId, long userId, String username, String message, AgentStreamListener listener) {
+        String answer = chat(guildId, userId, username, message);
+        listener.onPartial(answer);
+        return answer;
+    }
 }
@@ -34,6 +34,7 @@ public class AssistantProperties {
         private String language = "ko";
         private String prompt = "";
         private int timeoutSeconds = 30;
+        private boolean earlyUpload;
         private boolean apiKeyRequired = true;
         private String fallbackBaseUrl = "";
         private String fallbackEndpoint = "/transcribe";
@@ -0,0 +1,236 @@
+package com.gahyeonbot.services.assistant;
+
+import com.gahyeonbot.config.PostgresNotificationListener;
+import com.gahyeonbot.entity.GuildAssistantChannels;
+import com.gahyeonbot.repository.GuildAssistantChannelsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버별 전용 채팅/음성 채널 ID의 메모리 색인.
+ * 게이트웨이 이벤트마다 "전용 채널인가"를 DB에 묻지 않도록, 시작 시 전체를 읽어 정렬된 {@code long} 배열로 보관하고
+ * 이분 탐색으로 찾습니다. 설정이 바뀌면 배열을 복사해 통째로 바꾸므로 읽기는 잠금 없이 진행됩니다.
+ * PostgreSQL이면 다른 인스턴스의 변경을 LISTEN/NOTIFY로 받아 해당 서버만 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class GuildAssistantChannelIndex {
+    static final String CHANNEL = "guild_assistant_channels";
+
+    private final GuildAssistantChannelsRepository repository;
+    private final PostgresNotificationListener notifications;
+    private final boolean listenEnabled;
+    private final Object reloadLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 전체 다시 읽기 도중 반영된 변경. 서버 ID별 {채팅, 음성} 채널, 삭제면 null. 다시 읽는 중이 아니면 null
+    private Map<Long, long[]> changedDuringReload;
+
+    @Autowired
+    public GuildAssistantChannelIndex(
+            GuildAssistantChannelsRepository repository,
+            PostgresNotificationListener notifications,
+            @Value("${assistant.channels.listen-notify:true}") boolean listenEnabled) {
+        this.repository = repository;
+        this.notifications = notifications;
+        this.listenEnabled = listenEnabled;
+    }
+
+    GuildAssistantChannelIndex(GuildAssistantChannelsRepository repository) {
+        this(repository, null, false);
+    }
+
+    @PostConstruct
+    void start() {
+        reload();
+        if (!crossInstance()) return;
+        notifications.subscribe(CHANNEL, new PostgresNotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                refresh(Long.parseLong(payload));
+            }
+
+            @Override
+            public void onListening() {
+                // LISTEN 전에 놓친 변경이 있을 수 있으므로 한 번 다시 읽습니다.
+                reload();
+            }
+        });
+    }
+
+    /**
+     * DB의 전체 설정으로 색인을 다시 만듭니다. 읽는 동안 이 인스턴스에서 반영된 변경은 읽은 결과 위에 다시 적용합니다.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changedDuringReload = new HashMap<>();
+            }
+            try {
+                Snapshot loaded = Snapshot.of(repository.findAll());
+                synchronized (this) {
+                    for (Map.Entry<Long, long[]> change : changedDuringReload.entrySet()) {
+                        long[] channels = change.getValue();
+                        loaded = channels == null
+                                ? loaded.without(change.getKey())
+                                : loaded.with(change.getKey(), channels[0], channels[1]);
+                    }
+                    snapshot = loaded;
+                }
+                log.info("전용 채널 색인 로드 완료 - 서버 {}개", loaded.guildIds.length);
+            } finally {
+                synchronized (this) {
+                    changedDuringReload = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 서버의 전용 채팅 채널 ID, 설정되지 않았으면 0
+     */
+    public long textChannelId(long guildId) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.guildIds, guildId);
+        return index < 0 ? 0 : current.textChannelIds[index];
+    }
+
+    /**
+     * @return 서버의 전용 음성 채널 ID, 설정되지 않았으면 0
+     */
+    public long voiceChannelId(long guildId) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.guildIds, guildId);
+        return index < 0 ? 0 : current.voiceChannelIds[index];
+    }
+
+    public boolean isTextChannel(long guildId, long channelId) {
+        return channelId != 0 && textChannelId(guildId) == channelId;
+    }
+
+    public int size() {
+        return snapshot.guildIds.length;
+    }
+
+    /**
+     * 현재 트랜잭션에서 저장한 설정을 알립니다. 커밋된 뒤에 이 인스턴스의 색인을 바꾸고,
+     * PostgreSQL이면 같은 커밋에 실려 다른 인스턴스에도 전달됩니다.
+     */
+    public void changed(GuildAssistantChannels channels) {
+        long guildId = channels.getGuildId();
+        long textChannelId = channels.getTextChannelId();
+        long voiceChannelId = channels.getVoiceChannelId();
+        if (crossInstance()) {
+            notifications.notify(CHANNEL, Long.toString(guildId));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(guildId, textChannelId, voiceChannelId);
+                }
+            });
+        } else {
+            put(guildId, textChannelId, voiceChannelId);
+        }
+    }
+
+    synchronized void put(long guildId, long textChannelId, long voiceChannelId) {
+        snapshot = snapshot.with(guildId, textChannelId, voiceChannelId);
+        if (changedDuringReload != null) changedDuringReload.put(guildId, new long[]{textChannelId, voiceChannelId});
+    }
+
+    synchronized void remove(long guildId) {
+        snapshot = snapshot.without(guildId);
+        if (changedDuringReload != null) changedDuringReload.put(guildId, null);
+    }
+
+    private void refresh(long guildId) {
+        repository.findById(guildId).ifPresentOrElse(
+                channels -> put(guildId, channels.getTextChannelId(), channels.getVoiceChannelId()),
+                () -> remove(guildId));
+    }
+
+    private boolean crossInstance() {
+        return listenEnabled && notifications != null && notifications.isActive();
+    }
+
+    /**
+     * 서버 ID 오름차순으로 정렬된 색인. 만든 뒤에는 바꾸지 않습니다.
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new long[0]);
+
+        private final long[] guildIds;
+        private final long[] textChannelIds;
+        private final long[] voiceChannelIds;
+
+        private Snapshot(long[] guildIds, long[] textChannelIds, long[] voiceChannelIds) {
+            this.guildIds = guildIds;
+            this.textChannelIds = textChannelIds;
+            this.voiceChannelIds = voiceChannelIds;
+        }
+
+        private static Snapshot of(List<GuildAssistantChannels> rows) {
+            List<GuildAssistantChannels> sorted = rows.stream()
+                    .sorted(Comparator.comparing(GuildAssistantChannels::getGuildId))
+                    .toList();
+            long[] guildIds = new long[sorted.size()];
+            long[] textChannelIds = new long[sorted.size()];
+            long[] voiceChannelIds = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                guildIds[i] = sorted.get(i).getGuildId();
+                textChannelIds[i] = sorted.get(i).getTextChannelId();
+                voiceChannelIds[i] = sorted.get(i).getVoiceChannelId();
+            }
+            return new Snapshot(guildIds, textChannelIds, voiceChannelIds);
+        }
+
+        private Snapshot with(long guildId, long textChannelId, long voiceChannelId) {
+            int index = Arrays.binarySearch(guildIds, guildId);
+            if (index >= 0) {
+                long[] texts = textChannelIds.clone();
+                long[] voices = voiceChannelIds.clone();
+                texts[index] = textChannelId;
+                voices[index] = voiceChannelId;
+                return new Snapshot(guildIds, texts, voices);
+            }
+            int at = -index - 1;
+            return new Snapshot(
+                    inserted(guildIds, at, guildId),
+                    inserted(textChannelIds, at, textChannelId),
+                    inserted(voiceChannelIds, at, voiceChannelId));
+        }
+
+        private Snapshot without(long guildId) {
+            int index = Arrays.binarySearch(guildIds, guildId);
+            if (index < 0) return this;
+            return new Snapshot(removed(guildIds, index), removed(textChannelIds, index), removed(voiceChannelIds, index));
+        }
+
+        private static long[] inserted(long[] values, int at, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, at, result, at + 1, values.length - at);
+            return result;
+        }
+
+        private static long[] removed(long[] values, int at) {
+            long[] result = new long[values.length - 1];
+            System.arraycopy(values, 0, result, 0, at);
+            System.arraycopy(values, at + 1, result, at, values.length - at - 1);
+            return result;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class GuildAssistantChannelsService {
     private final GuildAssistantChannelsRepository repository;
+    private final GuildAssistantChannelIndex index;
 
     @Transactional(readOnly = true)
     public Optional<GuildAssistantChannels> find(long guildId) {
@@ -37,7 +38,9 @@ public class GuildAssistantChannelsService {
         channels.setTextChannelId(textChannelId);
         channels.setVoiceChannelId(voiceChannelId);
         channels.setUpdatedAt(now);
-        return repository.save(channels);
+        GuildAssistantChannels saved = repository.save(channels);
+        index.changed(saved);
+        return saved;
     }
 }
 
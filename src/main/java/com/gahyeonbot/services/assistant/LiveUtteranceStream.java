@@ -0,0 +1,126 @@
+package com.gahyeonbot.services.assistant;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WAV stream over an utterance that is still being captured. The header is
+ * sent with open-ended sizes, and reads block until the receiver publishes
+ * more PCM or finishes the utterance. An STT upload can therefore start while
+ * the user is speaking, so only the tail is left to send at end of speech.
+ */
+final class LiveUtteranceStream extends InputStream {
+    private final UtteranceBuffer buffer;
+    private final byte[] header = WavEncoder.streamingWavHeader();
+    private final long idleTimeoutNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private int headerPosition;
+    private int position;
+    private int published;
+    private boolean finished;
+    private boolean released;
+    private boolean ended;
+
+    /** Retains {@code buffer} until the stream is fully read, closed or aborted. */
+    LiveUtteranceStream(UtteranceBuffer buffer, Duration idleTimeout) {
+        this.buffer = buffer.retain();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /** Makes the first {@code size} captured bytes readable. */
+    void publish(int size) {
+        lock.lock();
+        try {
+            if (size > published && !released) {
+                published = size;
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Publishes the final size; the stream ends once it has been read. */
+    void finish(int size) {
+        lock.lock();
+        try {
+            publish(size);
+            finished = true;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Fails pending and future reads so the upload is cancelled, not truncated. */
+    void abort() {
+        lock.lock();
+        try {
+            finished = true;
+            releaseBuffer();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, target.length);
+        if (length == 0) return 0;
+        lock.lock();
+        try {
+            if (ended) return -1;
+            if (headerPosition < header.length) {
+                int count = Math.min(length, header.length - headerPosition);
+                System.arraycopy(header, headerPosition, target, offset, count);
+                headerPosition += count;
+                return count;
+            }
+            long remaining = idleTimeoutNanos;
+            while (position == published && !finished) {
+                if (remaining <= 0) throw new IOException("Live utterance produced no audio in time");
+                remaining = available.awaitNanos(remaining);
+            }
+            if (released) throw new IOException("Live utterance was aborted");
+            if (position == published) {
+                ended = true;
+                releaseBuffer();
+                return -1;
+            }
+            int count = Math.min(length, published - position);
+            buffer.copyTo(position, target, offset, count);
+            position += count;
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for utterance audio");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        abort();
+    }
+
+    private void releaseBuffer() {
+        if (!released) {
+            released = true;
+            buffer.release();
+        }
+    }
+}
@@ -2,23 +2,48 @@ package com.gahyeonbot.services.assistant;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OpenAiTranscriptionProvider implements SpeechToTextProvider {
+    private static final String FILE_NAME = "utterance.wav";
+
     private final AssistantProperties properties;
     private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public OpenAiTranscriptionProvider(AssistantProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        // One client for every request so STT connections stay alive between
+        // utterances; request bodies are streamed on virtual threads.
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(properties.getStt().getTimeoutSeconds()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
 
     @Override
     public boolean isReady() {
@@ -29,7 +54,7 @@ public class OpenAiTranscriptionProvider implements SpeechToTextProvider {
     }
 
     @Override
-    public String transcribe(byte[] wavAudio) {
+    public String transcribe(WavAudio wavAudio) {
         if (!isReady()) throw new IllegalStateException("STT가 설정되지 않았습니다.");
 
         var p = properties.getStt();
@@ -43,42 +68,116 @@ public class OpenAiTranscriptionProvider implements SpeechToTextProvider {
         }
     }
 
+    @Override
+    public boolean supportsLiveTranscription() {
+        return isReady();
+    }
+
+    /**
+     * Sends {@code wavStream} to the primary endpoint with chunked transfer as it
+     * is read. The fallback endpoint is not tried here; callers retry with
+     * {@link #transcribe(WavAudio)} once the full utterance is captured.
+     */
+    @Override
+    public CompletableFuture<String> transcribeLive(InputStream wavStream) {
+        if (!isReady()) throw new IllegalStateException("STT가 설정되지 않았습니다.");
+
+        var p = properties.getStt();
+        Duration timeout = Duration.ofSeconds(properties.getMaxUtteranceSeconds() + p.getTimeoutSeconds());
+        HttpRequest request = newRequest(p.getBaseUrl(), p.getEndpoint(), p.getModel(), p.getPrompt(),
+                () -> wavStream, -1, timeout);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::parse);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        httpClient.shutdownNow();
+    }
+
     private String request(
-            byte[] wavAudio,
+            WavAudio wavAudio,
             String baseUrl,
             String endpoint,
             String model,
             String prompt) {
         var p = properties.getStt();
-        var requestFactory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofSeconds(p.getTimeoutSeconds()));
-        requestFactory.setReadTimeout(Duration.ofSeconds(p.getTimeoutSeconds()));
-        RestTemplate client = new RestTemplate(requestFactory);
-
-        HttpHeaders headers = new HttpHeaders();
-        if (hasText(p.getApiKey())) headers.setBearerAuth(p.getApiKey());
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", new ByteArrayResource(wavAudio) {
-            @Override public String getFilename() { return "utterance.wav"; }
-        });
-        body.add("model", model);
-        body.add("response_format", "json");
-        if (hasText(p.getLanguage())) body.add("language", p.getLanguage());
-        if (hasText(prompt)) body.add("prompt", prompt);
-
-        ResponseEntity<String> response = client.exchange(
-                trimSlash(baseUrl) + normalizedEndpoint(endpoint),
-                HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
+        HttpRequest request = newRequest(baseUrl, endpoint, model, prompt,
+                wavAudio::openStream, wavAudio.length(), Duration.ofSeconds(p.getTimeoutSeconds()));
         try {
-            JsonNode json = objectMapper.readTree(response.getBody());
+            return parse(httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+        } catch (IOException e) {
+            throw new IllegalStateException("STT 호출 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("STT 호출이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * Builds a multipart/form-data request whose file part is read from
+     * {@code wav} while the body is sent. A negative length sends it chunked.
+     */
+    private HttpRequest newRequest(
+            String baseUrl,
+            String endpoint,
+            String model,
+            String prompt,
+            Supplier<InputStream> wav,
+            long wavLength,
+            Duration timeout) {
+        var p = properties.getStt();
+        String boundary = "gahyeonbot-" + UUID.randomUUID();
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        writeField(head, boundary, "model", model);
+        writeField(head, boundary, "response_format", "json");
+        if (hasText(p.getLanguage())) writeField(head, boundary, "language", p.getLanguage());
+        if (hasText(prompt)) writeField(head, boundary, "prompt", prompt);
+        writeAscii(head, "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + FILE_NAME + "\"\r\n"
+                + "Content-Type: audio/wav\r\n\r\n");
+        byte[] prefix = head.toByteArray();
+        byte[] suffix = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        Supplier<InputStream> body = () -> new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(prefix), wav.get(), new ByteArrayInputStream(suffix))));
+        HttpRequest.BodyPublisher publisher = wavLength < 0
+                ? HttpRequest.BodyPublishers.ofInputStream(body)
+                : HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofInputStream(body),
+                        prefix.length + wavLength + suffix.length);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create(trimSlash(baseUrl) + normalizedEndpoint(endpoint)))
+                .timeout(timeout)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(publisher);
+        if (hasText(p.getApiKey())) request.header("Authorization", "Bearer " + p.getApiKey());
+        return request.build();
+    }
+
+    private String parse(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("STT 호출 실패: HTTP " + response.statusCode());
+        }
+        try {
+            JsonNode json = objectMapper.readTree(response.body());
             return json.path("text").asText("").trim();
         } catch (Exception e) {
             throw new IllegalStateException("STT 응답을 해석하지 못했습니다.", e);
         }
     }
 
+    private static void writeField(ByteArrayOutputStream out, String boundary, String name, String value) {
+        writeAscii(out, "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n");
+        out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        writeAscii(out, "\r\n");
+    }
+
+    private static void writeAscii(ByteArrayOutputStream out, String value) {
+        out.writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
     private static boolean hasText(String value) {
         return value != null && !value.isBlank();
     }
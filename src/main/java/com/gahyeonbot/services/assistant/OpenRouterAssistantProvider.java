@@ -2,8 +2,8 @@ package com.gahyeonbot.services.assistant;
 
 import com.gahyeonbot.services.ai.agent.AgentGateway;
 import com.gahyeonbot.services.ai.agent.AgentRequest;
-import com.gahyeonbot.services.ai.agent.AgentResult;
 import com.gahyeonbot.services.ai.agent.AgentRuntime;
+import com.gahyeonbot.services.ai.agent.AgentStreamListener;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -33,7 +33,19 @@ public class OpenRouterAssistantProvider implements AssistantChatProvider {
         if (!isReady()) {
             throw new IllegalStateException("OpenRouter 에이전트가 설정되지 않았습니다.");
         }
-        AgentResult result = agentRuntime.execute(new AgentRequest(
+        return agentRuntime.execute(request(guildId, userId, username, message)).content();
+    }
+
+    @Override
+    public String chat(long guildId, long userId, String username, String message, AgentStreamListener listener) {
+        if (!isReady()) {
+            throw new IllegalStateException("OpenRouter 에이전트가 설정되지 않았습니다.");
+        }
+        return agentRuntime.execute(request(guildId, userId, username, message), listener).content();
+    }
+
+    private static AgentRequest request(long guildId, long userId, String username, String message) {
+        return new AgentRequest(
                 "voice:" + guildId + ":" + UUID.randomUUID(),
                 "discord:voice:" + guildId,
                 AgentGateway.VOICE,
@@ -41,8 +53,7 @@ public class OpenRouterAssistantProvider implements AssistantChatProvider {
                 userId,
                 username,
                 message,
-                8));
-        return result.content();
+                8);
     }
 
     private static boolean hasText(String value) {
@@ -0,0 +1,58 @@
+package com.gahyeonbot.services.assistant;
+
+/**
+ * Fixed-capacity ring of little-endian PCM used for the VAD pre-roll. Writes
+ * overwrite the oldest bytes instead of growing or copying the whole buffer.
+ */
+final class PcmRingBuffer {
+    private final byte[] data;
+    private int start;
+    private int size;
+
+    PcmRingBuffer(int capacityBytes) {
+        // Keep whole stereo 16-bit frames so a drained pre-roll never starts mid-sample.
+        int frameBytes = WavEncoder.CHANNELS * WavEncoder.BITS_PER_SAMPLE / 8;
+        this.data = new byte[Math.max(0, capacityBytes - capacityBytes % frameBytes)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void write(byte[] source) {
+        int capacity = data.length;
+        if (capacity == 0) return;
+        int offset = 0;
+        int length = source.length;
+        if (length >= capacity) {
+            offset = length - capacity;
+            length = capacity;
+            start = 0;
+            size = 0;
+        }
+        int end = (start + size) % capacity;
+        int first = Math.min(length, capacity - end);
+        System.arraycopy(source, offset, data, end, first);
+        System.arraycopy(source, offset + first, data, 0, length - first);
+        int overflow = size + length - capacity;
+        if (overflow > 0) {
+            start = (start + overflow) % capacity;
+            size = capacity;
+        } else {
+            size += length;
+        }
+    }
+
+    /** Appends the buffered bytes, oldest first, to {@code target} and empties the ring. */
+    void drainTo(UtteranceBuffer target) {
+        int first = Math.min(size, data.length - start);
+        target.append(data, start, first);
+        target.append(data, 0, size - first);
+        clear();
+    }
+
+    void clear() {
+        start = 0;
+        size = 0;
+    }
+}
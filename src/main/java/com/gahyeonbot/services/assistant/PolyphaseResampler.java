@@ -0,0 +1,90 @@
+package com.gahyeonbot.services.assistant;
+
+/**
+ * Streaming 48 kHz stereo to 16 kHz mono decimator for the VAD front end.
+ * Input is Discord's signed 16-bit little-endian PCM. Each packet is downmixed
+ * into a reused window behind the filter history, and the low-pass FIR is only
+ * evaluated at every third input sample (the polyphase form of decimation), so
+ * packets of the usual size are processed without allocating.
+ */
+final class PolyphaseResampler {
+    static final int FACTOR = 3;
+    static final int TAPS = 96;
+    static final double CUTOFF_HZ = 7_000;
+
+    private static final int HISTORY = TAPS - 1;
+    private static final int DISCORD_PACKET_FRAMES = WavEncoder.SAMPLE_RATE / 50;
+    private static final float[] COEFFICIENTS = lowPass(TAPS, CUTOFF_HZ / WavEncoder.SAMPLE_RATE);
+
+    private float[] window = new float[HISTORY + DISCORD_PACKET_FRAMES];
+    private int skip;
+
+    /** Upper bound of output samples produced for {@code pcmBytes} of stereo input. */
+    static int maxOutputSamples(int pcmBytes) {
+        return pcmBytes / 4 / FACTOR + 1;
+    }
+
+    /**
+     * Resamples {@code length} bytes of stereo PCM into {@code out}. Filter state
+     * carries over between calls, so a stream split into arbitrary packets gives
+     * the same output as the unsplit stream.
+     *
+     * @return number of 16 kHz samples written to {@code out}
+     */
+    int process(byte[] pcm, int length, short[] out) {
+        int frames = length / 4;
+        if (window.length < HISTORY + frames) {
+            float[] grown = new float[HISTORY + frames];
+            System.arraycopy(window, 0, grown, 0, HISTORY);
+            window = grown;
+        }
+        float[] w = window;
+        for (int i = 0, offset = 0; i < frames; i++, offset += 4) {
+            int left = (short) ((pcm[offset] & 0xff) | (pcm[offset + 1] << 8));
+            int right = (short) ((pcm[offset + 2] & 0xff) | (pcm[offset + 3] << 8));
+            w[HISTORY + i] = (left + right) * 0.5f;
+        }
+
+        int produced = 0;
+        int i = skip;
+        for (; i < frames; i += FACTOR) {
+            // The newest sample of this output is w[HISTORY + i]; the filter is symmetric.
+            float acc = 0;
+            for (int k = 0; k < TAPS; k++) {
+                acc += COEFFICIENTS[k] * w[i + k];
+            }
+            out[produced++] = clamp(acc);
+        }
+        skip = i - frames;
+        System.arraycopy(w, frames, w, 0, HISTORY);
+        return produced;
+    }
+
+    private static short clamp(float sample) {
+        int rounded = Math.round(sample);
+        if (rounded > Short.MAX_VALUE) return Short.MAX_VALUE;
+        if (rounded < Short.MIN_VALUE) return Short.MIN_VALUE;
+        return (short) rounded;
+    }
+
+    /** Blackman-windowed sinc low-pass with unity DC gain; {@code cutoff} is relative to the input rate. */
+    private static float[] lowPass(int taps, double cutoff) {
+        double[] h = new double[taps];
+        double center = (taps - 1) / 2.0;
+        double sum = 0;
+        for (int n = 0; n < taps; n++) {
+            double x = n - center;
+            double sinc = x == 0 ? 2 * cutoff : Math.sin(2 * Math.PI * cutoff * x) / (Math.PI * x);
+            double blackman = 0.42
+                    - 0.5 * Math.cos(2 * Math.PI * n / (taps - 1))
+                    + 0.08 * Math.cos(4 * Math.PI * n / (taps - 1));
+            h[n] = sinc * blackman;
+            sum += h[n];
+        }
+        float[] coefficients = new float[taps];
+        for (int n = 0; n < taps; n++) {
+            coefficients[n] = (float) (h[n] / sum);
+        }
+        return coefficients;
+    }
+}
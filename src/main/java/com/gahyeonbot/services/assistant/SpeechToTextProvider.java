@@ -1,6 +1,35 @@
 package com.gahyeonbot.services.assistant;
 
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
 public interface SpeechToTextProvider {
     boolean isReady();
-    String transcribe(byte[] wavAudio);
+    String transcribe(WavAudio wavAudio);
+
+    /** Whether {@link #transcribeLive(InputStream)} can upload audio that is still being captured. */
+    default boolean supportsLiveTranscription() {
+        return false;
+    }
+
+    /**
+     * Starts transcribing a WAV stream whose end is not known yet. The upload
+     * proceeds as the stream is read, and the future completes after it ends.
+     * Providers without a streaming upload buffer the stream until it ends and
+     * then call {@link #transcribe(WavAudio)}, so they get no head start.
+     */
+    default CompletableFuture<String> transcribeLive(InputStream wavStream) {
+        CompletableFuture<String> transcript = new CompletableFuture<>();
+        Thread.ofVirtual().name("stt-live-buffer").start(() -> {
+            try (wavStream) {
+                if (wavStream.readNBytes(WavEncoder.HEADER_BYTES).length < WavEncoder.HEADER_BYTES) {
+                    throw new IllegalStateException("WAV stream ended before its header");
+                }
+                transcript.complete(transcribe(WavAudio.of(wavStream.readAllBytes())));
+            } catch (Throwable e) {
+                transcript.completeExceptionally(e);
+            }
+        });
+        return transcript;
+    }
 }
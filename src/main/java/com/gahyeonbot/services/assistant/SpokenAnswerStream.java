@@ -0,0 +1,77 @@
+package com.gahyeonbot.services.assistant;
+
+import com.gahyeonbot.services.ai.agent.AgentStreamListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Watches a streaming answer and hands its first complete sentence to TTS before the rest exists.
+ * The remainder of the final answer is spoken afterwards, queued behind the first sentence.
+ * When the streamed text turns out to precede a tool call, detection starts over on the next model call.
+ */
+final class SpokenAnswerStream implements AgentStreamListener {
+    private static final int MIN_SENTENCE_CHARS = 4;
+
+    private final Function<String, CompletableFuture<?>> speaker;
+    private String spokenPrefix;
+    private CompletableFuture<?> firstPlayback;
+
+    SpokenAnswerStream(Function<String, CompletableFuture<?>> speaker) {
+        this.speaker = speaker;
+    }
+
+    @Override
+    public synchronized void onPartial(String text) {
+        if (spokenPrefix != null || text == null) return;
+        int end = firstSentenceEnd(text);
+        if (end < 0) return;
+        spokenPrefix = text.substring(0, end);
+        String sentence = spokenPrefix.strip();
+        CompletableFuture<?> before = firstPlayback;
+        firstPlayback = before == null
+                ? speaker.apply(sentence)
+                : before.handle((ignored, failure) -> null).thenCompose(ignored -> speaker.apply(sentence));
+    }
+
+    /**
+     * Drops the pending sentence of a model call that ended in a tool call. A sentence already
+     * handed to TTS stays queued; the next model call's first sentence is spoken after it.
+     */
+    @Override
+    public synchronized void onReset() {
+        spokenPrefix = null;
+    }
+
+    /**
+     * @return the part of {@code answer} not yet handed to TTS; the whole answer if the spoken
+     *         sentence turned out not to be part of it (e.g. it preceded a tool call)
+     */
+    synchronized String remainder(String answer) {
+        if (spokenPrefix == null || !answer.startsWith(spokenPrefix)) return answer;
+        return answer.substring(spokenPrefix.length()).strip();
+    }
+
+    /**
+     * @return playback of the sentences spoken early, or a completed future if nothing was
+     */
+    synchronized CompletableFuture<?> firstPlayback() {
+        return firstPlayback == null ? CompletableFuture.completedFuture(null) : firstPlayback;
+    }
+
+    /**
+     * A sentence counts as complete once its terminator is followed by whitespace, so a streamed
+     * "3." in "3.5도" is not mistaken for a boundary.
+     */
+    static int firstSentenceEnd(String text) {
+        for (int i = 0; i < text.length() - 1; i++) {
+            char c = text.charAt(i);
+            boolean terminator = c == '.' || c == '!' || c == '?' || c == '。' || c == '！' || c == '？';
+            if ((terminator && Character.isWhitespace(text.charAt(i + 1))) || c == '\n') {
+                int end = terminator ? i + 1 : i;
+                if (text.substring(0, end).strip().length() >= MIN_SENTENCE_CHARS) return end;
+            }
+        }
+        return -1;
+    }
+}
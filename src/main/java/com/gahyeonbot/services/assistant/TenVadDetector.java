@@ -1,6 +1,7 @@
 package com.gahyeonbot.services.assistant;
 
 import com.sun.jna.Library;
+import com.sun.jna.Memory;
 import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
@@ -12,7 +13,10 @@ import java.nio.file.Path;
 
 /**
  * Per-speaker TEN VAD wrapper. Input is Discord's 48 kHz stereo, signed
- * 16-bit little-endian PCM. TEN VAD receives 16 kHz mono frames.
+ * 16-bit little-endian PCM. TEN VAD receives 16 kHz mono frames produced by
+ * {@link PolyphaseResampler}. A whole packet is resampled in one pass and the
+ * hop frame and result slots live in native memory allocated once per
+ * detector, so steady-state processing does not allocate per hop.
  */
 final class TenVadDetector implements AutoCloseable {
     private static final String RESOURCE = "/native/ten-vad/linux-x64/libten_vad.so";
@@ -21,51 +25,51 @@ final class TenVadDetector implements AutoCloseable {
     private final TenVadLibrary nativeLibrary;
     private final int hopSize;
     private final PointerByReference handle = new PointerByReference();
-    private short[] pending;
+    private final PolyphaseResampler resampler = new PolyphaseResampler();
+    private final Memory frame;
+    private final Memory probability = new Memory(Float.BYTES);
+    private final Memory flag = new Memory(Integer.BYTES);
+    private short[] resampled = new short[PolyphaseResampler.maxOutputSamples(WavEncoder.BYTES_PER_SECOND / 50)];
     private int pendingSize;
 
     TenVadDetector(int hopSize, float threshold) {
         this.nativeLibrary = loadLibrary();
         this.hopSize = hopSize;
-        this.pending = new short[hopSize * 2];
+        this.frame = new Memory((long) hopSize * Short.BYTES);
         int result = nativeLibrary.ten_vad_create(handle, hopSize, threshold);
         if (result != 0) throw new IllegalStateException("TEN VAD 초기화 실패: " + result);
     }
 
+    /**
+     * Runs every complete hop contained in one Discord packet. Samples that do
+     * not fill a hop stay in the native frame and are completed by the next packet.
+     */
     Detection processDiscordPcm(byte[] pcm) {
+        if (handle.getValue() == null) return new Detection(false, 0, 0, 0);
+        int needed = PolyphaseResampler.maxOutputSamples(pcm.length);
+        if (resampled.length < needed) resampled = new short[needed];
+        int samples = resampler.process(pcm, pcm.length, resampled);
+
         int voiceFrames = 0;
         int totalFrames = 0;
         float maxProbability = 0;
-        for (int offset = 0; offset + 11 < pcm.length; offset += 12) {
-            int left = sampleLittleEndian(pcm, offset);
-            int right = sampleLittleEndian(pcm, offset + 2);
-            append((short) ((left + right) / 2));
-            if (pendingSize == hopSize) {
-                float[] probability = new float[1];
-                int[] flag = new int[1];
-                int result = nativeLibrary.ten_vad_process(
-                        handle.getValue(), pending, hopSize, probability, flag);
-                if (result != 0) throw new IllegalStateException("TEN VAD 처리 실패: " + result);
-                totalFrames++;
-                if (flag[0] == 1) voiceFrames++;
-                maxProbability = Math.max(maxProbability, probability[0]);
-                pendingSize = 0;
-            }
-        }
-        return new Detection(voiceFrames > 0, voiceFrames, totalFrames, maxProbability);
-    }
+        int offset = 0;
+        while (offset < samples) {
+            int count = Math.min(hopSize - pendingSize, samples - offset);
+            frame.write((long) pendingSize * Short.BYTES, resampled, offset, count);
+            pendingSize += count;
+            offset += count;
+            if (pendingSize < hopSize) break;
 
-    private void append(short sample) {
-        if (pendingSize == pending.length) {
-            short[] expanded = new short[pending.length * 2];
-            System.arraycopy(pending, 0, expanded, 0, pending.length);
-            pending = expanded;
+            int result = nativeLibrary.ten_vad_process(
+                    handle.getValue(), frame, hopSize, probability, flag);
+            if (result != 0) throw new IllegalStateException("TEN VAD 처리 실패: " + result);
+            totalFrames++;
+            if (flag.getInt(0) == 1) voiceFrames++;
+            maxProbability = Math.max(maxProbability, probability.getFloat(0));
+            pendingSize = 0;
         }
-        pending[pendingSize++] = sample;
-    }
-
-    private static int sampleLittleEndian(byte[] pcm, int offset) {
-        return (short) ((pcm[offset] & 0xff) | (pcm[offset + 1] << 8));
+        return new Detection(voiceFrames > 0, voiceFrames, totalFrames, maxProbability);
     }
 
     @Override
@@ -73,13 +77,16 @@ final class TenVadDetector implements AutoCloseable {
         Pointer pointer = handle.getValue();
         if (pointer != null) nativeLibrary.ten_vad_destroy(handle);
         handle.setValue(null);
+        frame.close();
+        probability.close();
+        flag.close();
     }
 
     record Detection(boolean voice, int voiceFrames, int totalFrames, float probability) {}
 
     private interface TenVadLibrary extends Library {
         int ten_vad_create(PointerByReference handle, int hopSize, float threshold);
-        int ten_vad_process(Pointer handle, short[] audioData, int length, float[] probability, int[] flag);
+        int ten_vad_process(Pointer handle, Pointer audioData, int length, Pointer probability, Pointer flag);
         int ten_vad_destroy(PointerByReference handle);
     }
 
@@ -0,0 +1,102 @@
+package com.gahyeonbot.services.assistant;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PCM capture buffer for one utterance, capped at the max utterance length.
+ * It starts at one second of audio and doubles as speech continues, so short
+ * utterances never hold the full cap. Buffers come from an
+ * {@link UtteranceBufferPool} and are reference counted so that an in-flight
+ * provisional or final transcription keeps its {@link WavAudio} view valid
+ * until it calls {@link #release()}. A view made before the buffer grew keeps
+ * the previous array, which still holds every byte it covers.
+ */
+final class UtteranceBuffer {
+    static final int INITIAL_BYTES = WavEncoder.BYTES_PER_SECOND;
+
+    private final int capacity;
+    private final UtteranceBufferPool pool;
+    private final AtomicInteger references = new AtomicInteger();
+    private volatile byte[] data;
+    private int size;
+
+    UtteranceBuffer(int capacityBytes, UtteranceBufferPool pool) {
+        this.capacity = capacityBytes;
+        this.data = new byte[initialBytes()];
+        this.pool = pool;
+    }
+
+    /** Largest number of bytes this buffer will accept. */
+    int capacity() {
+        return capacity;
+    }
+
+    /** Bytes currently allocated, at most {@link #capacity()}. */
+    int allocated() {
+        return data.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends the bytes if they fit entirely; otherwise drops them, matching the
+     * max-utterance cut-off of the previous stream-based capture.
+     */
+    boolean append(byte[] source, int offset, int length) {
+        if (length <= 0) return true;
+        if (size + length > capacity) return false;
+        byte[] target = data;
+        if (size + length > target.length) {
+            target = Arrays.copyOf(target, Math.min(capacity, Math.max(size + length, target.length * 2)));
+            data = target;
+        }
+        System.arraycopy(source, offset, target, size, length);
+        size += length;
+        return true;
+    }
+
+    boolean append(byte[] source) {
+        return append(source, 0, source.length);
+    }
+
+    /** WAV view of the bytes captured so far; later appends are not visible through it. */
+    WavAudio view() {
+        return new WavAudio(data, size);
+    }
+
+    /** Copies captured bytes; the caller must only read below a size it observed safely. */
+    void copyTo(int position, byte[] target, int offset, int length) {
+        System.arraycopy(data, position, target, offset, length);
+    }
+
+    UtteranceBuffer retain() {
+        references.incrementAndGet();
+        return this;
+    }
+
+    void release() {
+        int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            pool.recycle(this);
+        } else if (remaining < 0) {
+            throw new IllegalStateException("UtteranceBuffer released more times than retained");
+        }
+    }
+
+    void reopen() {
+        size = 0;
+        references.set(1);
+    }
+
+    /** Drops the grown array before the buffer sits idle in the pool. */
+    void shrink() {
+        if (data.length > initialBytes()) data = new byte[initialBytes()];
+    }
+
+    private int initialBytes() {
+        return Math.min(capacity, INITIAL_BYTES);
+    }
+}
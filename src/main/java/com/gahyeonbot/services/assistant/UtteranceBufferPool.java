@@ -0,0 +1,46 @@
+package com.gahyeonbot.services.assistant;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of {@link UtteranceBuffer}s shared by every assistant session, so that
+ * speakers reuse the same few buffers instead of allocating a growing stream per
+ * utterance. Idle buffers are shrunk back to their initial size.
+ */
+final class UtteranceBufferPool {
+    private final int maxIdle;
+    private final ConcurrentLinkedDeque<UtteranceBuffer> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    UtteranceBufferPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    UtteranceBuffer acquire(int capacityBytes) {
+        UtteranceBuffer buffer;
+        while ((buffer = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (buffer.capacity() == capacityBytes) {
+                buffer.reopen();
+                return buffer;
+            }
+        }
+        buffer = new UtteranceBuffer(capacityBytes, this);
+        buffer.reopen();
+        return buffer;
+    }
+
+    void recycle(UtteranceBuffer buffer) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            buffer.shrink();
+            idle.offerFirst(buffer);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    int idleCount() {
+        return idleCount.get();
+    }
+}
@@ -2,12 +2,8 @@ package com.gahyeonbot.services.assistant;
 
 import com.gahyeonbot.core.audio.GuildMusicManager;
 import com.gahyeonbot.services.music.MusicService;
+import com.gahyeonbot.services.tts.TtsPipeline;
 import com.gahyeonbot.services.tts.TtsService;
-import com.gahyeonbot.services.tts.TtsTrackMetadata;
-import com.sedmelluq.discord.lavaplayer.player.AudioLoadResultHandler;
-import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
-import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
-import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,10 +15,10 @@ import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.AudioChannel;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 
@@ -31,18 +27,20 @@ import java.util.concurrent.*;
 @RequiredArgsConstructor
 public class VoiceAssistantService {
     private static final int MIN_UTTERANCE_BYTES = WavEncoder.SAMPLE_RATE * 4 / 2; // ~0.5 second
+    private static final int MAX_IDLE_UTTERANCE_BUFFERS = 4;
 
     private final AssistantProperties properties;
     private final SpeechToTextProvider speechToTextProvider;
     private final AssistantChatProvider chatProvider;
     private final TtsService ttsService;
+    private final TtsPipeline ttsPipeline;
     private final MusicService musicService;
-    private final com.gahyeonbot.core.audio.AudioManager audioManager;
 
     private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
     private final ScheduledExecutorService silenceDetector =
             Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("assistant-silence-", 0).factory());
     private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final UtteranceBufferPool bufferPool = new UtteranceBufferPool(MAX_IDLE_UTTERANCE_BUFFERS);
 
     public boolean isConfigured() {
         return properties.isEnabled() && speechToTextProvider.isReady() && chatProvider.isReady();
@@ -149,17 +147,18 @@ public class VoiceAssistantService {
             public void handleUserAudio(UserAudio userAudio) {
                 if (closed || userAudio.getUser().isBot()) return;
                 // JDA exposes decoded 16-bit PCM in big-endian byte order, while
-                // WAV and TEN VAD expect little-endian samples.
-                byte[] pcm = WavEncoder.bigEndianToLittleEndian(userAudio.getAudioData(1.0));
+                // WAV and TEN VAD expect little-endian samples. The array is freshly
+                // decoded for this call, so it is converted in place.
+                byte[] pcm = userAudio.getAudioData(1.0);
+                WavEncoder.swapBytesInPlace(pcm);
                 Utterance utterance = utterances.computeIfAbsent(
                         userAudio.getUser().getIdLong(),
                         ignored -> new Utterance(userAudio.getUser().getName(), properties.getVad()));
                 synchronized (utterance) {
-                    int max = properties.getMaxUtteranceSeconds()
-                            * WavEncoder.SAMPLE_RATE * WavEncoder.CHANNELS * WavEncoder.BITS_PER_SAMPLE / 8;
                     long now = System.currentTimeMillis();
                     if (utterance.vad == null) {
-                        if (utterance.pcm.size() + pcm.length <= max) utterance.pcm.writeBytes(pcm);
+                        utterance.pcm().append(pcm);
+                        publishLive(utterance);
                         utterance.lastVoiceAt = now;
                         return;
                     }
@@ -168,14 +167,14 @@ public class VoiceAssistantService {
                     if (!utterance.speechStarted) {
                         if (detection.voice()) {
                             utterance.speechStarted = true;
-                            utterance.pcm.writeBytes(utterance.preRoll.toByteArray());
-                            utterance.preRoll.reset();
+                            utterance.preRoll.drainTo(utterance.pcm());
                         } else {
-                            utterance.appendPreRoll(pcm, properties.getVad().getPreRollMillis());
+                            utterance.preRoll.write(pcm);
                             return;
                         }
                     }
-                    if (utterance.pcm.size() + pcm.length <= max) utterance.pcm.writeBytes(pcm);
+                    utterance.pcm().append(pcm);
+                    publishLive(utterance);
                     if (detection.voice()) {
                         utterance.speechRevision++;
                         if (utterance.provisionalRevision >= 0
@@ -190,11 +189,36 @@ public class VoiceAssistantService {
             }
         }
 
+        /**
+         * Starts the early STT upload on the first captured packet and publishes
+         * every later append to it, so only the tail is sent at end of speech.
+         */
+        private void publishLive(Utterance utterance) {
+            if (utterance.live == null) {
+                if (!properties.getStt().isEarlyUpload()
+                        || !speechToTextProvider.supportsLiveTranscription()) {
+                    return;
+                }
+                LiveUtteranceStream stream = new LiveUtteranceStream(
+                        utterance.pcm(), Duration.ofSeconds(properties.getStt().getTimeoutSeconds()));
+                try {
+                    CompletableFuture<String> transcript = speechToTextProvider.transcribeLive(stream);
+                    transcript.whenComplete((ignored, failure) -> stream.abort());
+                    utterance.live = stream;
+                    utterance.liveTranscript = transcript;
+                } catch (RuntimeException e) {
+                    stream.abort();
+                    log.warn("비서 STT 선행 업로드 시작 실패 guild={}: {}", guild.getIdLong(), e.getMessage());
+                    return;
+                }
+            }
+            utterance.live.publish(utterance.capturedBytes());
+        }
+
         private void flushSilent() {
             if (closed) return;
             long now = System.currentTimeMillis();
             utterances.forEach((userId, utterance) -> {
-                byte[] pcm = null;
                 synchronized (utterance) {
                     long requiredSilence = utterance.vad == null
                             ? properties.getSilenceMillis()
@@ -212,34 +236,41 @@ public class VoiceAssistantService {
                                 properties.getVad().getShortSpeechEndSilenceMillis());
                     }
                     long silentMillis = now - utterance.lastVoiceAt;
-                    boolean maxLength = utterance.pcm.size() >= properties.getMaxUtteranceSeconds()
-                            * WavEncoder.SAMPLE_RATE * WavEncoder.CHANNELS * WavEncoder.BITS_PER_SAMPLE / 8;
+                    int captured = utterance.capturedBytes();
+                    boolean maxLength = captured >= maxUtteranceBytes();
                     boolean validSpeech = utterance.speechStarted
-                            && utterance.pcm.size() >= MIN_UTTERANCE_BYTES
+                            && captured >= MIN_UTTERANCE_BYTES
                             && speechMillis >= properties.getVad().getMinSpeechMillis();
                     if (validSpeech
                             && !maxLength
                             && silentMillis >= transcriptionSilence
-                            && utterance.provisionalTranscript == null) {
-                        byte[] provisionalPcm = utterance.pcm.toByteArray();
+                            && utterance.provisionalTranscript == null
+                            && utterance.live == null) {
+                        // Zero-copy view: later packets are appended past its end.
+                        UtteranceBuffer buffer = utterance.pcm().retain();
+                        WavAudio provisionalAudio = buffer.view();
                         long revision = utterance.speechRevision;
                         utterance.provisionalRevision = revision;
-                        utterance.provisionalTranscript = CompletableFuture.supplyAsync(
-                                () -> speechToTextProvider.transcribe(
-                                        WavEncoder.pcmToWav(provisionalPcm)),
-                                workers);
+                        CompletableFuture<String> provisional = CompletableFuture.supplyAsync(
+                                () -> speechToTextProvider.transcribe(provisionalAudio), workers);
+                        provisional.whenComplete((ignored, failure) -> buffer.release());
+                        utterance.provisionalTranscript = provisional;
                     }
                     if (validSpeech && (silentMillis >= requiredSilence || maxLength)) {
-                        pcm = utterance.pcm.toByteArray();
                         CompletableFuture<String> provisional =
                                 utterance.provisionalRevision == utterance.speechRevision
                                         ? utterance.provisionalTranscript
                                         : null;
+                        if (utterance.live != null) {
+                            // The upload already covers every captured byte; send the tail.
+                            utterance.live.finish(utterance.capturedBytes());
+                            provisional = utterance.liveTranscript;
+                            utterance.live = null;
+                        }
+                        UtteranceBuffer capturedBuffer = utterance.detach();
                         utterance.reset();
-                        byte[] captured = pcm;
                         workers.submit(() -> process(
-                                userId, utterance.username, captured, provisional));
-                        pcm = null;
+                                userId, utterance.username, capturedBuffer, provisional));
                     }
                 }
             });
@@ -248,19 +279,22 @@ public class VoiceAssistantService {
         private void process(
                 long userId,
                 String username,
-                byte[] pcm,
+                UtteranceBuffer captured,
                 CompletableFuture<String> provisionalTranscript) {
-            if (closed) return;
             try {
+                if (closed) return;
+                WavAudio audio = captured.view();
                 String transcript;
                 try {
                     transcript = provisionalTranscript == null
-                            ? speechToTextProvider.transcribe(WavEncoder.pcmToWav(pcm))
+                            ? speechToTextProvider.transcribe(audio)
                             : provisionalTranscript.get(
                                     properties.getStt().getTimeoutSeconds(), TimeUnit.SECONDS);
                 } catch (Exception provisionalFailure) {
-                    transcript = speechToTextProvider.transcribe(WavEncoder.pcmToWav(pcm));
+                    transcript = speechToTextProvider.transcribe(audio);
                 }
+                captured.release();
+                captured = null;
                 if (transcript.isBlank()) return;
                 RequestGuard guard = requestGuards.computeIfAbsent(userId, ignored -> new RequestGuard());
                 transcript = guard.mergeOrHold(transcript, System.currentTimeMillis());
@@ -274,51 +308,72 @@ public class VoiceAssistantService {
                     return;
                 }
                 textChannel.sendMessage("**" + username + "**: " + limit(transcript, 1500)).queue();
+                boolean speakable = properties.isSpeakResponses() && ttsService.isEnabled();
+                SpokenAnswerStream spoken = speakable ? new SpokenAnswerStream(this::speakEarly) : null;
                 String answer;
                 synchronized (guard.aiLock) {
-                    answer = chatProvider.chat(guild.getIdLong(), userId, username, transcript);
+                    answer = spoken == null
+                            ? chatProvider.chat(guild.getIdLong(), userId, username, transcript)
+                            : chatProvider.chat(guild.getIdLong(), userId, username, transcript, spoken);
                 }
                 textChannel.sendMessage("**가현**: " + limit(answer, 1800)).queue();
-                if (properties.isSpeakResponses() && ttsService.isEnabled() && !closed) speak(answer);
+                if (speakable && !closed) speak(spoken.remainder(answer), spoken.firstPlayback());
             } catch (Exception e) {
                 log.error("음성 비서 처리 실패 guild={} user={}", guild.getIdLong(), userId, e);
                 textChannel.sendMessage("음성 비서 처리에 실패했습니다. 잠시 후 다시 말해 주세요.").queue();
+            } finally {
+                if (captured != null) captured.release();
+            }
+        }
+
+        /**
+         * 스트리밍 중 완성된 첫 문장을 바로 합성합니다. 나머지 답변은 이 재생이 대기열에 들어간 뒤에 넣습니다.
+         */
+        private CompletableFuture<?> speakEarly(String sentence) {
+            String spokenText = TtsSpeechText.sanitize(sentence);
+            if (closed || spokenText.isBlank()) return CompletableFuture.completedFuture(null);
+            CompletableFuture<?> queued;
+            try {
+                queued = ttsPipeline.play(ttsService.prepareSegments(spokenText), properties.getTtsProvider(),
+                        "assistant", true, musicManager::playOrQueueTrack);
+            } catch (Exception e) {
+                queued = CompletableFuture.failedFuture(e);
             }
+            return queued
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null) log.warn("비서 TTS 재생 실패: {}", failure.getMessage());
+                    });
         }
 
-        private void speak(String answer) throws Exception {
+        private void speak(String answer, CompletableFuture<?> after) throws Exception {
             String spokenText = TtsSpeechText.sanitize(answer);
             if (spokenText.isBlank()) return;
-            for (String segment : ttsService.prepareSegments(spokenText)) {
-                Path audio = ttsService.synthesizeSegmentToAudio(
-                        segment, properties.getTtsProvider());
-                audioManager.getPlayerManager().loadItem(audio.toString(), new AudioLoadResultHandler() {
-                    @Override public void trackLoaded(AudioTrack track) {
-                        track.setUserData(new TtsTrackMetadata(audio, true, true));
-                        musicManager.playOrQueueTrack(track);
-                    }
-                    @Override public void playlistLoaded(AudioPlaylist playlist) {
-                        if (!playlist.getTracks().isEmpty()) trackLoaded(playlist.getTracks().getFirst());
-                    }
-                    @Override public void noMatches() { log.warn("비서 TTS 파일을 로드하지 못함: {}", audio); }
-                    @Override public void loadFailed(FriendlyException exception) {
-                        log.warn("비서 TTS 로딩 실패: {}", exception.getMessage());
-                    }
-                });
-            }
+            List<String> segments = ttsService.prepareSegments(spokenText);
+            after.handle((ignored, failure) -> null).thenCompose(ignored -> ttsPipeline.play(
+                            segments, properties.getTtsProvider(), "assistant", true,
+                            musicManager::playOrQueueTrack))
+                    .whenComplete((queued, failure) -> {
+                        if (failure != null) log.warn("비서 TTS 재생 실패: {}", failure.getMessage());
+                    });
         }
     }
 
-    private static final class Utterance {
+    private int maxUtteranceBytes() {
+        return properties.getMaxUtteranceSeconds() * WavEncoder.BYTES_PER_SECOND;
+    }
+
+    private final class Utterance {
         private final String username;
-        private final ByteArrayOutputStream pcm = new ByteArrayOutputStream();
-        private final ByteArrayOutputStream preRoll = new ByteArrayOutputStream();
+        private final PcmRingBuffer preRoll;
         private final TenVadDetector vad;
+        private UtteranceBuffer pcm;
         private long lastVoiceAt = System.currentTimeMillis();
         private long voiceSamples;
         private long speechRevision;
         private long provisionalRevision = -1;
         private CompletableFuture<String> provisionalTranscript;
+        private LiveUtteranceStream live;
+        private CompletableFuture<String> liveTranscript;
         private boolean speechStarted;
 
         private Utterance(String username, AssistantProperties.Vad settings) {
@@ -326,22 +381,40 @@ public class VoiceAssistantService {
             this.vad = settings.isEnabled()
                     ? new TenVadDetector(settings.getHopSize(), settings.getThreshold())
                     : null;
+            this.preRoll = new PcmRingBuffer(vad == null
+                    ? 0
+                    : (int) (WavEncoder.BYTES_PER_SECOND * settings.getPreRollMillis() / 1_000));
             this.speechStarted = vad == null;
         }
 
-        private void appendPreRoll(byte[] packet, long preRollMillis) {
-            int maxBytes = (int) (WavEncoder.SAMPLE_RATE * WavEncoder.CHANNELS
-                    * WavEncoder.BITS_PER_SAMPLE / 8 * preRollMillis / 1_000);
-            preRoll.writeBytes(packet);
-            if (preRoll.size() <= maxBytes) return;
-            byte[] bytes = preRoll.toByteArray();
-            preRoll.reset();
-            preRoll.write(bytes, bytes.length - maxBytes, maxBytes);
+        /** Capture buffer for the current utterance, taken from the shared pool on first use. */
+        private UtteranceBuffer pcm() {
+            if (pcm == null) pcm = bufferPool.acquire(maxUtteranceBytes());
+            return pcm;
+        }
+
+        private int capturedBytes() {
+            return pcm == null ? 0 : pcm.size();
+        }
+
+        /** Hands the capture buffer (and its reference) to the caller. */
+        private UtteranceBuffer detach() {
+            UtteranceBuffer captured = pcm();
+            pcm = null;
+            return captured;
         }
 
         private void reset() {
-            pcm.reset();
-            preRoll.reset();
+            if (pcm != null) {
+                pcm.release();
+                pcm = null;
+            }
+            if (live != null) {
+                live.abort();
+                live = null;
+            }
+            liveTranscript = null;
+            preRoll.clear();
             voiceSamples = 0;
             speechRevision = 0;
             provisionalRevision = -1;
@@ -351,7 +424,18 @@ public class VoiceAssistantService {
         }
 
         private void close() {
-            if (vad != null) vad.close();
+            synchronized (this) {
+                if (pcm != null) {
+                    pcm.release();
+                    pcm = null;
+                }
+                if (live != null) {
+                    live.abort();
+                    live = null;
+                }
+                // Under the same lock as handleUserAudio: the detector frees native buffers.
+                if (vad != null) vad.close();
+            }
         }
     }
 
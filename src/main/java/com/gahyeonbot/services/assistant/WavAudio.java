@@ -0,0 +1,57 @@
+package com.gahyeonbot.services.assistant;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * Read-only WAV view over captured PCM. Only the 44-byte header is allocated;
+ * the sample bytes are shared with the capture buffer, so callers must not
+ * hold on to the view after the owning buffer has been released.
+ */
+public final class WavAudio {
+    private final byte[] header;
+    private final byte[] pcm;
+    private final int pcmLength;
+
+    WavAudio(byte[] pcm, int pcmLength) {
+        if (pcmLength < 0 || pcmLength > pcm.length) {
+            throw new IllegalArgumentException("PCM length out of range: " + pcmLength);
+        }
+        this.header = WavEncoder.wavHeader(pcmLength);
+        this.pcm = pcm;
+        this.pcmLength = pcmLength;
+    }
+
+    public static WavAudio of(byte[] littleEndianPcm) {
+        return new WavAudio(littleEndianPcm, littleEndianPcm.length);
+    }
+
+    public int length() {
+        return header.length + pcmLength;
+    }
+
+    public int pcmLength() {
+        return pcmLength;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(header);
+        out.write(pcm, 0, pcmLength);
+    }
+
+    public InputStream openStream() {
+        return new SequenceInputStream(
+                new ByteArrayInputStream(header),
+                new ByteArrayInputStream(pcm, 0, pcmLength));
+    }
+
+    public byte[] toByteArray() {
+        byte[] copy = new byte[length()];
+        System.arraycopy(header, 0, copy, 0, header.length);
+        System.arraycopy(pcm, 0, copy, header.length, pcmLength);
+        return copy;
+    }
+}
@@ -7,6 +7,8 @@ final class WavEncoder {
     static final int SAMPLE_RATE = 48_000;
     static final short CHANNELS = 2;
     static final short BITS_PER_SAMPLE = 16;
+    static final int HEADER_BYTES = 44;
+    static final int BYTES_PER_SECOND = SAMPLE_RATE * CHANNELS * BITS_PER_SAMPLE / 8;
 
     private WavEncoder() {}
 
@@ -23,12 +25,53 @@ final class WavEncoder {
         return converted;
     }
 
+    /**
+     * Swaps each 16-bit sample's byte order in place, avoiding the copy made by
+     * {@link #bigEndianToLittleEndian(byte[])} on the receive hot path.
+     */
+    static void swapBytesInPlace(byte[] pcm) {
+        if ((pcm.length & 1) != 0) {
+            throw new IllegalArgumentException("16-bit PCM byte length must be even");
+        }
+        for (int i = 0; i < pcm.length; i += 2) {
+            byte high = pcm[i];
+            pcm[i] = pcm[i + 1];
+            pcm[i + 1] = high;
+        }
+    }
+
     static byte[] pcmToWav(byte[] pcm) {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + pcm.length).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(out, pcm.length);
+        out.put(pcm);
+        return out.array();
+    }
+
+    static byte[] wavHeader(int pcmLength) {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(out, pcmLength);
+        return out.array();
+    }
+
+    /**
+     * Header for audio whose length is not known when sending starts. Both
+     * chunk sizes are left at 0xFFFFFFFF, the usual marker for streamed WAV.
+     */
+    static byte[] streamingWavHeader() {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeHeader(out, -1, -1);
+        return out.array();
+    }
+
+    private static void writeHeader(ByteBuffer out, int pcmLength) {
+        writeHeader(out, 36 + pcmLength, pcmLength);
+    }
+
+    private static void writeHeader(ByteBuffer out, int riffSize, int dataSize) {
         int byteRate = SAMPLE_RATE * CHANNELS * BITS_PER_SAMPLE / 8;
         short blockAlign = (short) (CHANNELS * BITS_PER_SAMPLE / 8);
-        ByteBuffer out = ByteBuffer.allocate(44 + pcm.length).order(ByteOrder.LITTLE_ENDIAN);
         putAscii(out, "RIFF");
-        out.putInt(36 + pcm.length);
+        out.putInt(riffSize);
         putAscii(out, "WAVE");
         putAscii(out, "fmt ");
         out.putInt(16);
@@ -39,9 +82,7 @@ final class WavEncoder {
         out.putShort(blockAlign);
         out.putShort(BITS_PER_SAMPLE);
         putAscii(out, "data");
-        out.putInt(pcm.length);
-        out.put(pcm);
-        return out.array();
+        out.putInt(dataSize);
     }
 
     private static void putAscii(ByteBuffer buffer, String value) {
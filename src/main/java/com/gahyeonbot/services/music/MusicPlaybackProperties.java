@@ -0,0 +1,23 @@
+package com.gahyeonbot.services.music;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음악 재생 설정.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "music.playback")
+public class MusicPlaybackProperties {
+    /** 다음 트랙을 미리 버퍼링해 무음 없이 전환할지 여부. */
+    private boolean gapless = true;
+    /**
+     * 현재 트랙 종료 몇 초 전에 다음 트랙을 준비할지.
+     * LavaPlayer 기본 프레임 버퍼(5초)보다 길게 잡아도 그 이상은 미리 디코딩되지 않습니다.
+     */
+    private int prefetchSeconds = 5;
+}
@@ -4,16 +4,27 @@ import com.gahyeonbot.commands.util.EmbedUtil;
 import com.gahyeonbot.commands.util.ResponseUtil;
 import com.gahyeonbot.core.audio.AudioManager;
 import com.gahyeonbot.core.audio.GuildMusicManager;
+import com.gahyeonbot.services.streaming.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.player.AudioLoadResultHandler;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * 음악 재생을 관리하는 서비스 클래스.
@@ -22,11 +33,22 @@ import java.util.Map;
  * @author GahyeonBot Team
  * @version 1.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MusicService {
+    private static final int PLAYLIST_CHUNK_SIZE = 100;
+    private static final int MAX_CONCURRENT_PLAYLIST_LOADS = 4;
+    private static final long PLAYLIST_PROGRESS_INTERVAL_MILLIS = 1_500;
+
     private final Map<Long, GuildMusicManager> musicManagers;
     private final AudioManager audioManager;
+    private final SearchResultCache searchCache;
+    private final MusicPlaybackProperties playbackProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService playlistWorkers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore playlistPermits = new Semaphore(MAX_CONCURRENT_PLAYLIST_LOADS);
 
     /**
      * 서버의 음악 매니저를 가져오거나 새로 생성합니다.
@@ -37,10 +59,24 @@ public class MusicService {
     public GuildMusicManager getOrCreateGuildMusicManager(Guild guild) {
         return musicManagers.computeIfAbsent(
                 guild.getIdLong(),
-                id -> new GuildMusicManager(audioManager.getPlayerManager(), guild.getAudioManager())
+                id -> new GuildMusicManager(
+                        audioManager.getPlayerManager(),
+                        guild.getAudioManager(),
+                        playbackProperties.isGapless() ? playbackProperties.getPrefetchSeconds() * 1_000L : 0,
+                        (gapless, latency) -> recordTransition(id, gapless, latency))
         );
     }
 
+    private void recordTransition(long guildId, boolean gapless, Duration latency) {
+        Timer.builder("gahyeonbot.music.track.transition")
+                .description("이전 트랙 종료부터 다음 트랙 첫 프레임 전송까지의 지연")
+                .tag("guild", Long.toString(guildId))
+                .tag("mode", gapless ? "gapless" : "cold")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latency);
+    }
+
     /**
      * 봇이 보이스 채널에 연결되어 있는지 확인하고, 연결되지 않은 경우 연결합니다.
      * 
@@ -74,18 +110,29 @@ public class MusicService {
      * @param albumCoverUrl 앨범 커버 URL
      */
     public void loadAndPlay(SlashCommandInteractionEvent event, String streamUrl, GuildMusicManager musicManager, String query,String albumCoverUrl) {
+        // 같은 검색어로 이미 로드한 트랙이 있으면 LavaPlayer 검색 없이 복제본을 재생
+        AudioTrack cachedTrack = searchCache.findTrack(query);
+        if (cachedTrack != null) {
+            handleTrackLoaded(event, musicManager, cachedTrack, albumCoverUrl, streamUrl);
+            return;
+        }
+
         audioManager.getPlayerManager().loadItem(streamUrl, new AudioLoadResultHandler() {
             @Override
             public void trackLoaded(AudioTrack track) {
+                searchCache.rememberTrack(query, track);
                 handleTrackLoaded(event, musicManager, track, albumCoverUrl,streamUrl);
             }
 
             @Override
             public void playlistLoaded(AudioPlaylist playlist) {
-                if (!playlist.getTracks().isEmpty()) {
+                if (playlist.getTracks().isEmpty()) {
+                    ResponseUtil.replyError(event, "재생 가능한 트랙이 없습니다.");
+                } else if (playlist.isSearchResult()) {
+                    searchCache.rememberTrack(query, playlist.getTracks().get(0));
                     handleTrackLoaded(event, musicManager, playlist.getTracks().get(0),albumCoverUrl, streamUrl);
                 } else {
-                    ResponseUtil.replyError(event, "재생 가능한 트랙이 없습니다.");
+                    handlePlaylistLoaded(event, musicManager, playlist);
                 }
             }
 
@@ -119,4 +166,72 @@ public class MusicService {
         }
     }
 
+    /**
+     * 재생목록 전체를 대기열에 추가합니다.
+     * 첫 트랙(또는 선택된 트랙)은 즉시 재생/추가하고, 나머지는 가상 스레드에서 청크 단위로 추가하며
+     * 지연 응답(deferred reply) 메시지를 진행 상황으로 갱신합니다.
+     *
+     * @param event 슬래시 명령어 상호작용 이벤트
+     * @param musicManager 음악 매니저
+     * @param playlist 로드된 재생목록
+     */
+    private void handlePlaylistLoaded(SlashCommandInteractionEvent event, GuildMusicManager musicManager, AudioPlaylist playlist) {
+        List<AudioTrack> tracks = playlist.getTracks();
+        AudioTrack first = playlist.getSelectedTrack() != null ? playlist.getSelectedTrack() : tracks.getFirst();
+        List<AudioTrack> rest = new ArrayList<>(tracks.size() - 1);
+        for (AudioTrack track : tracks) {
+            if (track != first) rest.add(track);
+        }
+        String playlistName = playlist.getName();
+        int total = rest.size() + 1;
+
+        musicManager.playOrQueueTrack(first);
+        updatePlaylistProgress(event, playlistName, 1, total);
+        if (rest.isEmpty()) {
+            return;
+        }
+        playlistWorkers.submit(() -> ingestPlaylist(event, musicManager, playlistName, rest, total));
+    }
+
+    private void ingestPlaylist(SlashCommandInteractionEvent event, GuildMusicManager musicManager,
+                                String playlistName, List<AudioTrack> rest, int total) {
+        boolean acquired = false;
+        int added = 1;
+        try {
+            playlistPermits.acquire();
+            acquired = true;
+            long lastProgressAt = System.currentTimeMillis();
+            for (int from = 0; from < rest.size(); from += PLAYLIST_CHUNK_SIZE) {
+                List<AudioTrack> chunk = rest.subList(from, Math.min(from + PLAYLIST_CHUNK_SIZE, rest.size()));
+                musicManager.queueTracks(chunk);
+                added += chunk.size();
+                long now = System.currentTimeMillis();
+                if (added < total && now - lastProgressAt >= PLAYLIST_PROGRESS_INTERVAL_MILLIS) {
+                    updatePlaylistProgress(event, playlistName, added, total);
+                    lastProgressAt = now;
+                }
+            }
+            updatePlaylistProgress(event, playlistName, added, total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("재생목록 추가 중단: {} ({}/{})", playlistName, added, total);
+        } catch (Exception e) {
+            log.error("재생목록 추가 실패: {} ({}/{})", playlistName, added, total, e);
+            ResponseUtil.replyError(event, "재생목록을 모두 추가하지 못했습니다. (" + added + "/" + total + ")");
+        } finally {
+            if (acquired) playlistPermits.release();
+        }
+    }
+
+    private void updatePlaylistProgress(SlashCommandInteractionEvent event, String playlistName, int added, int total) {
+        event.getHook()
+                .editOriginalEmbeds(EmbedUtil.createPlaylistProgressEmbed(playlistName, added, total, event.getUser()).build())
+                .queue(null, err -> log.warn("재생목록 진행 상황 갱신 실패: {}", err.getMessage()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        playlistWorkers.shutdownNow();
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.gahyeonbot.services.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 DM 채널 ID 캐시.
+ * DM을 보낼 때마다 채널을 새로 열지 않도록 한 번 연 채널 ID를 메모리에 둡니다.
+ * JDA는 자기 캐시에 있는 채널로만 바로 보낼 수 있어 재시작 뒤에는 ID만으로 아낄 호출이 없으므로 DB에 남기지 않습니다.
+ */
+@Component
+public class DmChannelCache {
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<Long, Long> channelIds = new ConcurrentHashMap<>();
+
+    public DmChannelCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("gahyeonbot.dm.channel.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gahyeonbot.dm.channel.cache", "result", "miss");
+        meterRegistry.gauge("gahyeonbot.dm.channel.cache.size", channelIds, Map::size);
+    }
+
+    /**
+     * @return 사용자의 DM 채널 ID, 모르면 0
+     */
+    public long channelId(long userId) {
+        Long channelId = channelIds.get(userId);
+        if (channelId == null) {
+            misses.increment();
+            return 0;
+        }
+        hits.increment();
+        return channelId;
+    }
+
+    /**
+     * 새로 연 DM 채널을 기억합니다.
+     */
+    public void remember(long userId, long channelId) {
+        channelIds.put(userId, channelId);
+    }
+
+    /**
+     * 더 이상 쓸 수 없는 DM 채널을 지웁니다. 다음 전송에서 채널을 다시 엽니다.
+     */
+    public void evict(long userId) {
+        channelIds.remove(userId);
+    }
+
+    public int size() {
+        return channelIds.size();
+    }
+}
@@ -3,12 +3,17 @@ package com.gahyeonbot.services.notification;
 import com.gahyeonbot.core.BotInitializerRunner;
 import com.gahyeonbot.entity.DmDeliveryLog;
 import com.gahyeonbot.repository.DmDeliveryLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
-import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -20,7 +25,10 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.HexFormat;
-import java.util.function.Consumer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -32,6 +40,9 @@ public class DmDispatchService {
     private final BotInitializerRunner botInitializerRunner;
     private final DmDeliveryLogRepository deliveryLogRepository;
     private final DmSubscriptionService subscriptionService;
+    private final DmFanout fanout;
+    private final DmChannelCache channelCache;
+    private final MeterRegistry meterRegistry;
 
     @Value("${notifications.dm.enabled:true}")
     private boolean dmEnabled;
@@ -52,9 +63,7 @@ public class DmDispatchService {
                 dedupeKey,
                 sha256(content),
                 "userId/content/dedupeKey are required",
-                user -> user.openPrivateChannel()
-                        .flatMap(channel -> channel.sendMessage(truncateContent(trimmed)))
-                        .complete()
+                channel -> channel.sendMessage(truncateContent(trimmed))
         );
     }
 
@@ -67,29 +76,97 @@ public class DmDispatchService {
                     .build();
         }
 
-        String contentHash = sha256(
-                (embed.getTitle() != null ? embed.getTitle() : "")
-                        + (embed.getDescription() != null ? embed.getDescription() : "")
-        );
         return dispatchInternal(
                 runId,
                 userId,
                 dedupeKey,
-                contentHash,
+                embedHash(embed),
                 "userId/embed/dedupeKey are required",
-                user -> user.openPrivateChannel()
-                        .flatMap(channel -> channel.sendMessageEmbeds(embed))
-                        .complete()
+                channel -> channel.sendMessageEmbeds(embed)
         );
     }
 
+    /**
+     * 구독자 전체에게 같은 임베드를 보냅니다. 대상은 이미 구독 중인 사용자로 골라 넘겨야 하며,
+     * dedupe key는 {@code runId-userId}입니다.
+     */
+    public DmFanout.Result dispatchEmbedToAll(String runId, List<Long> userIds, MessageEmbed embed) {
+        ShardManager shardManager = botInitializerRunner.getShardManager();
+        if (!dmEnabled || shardManager == null) {
+            log.warn("DM 일괄 발송 건너뜀 - runId: {}, enabled: {}, ready: {}", runId, dmEnabled, shardManager != null);
+            return new DmFanout.Result(0, 0, userIds.size());
+        }
+        return fanout.dispatch(safeRunId(runId), userIds, embedHash(embed),
+                userId -> sendAsync(shardManager, userId, channel -> channel.sendMessageEmbeds(embed)));
+    }
+
+    /**
+     * 사용자에게 DM을 보냅니다. 기억한 채널 ID가 JDA 캐시에 있으면 채널을 열지 않고 바로 보내고,
+     * 없으면 사용자 조회 없이 채널을 열어 ID를 기억합니다.
+     * 기억한 채널이 사라졌으면 지우고 새로 열어 한 번 더 보내고, 보낼 수 없는 사용자(403)면 지우고 실패로 끝냅니다.
+     */
+    private CompletableFuture<Message> sendAsync(
+            ShardManager shardManager, long userId, Function<PrivateChannel, MessageCreateAction> message) {
+        long channelId = channelCache.channelId(userId);
+        PrivateChannel known = channelId == 0 ? null : shardManager.getPrivateChannelById(channelId);
+        if (known == null) {
+            return openAndSend(shardManager, userId, message);
+        }
+        countCall("send_message");
+        return message.apply(known).submit()
+                .exceptionallyCompose(error -> {
+                    ErrorResponseException response = errorResponse(error);
+                    if (response != null && response.getErrorResponse() == ErrorResponse.UNKNOWN_CHANNEL) {
+                        channelCache.evict(userId);
+                        return openAndSend(shardManager, userId, message);
+                    }
+                    if (isForbidden(response)) {
+                        channelCache.evict(userId);
+                    }
+                    return CompletableFuture.failedFuture(error);
+                });
+    }
+
+    private CompletableFuture<Message> openAndSend(
+            ShardManager shardManager, long userId, Function<PrivateChannel, MessageCreateAction> message) {
+        countCall("open_private_channel");
+        return shardManager.openPrivateChannelById(userId).submit()
+                .thenCompose(channel -> {
+                    channelCache.remember(userId, channel.getIdLong());
+                    countCall("send_message");
+                    return message.apply(channel).submit();
+                })
+                .whenComplete((sent, error) -> {
+                    if (isForbidden(errorResponse(error))) {
+                        channelCache.evict(userId);
+                    }
+                });
+    }
+
+    private static ErrorResponseException errorResponse(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error instanceof ErrorResponseException response ? response : null;
+    }
+
+    private static boolean isForbidden(ErrorResponseException response) {
+        return response != null && (response.getErrorResponse() == ErrorResponse.CANNOT_SEND_TO_USER
+                || response.getErrorResponse() == ErrorResponse.MISSING_ACCESS
+                || response.getResponse() != null && response.getResponse().code == 403);
+    }
+
+    private void countCall(String route) {
+        meterRegistry.counter("gahyeonbot.discord.api.calls", "route", route).increment();
+    }
+
     private DispatchResult dispatchInternal(
             String runId,
             Long userId,
             String dedupeKey,
             String contentHash,
             String invalidInputMessage,
-            Consumer<User> sendFn
+            Function<PrivateChannel, MessageCreateAction> sendFn
     ) {
         if (!dmEnabled) {
             return DispatchResult.builder()
@@ -152,17 +229,7 @@ public class DmDispatchService {
         }
 
         try {
-            User user = resolveUser(shardManager, userId);
-            if (user == null) {
-                markFailed(logEntry, "FAILED_USER_NOT_FOUND", "user not found");
-                return DispatchResult.builder()
-                        .sent(false)
-                        .status("FAILED_USER_NOT_FOUND")
-                        .message("user not found")
-                        .build();
-            }
-
-            sendFn.accept(user);
+            sendAsync(shardManager, userId, sendFn).join();
 
             logEntry.setStatus("SENT");
             logEntry.setErrorMessage(null);
@@ -175,28 +242,27 @@ public class DmDispatchService {
                     .message("ok")
                     .build();
         } catch (Exception e) {
-            log.warn("DM 전송 실패 - userId: {}, reason: {}", userId, e.getMessage());
-            markFailed(logEntry, "FAILED_SEND", e.getMessage());
+            ErrorResponseException response = errorResponse(e);
+            if (response != null && response.getErrorResponse() == ErrorResponse.UNKNOWN_USER) {
+                markFailed(logEntry, "FAILED_USER_NOT_FOUND", "user not found");
+                return DispatchResult.builder()
+                        .sent(false)
+                        .status("FAILED_USER_NOT_FOUND")
+                        .message("user not found")
+                        .build();
+            }
+
+            String reason = response != null ? response.getMessage() : e.getMessage();
+            log.warn("DM 전송 실패 - userId: {}, reason: {}", userId, reason);
+            markFailed(logEntry, "FAILED_SEND", reason);
             return DispatchResult.builder()
                     .sent(false)
                     .status("FAILED_SEND")
-                    .message(e.getMessage())
+                    .message(reason)
                     .build();
         }
     }
 
-    private User resolveUser(ShardManager shardManager, long userId) {
-        User cached = shardManager.getUserById(userId);
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            return shardManager.retrieveUserById(userId).complete();
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     private void markFailed(DmDeliveryLog logEntry, String status, String reason) {
         logEntry.setStatus(status);
         logEntry.setErrorMessage(reason);
@@ -204,6 +270,13 @@ public class DmDispatchService {
         deliveryLogRepository.save(logEntry);
     }
 
+    private String embedHash(MessageEmbed embed) {
+        return sha256(
+                (embed.getTitle() != null ? embed.getTitle() : "")
+                        + (embed.getDescription() != null ? embed.getDescription() : "")
+        );
+    }
+
     private String safeRunId(String runId) {
         if (runId == null || runId.isBlank()) {
             return "internal-run";
@@ -0,0 +1,173 @@
+package com.gahyeonbot.services.notification;
+
+import com.gahyeonbot.entity.DmDeliveryLog;
+import com.gahyeonbot.repository.DmDeliveryLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 여러 사용자에게 같은 DM을 보내는 발송기.
+ * 실행(runId)에서 이미 처리한 dedupe key를 한 번에 읽어 건너뛰고, 나머지를 {@code notifications.dm.fanout-batch-size}명씩
+ * 발송 로그로 선점한 뒤 비동기로 보냅니다. 동시에 진행 중인 전송은 {@code notifications.dm.fanout-max-concurrency}개로
+ * 제한하고, 끝난 전송이 그만큼 모일 때마다 결과를 배치로 기록합니다.
+ * 중간에 재시작하면 전송 실패와, {@link #RESERVATION_LEASE}가 지나도록 결과가 없는 선점을 다시 보내므로
+ * 빠지는 대상은 없고, 보냈지만 기록하지 못한 몇 건(동시 전송 수의 두 배 이내)만 다시 갈 수 있습니다.
+ * 임대 안의 선점은 다른 인스턴스가 보내는 중일 수 있으므로 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+public class DmFanout {
+    private static final long SEND_TIMEOUT_SECONDS = 60;
+    /**
+     * 결과 없이 남은 선점을 버려진 것으로 보는 시간. 선점한 전송은 빈 자리를 기다리는 데 한 번,
+     * 자기 전송에 한 번 전송 제한 시간을 넘지 않으므로, 인스턴스 간 시계 차이까지 감안해 세 배로 잡습니다.
+     */
+    static final Duration RESERVATION_LEASE = Duration.ofSeconds(3 * SEND_TIMEOUT_SECONDS);
+
+    private final DmDeliveryLogRepository deliveryLogRepository;
+    private final int batchSize;
+    private final int maxConcurrency;
+
+    @Autowired
+    public DmFanout(
+            DmDeliveryLogRepository deliveryLogRepository,
+            @Value("${notifications.dm.fanout-batch-size:200}") int batchSize,
+            @Value("${notifications.dm.fanout-max-concurrency:5}") int maxConcurrency) {
+        this.deliveryLogRepository = deliveryLogRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    static String dedupeKey(String runId, long userId) {
+        return runId + "-" + userId;
+    }
+
+    /**
+     * @param runId 실행 ID, 사용자 ID와 합쳐 dedupe key가 됩니다
+     * @param userIds 발송 대상
+     * @param contentHash 발송 로그에 남길 본문 해시
+     * @param sender 사용자 한 명에게 보내고 완료되면 끝나는 비동기 전송
+     * @return 발송 집계
+     */
+    public Result dispatch(String runId, List<Long> userIds, String contentHash, LongFunction<CompletableFuture<?>> sender) {
+        Set<String> processed = deliveryLogRepository.findDoneDedupeKeysByRunId(runId);
+        int duplicates = 0;
+        List<DmDeliveryLog> pending = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            String dedupeKey = dedupeKey(runId, userId);
+            if (processed.contains(dedupeKey)) {
+                duplicates++;
+                continue;
+            }
+            pending.add(DmDeliveryLog.builder()
+                    .runId(runId)
+                    .dedupeKey(dedupeKey)
+                    .userId(userId)
+                    .contentHash(contentHash)
+                    .status("RECEIVED")
+                    .attemptedAt(LocalDateTime.now())
+                    .build());
+        }
+        if (duplicates > 0) {
+            log.info("DM 발송 이어하기 - runId: {}, 처리됨: {}, 남음: {}", runId, duplicates, pending.size());
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        int sent = 0;
+        int failed = 0;
+        for (int start = 0; start < pending.size(); start += batchSize) {
+            List<DmDeliveryLog> chunk = pending.subList(start, Math.min(start + batchSize, pending.size()));
+            List<DmDeliveryLog> reserved = new ArrayList<>(chunk.size());
+            Queue<DmDeliveryLog> finished = new ConcurrentLinkedQueue<>();
+            List<CompletableFuture<?>> sends = new ArrayList<>(chunk.size());
+            try {
+                // 동시 전송 수만큼씩 보내기 직전에 선점하므로, 선점부터 결과 기록까지가 임대 시간 안에 끝납니다.
+                for (int from = 0; from < chunk.size(); from += maxConcurrency) {
+                    List<DmDeliveryLog> window = chunk.subList(from, Math.min(from + maxConcurrency, chunk.size()));
+                    LocalDateTime now = LocalDateTime.now();
+                    window.forEach(entry -> entry.setAttemptedAt(now));
+                    List<DmDeliveryLog> taken = deliveryLogRepository.reserveAll(window, now.minus(RESERVATION_LEASE));
+                    duplicates += window.size() - taken.size();
+                    for (DmDeliveryLog entry : taken) {
+                        permits.acquire();
+                        if (finished.size() >= maxConcurrency) flush(finished);
+                        reserved.add(entry);
+                        sends.add(send(sender, entry).whenComplete((ignored, error) -> {
+                            finished.add(entry);
+                            permits.release();
+                        }));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // 보내지 못한 대상은 RECEIVED로 남아 임대가 지난 뒤 다음 실행에서 다시 보냅니다.
+                Thread.currentThread().interrupt();
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            flush(finished);
+
+            for (DmDeliveryLog entry : reserved) {
+                if ("SENT".equals(entry.getStatus())) sent++;
+                else failed++;
+            }
+            log.debug("DM 발송 진행 - runId: {}, {}/{}", runId, Math.min(start + batchSize, pending.size()), pending.size());
+            if (Thread.currentThread().isInterrupted()) break;
+        }
+        return new Result(sent, duplicates, failed);
+    }
+
+    private void flush(Queue<DmDeliveryLog> finished) {
+        List<DmDeliveryLog> results = new ArrayList<>();
+        for (DmDeliveryLog entry; (entry = finished.poll()) != null; ) {
+            results.add(entry);
+        }
+        deliveryLogRepository.updateResults(results);
+    }
+
+    private static CompletableFuture<Void> send(LongFunction<CompletableFuture<?>> sender, DmDeliveryLog entry) {
+        CompletableFuture<?> future;
+        try {
+            future = sender.apply(entry.getUserId());
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS).handle((ignored, error) -> {
+            if (error == null) {
+                record(entry, "SENT", null);
+            } else {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                log.warn("DM 전송 실패 - userId: {}, reason: {}", entry.getUserId(), cause.getMessage());
+                record(entry, "FAILED_SEND", String.valueOf(cause.getMessage()));
+            }
+            return null;
+        });
+    }
+
+    private static void record(DmDeliveryLog entry, String status, String errorMessage) {
+        entry.setStatus(status);
+        entry.setErrorMessage(errorMessage);
+        entry.setAttemptedAt(LocalDateTime.now());
+    }
+
+    /**
+     * @param sent 이번 실행에서 보낸 수
+     * @param duplicates 이미 처리되어 건너뛴 수
+     * @param failed 보내지 못한 수
+     */
+    public record Result(int sent, int duplicates, int failed) {
+    }
+}
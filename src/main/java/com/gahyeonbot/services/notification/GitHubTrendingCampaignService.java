@@ -122,7 +122,9 @@ public class GitHubTrendingCampaignService {
             return;
         }
 
-        List<DmSubscription> subscribers = dmSubscriptionService.getOptedInSubscriptions();
+        List<Long> subscribers = dmSubscriptionService.getOptedInSubscriptions().stream()
+                .map(DmSubscription::getUserId)
+                .toList();
         if (subscribers.isEmpty()) {
             log.info("GitHub 트렌딩 DM 대상자가 없습니다.");
             return;
@@ -149,29 +151,12 @@ public class GitHubTrendingCampaignService {
             MessageEmbed embed = EmbedUtil.createGitHubTrendingEmbed(digest, repos).build();
 
             String runId = "trending-" + snapshotDate.format(RUN_DATE_FORMAT);
-            int sent = 0;
-            int failed = 0;
-            boolean shouldMarkEventsSent = false;
-
-            for (DmSubscription subscription : subscribers) {
-                Long userId = subscription.getUserId();
-                String dedupeKey = runId + "-" + userId;
-
-                DmDispatchService.DispatchResult result =
-                        dmDispatchService.dispatchEmbed(runId, userId, embed, dedupeKey);
-
-                if (result.isSent()) {
-                    sent++;
-                    shouldMarkEventsSent = true;
-                } else {
-                    failed++;
-                    if ("SKIPPED_DUPLICATE".equals(result.getStatus())) {
-                        shouldMarkEventsSent = true;
-                    }
-                }
-            }
+            DmFanout.Result result = dmDispatchService.dispatchEmbedToAll(runId, subscribers, embed);
+            int sent = result.sent();
+            int failed = result.duplicates() + result.failed();
 
-            if (shouldMarkEventsSent) {
+            // 이전 실행에서 이미 보낸 대상이 있으면(재시작 후 이어하기 포함) 스냅샷을 발송 완료로 봅니다.
+            if (sent > 0 || result.duplicates() > 0) {
                 OffsetDateTime markedAt = OffsetDateTime.now();
                 for (GitHubTrendingEvent e : events) {
                     if (e.getSentAt() == null) {
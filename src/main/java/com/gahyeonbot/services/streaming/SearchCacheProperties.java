@@ -0,0 +1,25 @@
+package com.gahyeonbot.services.streaming;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음악 검색 결과 캐시 설정.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "music.search-cache")
+public class SearchCacheProperties {
+    private boolean enabled = true;
+    /** 캐시에 보관할 최대 검색어 수. */
+    private int maxEntries = 2_000;
+    /** 검색 결과 보관 시간. */
+    private long ttlMinutes = 360;
+    /** 만료 후에도 재워밍 대상으로 기억할 최근 재생 검색어 수. */
+    private int historySize = 200;
+    /** 한 번의 재워밍에서 다시 검색할 최대 검색어 수. */
+    private int prewarmBatchSize = 30;
+}
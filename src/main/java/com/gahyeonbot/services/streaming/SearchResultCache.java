@@ -0,0 +1,177 @@
+package com.gahyeonbot.services.streaming;
+
+import com.gahyeonbot.models.SearchResult;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정규화된 검색어를 키로 하는 크기 제한 + TTL 음악 검색 캐시.
+ * 검색 결과({@link SearchResult})와, 한 번 로드된 트랙의 원본({@link AudioTrack#makeClone()}용)을 함께 보관합니다.
+ * 캐시 적중 시 Spotify 검색과 LavaPlayer 검색을 모두 건너뛸 수 있습니다.
+ */
+@Component
+public class SearchResultCache {
+    private final SearchCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<String, String> recentPlays = new LinkedHashMap<>(64, 0.75f, true);
+
+    public SearchResultCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = meterRegistry.counter("gahyeonbot.music.search.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gahyeonbot.music.search.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("gahyeonbot.music.search.cache.evictions");
+        meterRegistry.gauge("gahyeonbot.music.search.cache.size", this, SearchResultCache::size);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환합니다.
+     *
+     * @param query 사용자 검색어
+     * @return 캐시된 결과, 없거나 만료되었으면 null
+     */
+    public SearchResult get(String query) {
+        Entry entry = lookup(query, true);
+        return entry == null ? null : entry.result;
+    }
+
+    /**
+     * 캐시된 트랙의 복제본을 반환합니다. 통계에는 반영하지 않습니다.
+     *
+     * @param query 사용자 검색어
+     * @return 재생 가능한 새 트랙, 없으면 null
+     */
+    public AudioTrack findTrack(String query) {
+        Entry entry = lookup(query, false);
+        return entry == null || entry.track == null ? null : entry.track.makeClone();
+    }
+
+    public void put(String query, SearchResult result) {
+        if (!isEnabled() || result == null || result.getStreamUrl() == null) return;
+        String key = normalize(query);
+        if (key.isEmpty()) return;
+        synchronized (this) {
+            Entry previous = entries.get(key);
+            AudioTrack track = previous != null && result.getStreamUrl().equals(previous.result.getStreamUrl())
+                    ? previous.track
+                    : null;
+            entries.put(key, new Entry(result, track, expiresAt()));
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 검색어로 실제 재생된 트랙을 기억합니다. 원본 트랙은 재생에 쓰이므로 복제본을 보관합니다.
+     * URL은 검색어가 아니므로 기억하지 않습니다.
+     *
+     * @param query 사용자 검색어
+     * @param track 로드된 트랙
+     */
+    public void rememberTrack(String query, AudioTrack track) {
+        if (!isEnabled() || track == null || isDirectUrl(query)) return;
+        String key = normalize(query);
+        if (key.isEmpty()) return;
+        AudioTrack prototype = track.makeClone();
+        synchronized (this) {
+            recentPlays.put(key, query.trim());
+            while (recentPlays.size() > Math.max(0, properties.getHistorySize())) {
+                recentPlays.pollFirstEntry();
+            }
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, new Entry(entry.result, prototype, entry.expiresAt));
+            }
+        }
+    }
+
+    /**
+     * 최근 재생 기록 중 캐시에 없는 검색어를 최근 순으로 반환합니다.
+     *
+     * @return 재워밍할 검색어 목록
+     */
+    public synchronized List<String> prewarmCandidates() {
+        List<String> candidates = new ArrayList<>();
+        long now = System.nanoTime();
+        List<Map.Entry<String, String>> history = new ArrayList<>(recentPlays.entrySet());
+        for (int i = history.size() - 1; i >= 0 && candidates.size() < properties.getPrewarmBatchSize(); i--) {
+            Entry entry = entries.get(history.get(i).getKey());
+            if (entry == null || entry.expiresAt - now < ttlNanos() / 4) {
+                candidates.add(history.get(i).getValue());
+            }
+        }
+        return candidates;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 재생목록/트랙 URL 여부. URL은 검색 없이 LavaPlayer에 그대로 전달되므로 캐시하지 않습니다.
+     */
+    static boolean isDirectUrl(String query) {
+        if (query == null) return false;
+        String trimmed = query.trim();
+        return trimmed.startsWith("https://") || trimmed.startsWith("http://");
+    }
+
+    static String normalize(String query) {
+        if (query == null) return "";
+        return Normalizer.normalize(query, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private Entry lookup(String query, boolean record) {
+        if (!isEnabled()) return null;
+        String key = normalize(query);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (record) {
+            (entry == null ? misses : hits).increment();
+        }
+        return entry;
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > Math.max(1, properties.getMaxEntries())) {
+            entries.pollFirstEntry();
+            evictions.increment();
+        }
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + ttlNanos();
+    }
+
+    private long ttlNanos() {
+        return TimeUnit.MINUTES.toNanos(Math.max(1, properties.getTtlMinutes()));
+    }
+
+    private record Entry(SearchResult result, AudioTrack track, long expiresAt) {}
+}
@@ -1,10 +1,16 @@
 package com.gahyeonbot.services.streaming;
 
+import com.gahyeonbot.core.audio.AudioManager;
 import com.gahyeonbot.core.audio.StreamingSource;
 import com.gahyeonbot.models.SearchResult;
+import com.sedmelluq.discord.lavaplayer.player.FunctionalResultHandler;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 음악 스트리밍 서비스를 관리하는 클래스.
  * 다양한 음악 플랫폼에서 음악을 검색하고 스트리밍 URL을 제공합니다.
@@ -12,19 +18,80 @@ import org.springframework.stereotype.Service;
  * @author GahyeonBot Team
  * @version 1.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StreamingService {
     private final SpotifySearchService spotifySearchService;
     private final StreamingSource streamingSource;
+    private final SearchResultCache searchCache;
+    private final AudioManager audioManager;
 
     /**
      * Spotify와 SoundCloud 데이터를 조합하여 검색 결과를 반환합니다.
+     * 같은 검색어의 결과는 {@link SearchResultCache}에서 재사용합니다.
      *
      * @param query 사용자 입력 쿼리
      * @return SearchResult 객체
      */
     public SearchResult search(String query) {
+        // 재생목록/트랙 URL은 검색 없이 LavaPlayer에 그대로 전달
+        if (SearchResultCache.isDirectUrl(query)) {
+            return new SearchResult(query.trim(), null);
+        }
+
+        SearchResult cached = searchCache.get(query);
+        if (cached != null) {
+            return cached;
+        }
+
+        SearchResult result = searchUncached(query);
+        searchCache.put(query, result);
+        return result;
+    }
+
+    /**
+     * 최근 재생 기록 중 만료되었거나 곧 만료될 검색어를 미리 다시 검색하고 트랙까지 로드해 둡니다.
+     */
+    @Scheduled(
+            initialDelayString = "${music.search-cache.prewarm-millis:600000}",
+            fixedDelayString = "${music.search-cache.prewarm-millis:600000}")
+    public void prewarmRecentPlays() {
+        if (!searchCache.isEnabled()) return;
+        List<String> queries = searchCache.prewarmCandidates();
+        if (queries.isEmpty()) return;
+        log.info("음악 검색 캐시 재워밍: {}건", queries.size());
+        for (String query : queries) {
+            try {
+                prewarm(query);
+            } catch (Exception e) {
+                log.warn("음악 검색 캐시 재워밍 실패 query={}: {}", query, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 검색어 하나를 캐시에 미리 적재합니다.
+     *
+     * @param query 사용자 검색어
+     */
+    public void prewarm(String query) {
+        if (SearchResultCache.isDirectUrl(query)) return;
+        SearchResult result = searchUncached(query);
+        if (result.getStreamUrl() == null) return;
+        searchCache.put(query, result);
+        audioManager.getPlayerManager().loadItem(result.getStreamUrl(), new FunctionalResultHandler(
+                track -> searchCache.rememberTrack(query, track),
+                playlist -> {
+                    if (playlist.isSearchResult() && !playlist.getTracks().isEmpty()) {
+                        searchCache.rememberTrack(query, playlist.getTracks().getFirst());
+                    }
+                },
+                null,
+                null));
+    }
+
+    private SearchResult searchUncached(String query) {
         // Step 1: Spotify 검색
         var track = spotifySearchService.searchTrack(query);
 
@@ -27,6 +27,21 @@ public class CustomVoiceTtsProvider implements TtsProvider {
 
     @Override
     public Path synthesize(String text) throws Exception {
+        TtsAudio audio = synthesizeAudio(text);
+        Path dir = Path.of(System.getProperty("java.io.tmpdir"), "gahyeonbot-tts");
+        Files.createDirectories(dir);
+        Path path = Files.createTempFile(dir, "tts_custom_", "." + audio.format());
+        try {
+            Files.write(path, audio.data());
+            return path;
+        } catch (Exception e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    @Override
+    public TtsAudio synthesizeAudio(String text) throws Exception {
         if (!isReady()) throw new IllegalStateException("커스텀 음성 서버 설정이 필요합니다.");
         var custom = properties.getCustom();
         var factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
@@ -51,17 +66,7 @@ public class CustomVoiceTtsProvider implements TtsProvider {
         if (audio == null || audio.length < 256) {
             throw new IllegalStateException("커스텀 음성 서버가 빈 오디오를 반환했습니다.");
         }
-
-        Path dir = Path.of(System.getProperty("java.io.tmpdir"), "gahyeonbot-tts");
-        Files.createDirectories(dir);
-        Path path = Files.createTempFile(dir, "tts_custom_", "." + normalizedFormat(custom.getFormat()));
-        try {
-            Files.write(path, audio);
-            return path;
-        } catch (Exception e) {
-            Files.deleteIfExists(path);
-            throw e;
-        }
+        return new TtsAudio(audio, normalizedFormat(custom.getFormat()));
     }
 
     private static String normalizedFormat(String format) {
@@ -30,27 +30,8 @@ public class EdgeTtsProvider implements TtsProvider {
         Path audio = Files.createTempFile(dir, "tts_edge_", ".mp3");
         try {
             var edge = properties.getEdge();
-            if (edge.getEndpoint() != null && !edge.getEndpoint().isBlank()) {
-                var factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
-                factory.setConnectTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()));
-                factory.setReadTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()));
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                byte[] requestBody = new ObjectMapper().writeValueAsBytes(java.util.Map.of(
-                        "text", text,
-                        "voice", edge.getVoice(),
-                        "rate", edge.getRate(),
-                        "pitch", edge.getPitch()));
-                headers.setContentLength(requestBody.length);
-                ResponseEntity<byte[]> response = new RestTemplate(factory).exchange(
-                        edge.getEndpoint(), HttpMethod.POST,
-                        new HttpEntity<>(requestBody, headers),
-                        byte[].class);
-                byte[] bytes = response.getBody();
-                if (bytes == null || bytes.length < 256) {
-                    throw new IllegalStateException("Edge TTS sidecar produced empty audio");
-                }
-                Files.write(audio, bytes);
+            if (hasSidecar()) {
+                Files.write(audio, requestSidecar(text));
                 return audio;
             }
 
@@ -88,4 +69,39 @@ public class EdgeTtsProvider implements TtsProvider {
             throw e;
         }
     }
+
+    @Override
+    public TtsAudio synthesizeAudio(String text) throws Exception {
+        if (hasSidecar()) return new TtsAudio(requestSidecar(text), "mp3");
+        return TtsProvider.super.synthesizeAudio(text);
+    }
+
+    private boolean hasSidecar() {
+        String endpoint = properties.getEdge().getEndpoint();
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    private byte[] requestSidecar(String text) throws Exception {
+        var edge = properties.getEdge();
+        var factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()));
+        factory.setReadTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] requestBody = new ObjectMapper().writeValueAsBytes(java.util.Map.of(
+                "text", text,
+                "voice", edge.getVoice(),
+                "rate", edge.getRate(),
+                "pitch", edge.getPitch()));
+        headers.setContentLength(requestBody.length);
+        ResponseEntity<byte[]> response = new RestTemplate(factory).exchange(
+                edge.getEndpoint(), HttpMethod.POST,
+                new HttpEntity<>(requestBody, headers),
+                byte[].class);
+        byte[] bytes = response.getBody();
+        if (bytes == null || bytes.length < 256) {
+            throw new IllegalStateException("Edge TTS sidecar produced empty audio");
+        }
+        return bytes;
+    }
 }
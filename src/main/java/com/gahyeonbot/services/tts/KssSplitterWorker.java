@@ -0,0 +1,155 @@
+package com.gahyeonbot.services.tts;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청 사이에 재사용되는 KSS 문장 분리 프로세스.
+ * 스크립트를 {@code --serve} 모드로 한 번만 띄워 파이썬 기동과 KSS 로딩 비용을 첫 요청에만 치르고,
+ * 이후에는 한 줄짜리 JSON 요청/응답으로 통신합니다.
+ * 요청은 한 번에 하나씩 처리하며, 응답이 제한 시간 안에 오지 않거나 프로세스가 종료되면
+ * 프로세스를 정리하고 다음 요청에서 새로 띄웁니다.
+ */
+@Slf4j
+final class KssSplitterWorker implements AutoCloseable {
+    private static final TypeReference<List<String>> SENTENCES = new TypeReference<>() {};
+
+    private final List<String> command;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Process process;
+    private OutputStream stdin;
+    /** 현재 프로세스의 응답 줄. 빈 값은 프로세스 출력이 끝났다는 뜻입니다. */
+    private BlockingQueue<Optional<String>> responses;
+    private boolean closed;
+
+    KssSplitterWorker(List<String> command, ObjectMapper objectMapper, Duration timeout) {
+        this.command = List.copyOf(command);
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 텍스트를 문장 단위로 나눕니다.
+     *
+     * @param text 분리할 텍스트
+     * @return 분리된 문장 목록
+     * @throws Exception 프로세스를 띄울 수 없거나, 시간 초과, 잘못된 응답인 경우
+     */
+    List<String> split(String text) throws Exception {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("KSS splitter closed");
+            }
+            ensureStarted();
+            try {
+                stdin.write(objectMapper.writeValueAsBytes(Map.of("text", text)));
+                stdin.write('\n');
+                stdin.flush();
+            } catch (IOException e) {
+                stop();
+                throw e;
+            }
+            Optional<String> line = responses.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (line == null) {
+                stop();
+                throw new IllegalStateException("KSS splitter timeout");
+            }
+            if (line.isEmpty()) {
+                stop();
+                throw new IllegalStateException("KSS splitter exited");
+            }
+            return objectMapper.readValue(line.get(), SENTENCES);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            stop();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureStarted() throws IOException {
+        if (process != null && process.isAlive()) {
+            return;
+        }
+        stop();
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.environment().put("PYTHONIOENCODING", "utf-8");
+        pb.environment().put("PYTHONUNBUFFERED", "1");
+        Process started = pb.start();
+        BlockingQueue<Optional<String>> queue = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().name("kss-splitter-out").start(() -> readResponses(started, queue));
+        Thread.ofVirtual().name("kss-splitter-err").start(() -> drainErrors(started));
+        process = started;
+        stdin = started.getOutputStream();
+        responses = queue;
+        log.info("KSS 문장 분리 프로세스 시작 (pid={})", started.pid());
+    }
+
+    private void stop() {
+        if (process == null) {
+            return;
+        }
+        try {
+            stdin.close();
+        } catch (IOException ignored) {
+        }
+        process.destroyForcibly();
+        process = null;
+        stdin = null;
+        responses = null;
+    }
+
+    private static void readResponses(Process process, BlockingQueue<Optional<String>> queue) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    queue.add(Optional.of(line.trim()));
+                }
+            }
+        } catch (IOException ignored) {
+            // 프로세스가 정리되면 스트림이 닫힙니다.
+        } finally {
+            queue.add(Optional.empty());
+        }
+    }
+
+    private static void drainErrors(Process process) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.debug("KSS splitter: {}", line);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.gahyeonbot.services.tts;
+
+/**
+ * In-memory synthesized audio; {@code format} is the file extension hint (wav, mp3).
+ */
+public record TtsAudio(byte[] data, String format) {
+}
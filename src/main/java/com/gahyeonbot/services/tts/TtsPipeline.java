@@ -0,0 +1,181 @@
+package com.gahyeonbot.services.tts;
+
+import com.gahyeonbot.core.audio.AudioManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 문장 단위 TTS 파이프라인.
+ * 앞 문장이 재생되는 동안 다음 문장들을 최대 {@code tts.lookahead}개까지 미리 합성하고,
+ * 합성된 오디오는 임시 파일 없이 메모리 트랙으로 순서대로 플레이어에 넘깁니다.
+ * N번째 문장은 N-lookahead번째 문장이 재생을 시작한 뒤에야 합성하므로, 재생이 밀려도 합성이 앞서 나가지 않습니다.
+ * 재생 시작을 {@code tts.playback-wait-seconds}보다 오래 기다리면(대기열이 비워진 경우 등) 그냥 합성합니다.
+ * 첫 오디오까지의 시간과 문장 사이 공백은 Micrometer 타이머로 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TtsPipeline {
+    private final TtsService ttsService;
+    private final TtsProperties properties;
+    private final AudioManager audioManager;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 문장들을 합성하여 순서대로 재생 대기열에 넣습니다.
+     *
+     * @param segments 합성할 문장 목록
+     * @param provider TTS 제공자 (null이면 기본 제공자)
+     * @param source 메트릭 태그 (예: command, assistant)
+     * @param keepConnection 재생 후 보이스 채널 연결을 유지할지 여부
+     * @param sink 준비된 트랙을 받을 콜백 (문장 순서대로 호출)
+     * @return 대기열에 넣은 문장 수. 한 문장도 넣지 못하면 첫 실패로 예외 완료됩니다.
+     */
+    public CompletableFuture<Integer> play(List<String> segments, String provider, String source,
+                                           boolean keepConnection, Consumer<AudioTrack> sink) {
+        Playback playback = new Playback(source);
+        return CompletableFuture.supplyAsync(
+                () -> run(segments, provider, keepConnection, sink, playback), executor);
+    }
+
+    TtsPlaybackListener listener(String source) {
+        return new Playback(source);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int run(List<String> segments, String provider, boolean keepConnection,
+                    Consumer<AudioTrack> sink, Playback playback) {
+        int window = Math.max(1, properties.getLookahead());
+        long waitNanos = TimeUnit.SECONDS.toNanos(Math.max(0, properties.getPlaybackWaitSeconds()));
+        Deque<CompletableFuture<TtsAudio>> pending = new ArrayDeque<>(window);
+        int next = 0;
+        int queued = 0;
+        RuntimeException firstFailure = null;
+        for (int index = 0; index < segments.size(); index++) {
+            while (next < segments.size() && pending.size() < window
+                    && (next < window || playback.hasStarted(next - window))) {
+                pending.add(submit(segments.get(next++), provider));
+            }
+            if (pending.isEmpty()) {
+                // 앞서 넘긴 문장이 모두 재생 대기 중이면, 이번 문장의 차례가 될 때까지 기다렸다가 합성합니다.
+                if (!playback.awaitStarted(next - window, waitNanos)) {
+                    log.debug("TTS 재생 시작 대기 시간 초과, 합성을 계속합니다 (index={})", index);
+                }
+                pending.add(submit(segments.get(next++), provider));
+            }
+            try {
+                TtsAudio audio = pending.poll().join();
+                AudioTrack track = audioManager.createMemoryTrack("TTS", audio.data(), audio.format());
+                track.setUserData(new TtsTrackMetadata(keepConnection, playback));
+                sink.accept(track);
+                queued++;
+            } catch (RuntimeException e) {
+                log.error("TTS 문장 합성 실패 (index={})", index, e);
+                if (firstFailure == null) firstFailure = e;
+            }
+        }
+        if (queued == 0 && firstFailure != null) throw firstFailure;
+        return queued;
+    }
+
+    private CompletableFuture<TtsAudio> submit(String segment, String provider) {
+        return CompletableFuture.supplyAsync(() -> synthesize(segment, provider), executor);
+    }
+
+    private TtsAudio synthesize(String segment, String provider) {
+        try {
+            return provider == null
+                    ? ttsService.synthesizeSegment(segment)
+                    : ttsService.synthesizeSegment(segment, provider);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 한 번의 합성 요청에 대한 재생 타이밍 기록기. 트랙 스케줄러가 문장 시작/종료를 알려줍니다.
+     * 재생을 시작한 문장 수는 합성 게이트로도 씁니다.
+     */
+    private final class Playback implements TtsPlaybackListener {
+        private final String source;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicBoolean firstStarted = new AtomicBoolean();
+        private volatile long lastEndedNanos;
+        private int segmentsStarted;
+
+        private Playback(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public void segmentStarted() {
+            long now = System.nanoTime();
+            if (firstStarted.compareAndSet(false, true)) {
+                record("gahyeonbot.tts.first.audio", now - startedNanos);
+            } else if (lastEndedNanos != 0) {
+                record("gahyeonbot.tts.segment.gap", now - lastEndedNanos);
+            }
+            synchronized (this) {
+                segmentsStarted++;
+                notifyAll();
+            }
+        }
+
+        synchronized boolean hasStarted(int index) {
+            return segmentsStarted > index;
+        }
+
+        /**
+         * @return index번째 문장이 제한 시간 안에 재생을 시작했으면 true
+         */
+        synchronized boolean awaitStarted(int index, long timeoutNanos) {
+            long deadline = System.nanoTime() + timeoutNanos;
+            try {
+                while (segmentsStarted <= index) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) return false;
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public void segmentEnded() {
+            lastEndedNanos = System.nanoTime();
+        }
+
+        private void record(String name, long nanos) {
+            Timer.builder(name)
+                    .tag("source", source)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(nanos));
+        }
+    }
+}
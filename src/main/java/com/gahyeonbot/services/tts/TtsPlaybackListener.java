@@ -0,0 +1,9 @@
+package com.gahyeonbot.services.tts;
+
+/**
+ * Notified by the track scheduler when a TTS segment starts or stops sending audio.
+ */
+public interface TtsPlaybackListener {
+    void segmentStarted();
+    void segmentEnded();
+}
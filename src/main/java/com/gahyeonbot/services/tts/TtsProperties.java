@@ -28,6 +28,12 @@ public class TtsProperties {
     /** Process timeout for splitter + synthesis. */
     private int timeoutSeconds = 20;
 
+    /** Segments synthesized ahead of the one being handed to the player. */
+    private int lookahead = 2;
+
+    /** How long a segment beyond the lookahead waits for earlier ones to start playing before it is synthesized anyway. */
+    private int playbackWaitSeconds = 60;
+
     private final Edge edge = new Edge();
     private final Custom custom = new Custom();
     private final Voicebox voicebox = new Voicebox();
@@ -93,5 +99,8 @@ public class TtsProperties {
 
         /** Splitter script path (copied into image as /app/tts_split.py). */
         private String script = "/app/tts_split.py";
+
+        /** Per-request timeout; the first request also covers interpreter start and KSS loading. */
+        private int timeoutSeconds = 30;
     }
 }
@@ -1,9 +1,25 @@
 package com.gahyeonbot.services.tts;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 public interface TtsProvider {
     String name();
     boolean isReady();
     Path synthesize(String text) throws Exception;
+
+    /**
+     * Synthesizes into memory. Providers that already hold the response bytes
+     * override this; the default reads and deletes the file from {@link #synthesize(String)}.
+     */
+    default TtsAudio synthesizeAudio(String text) throws Exception {
+        Path path = synthesize(text);
+        try {
+            String name = path.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            return new TtsAudio(Files.readAllBytes(path), dot >= 0 ? name.substring(dot + 1) : null);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
 }
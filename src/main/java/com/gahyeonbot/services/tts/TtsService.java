@@ -1,20 +1,16 @@
 package com.gahyeonbot.services.tts;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -23,6 +19,7 @@ public class TtsService {
     private final TtsProperties props;
     private final ObjectMapper objectMapper;
     private final List<TtsProvider> providers;
+    private volatile KssSplitterWorker splitter;
 
     public boolean isEnabled() {
         return props.isEnabled();
@@ -44,30 +41,42 @@ public class TtsService {
         return splitAndChunk(trimmed);
     }
 
-    public Path synthesizeSegmentToAudio(String text) throws Exception {
-        return synthesizeSegmentToAudio(text, props.getProvider());
+    /**
+     * 문장 하나를 메모리로 합성합니다. 임시 파일을 거치지 않고 바로 트랙으로 만들 수 있습니다.
+     */
+    public TtsAudio synthesizeSegment(String text) throws Exception {
+        return synthesizeSegment(text, props.getProvider());
     }
 
-    public Path synthesizeSegmentToAudio(String text, String provider) throws Exception {
+    public TtsAudio synthesizeSegment(String text, String provider) throws Exception {
+        return withFallback(provider, selected -> selected.synthesizeAudio(text));
+    }
+
+    private <T> T withFallback(String provider, Synthesis<T> synthesis) throws Exception {
         TtsProvider selected = findProvider(provider);
         if (selected.isReady()) {
             try {
-                return selected.synthesize(text);
+                return synthesis.run(selected);
             } catch (Exception e) {
                 if (!"edge".equals(selected.name()) && props.isFallbackToEdge()) {
                     log.warn("커스텀 TTS 실패, Edge TTS로 폴백합니다: {}", e.getMessage());
-                    return findProvider("edge").synthesize(text);
+                    return synthesis.run(findProvider("edge"));
                 }
                 throw e;
             }
         }
         if (!"edge".equals(selected.name()) && props.isFallbackToEdge()) {
             log.warn("선택한 TTS 제공자 '{}'가 준비되지 않아 Edge TTS를 사용합니다.", selected.name());
-            return findProvider("edge").synthesize(text);
+            return synthesis.run(findProvider("edge"));
         }
         throw new IllegalStateException("TTS 제공자 '" + selected.name() + "' 설정이 준비되지 않았습니다.");
     }
 
+    @FunctionalInterface
+    private interface Synthesis<T> {
+        T run(TtsProvider provider) throws Exception;
+    }
+
     private TtsProvider findProvider(String name) {
         String requested = name == null ? "edge" : name.trim().toLowerCase();
         return providers.stream()
@@ -115,101 +124,36 @@ public class TtsService {
     }
 
     private List<String> splitSentences(String text) throws Exception {
-        String script = props.getKss().getScript();
-        // If running outside Docker (dev), allow local path.
-        if (!Files.exists(Path.of(script))) {
-            script = "scripts/tts_split.py";
-        }
-
-        ProcessBuilder pb = new ProcessBuilder(
-                props.getKss().getPython(),
-                script
-        );
-        pb.redirectErrorStream(false);
-        Process p = pb.start();
-        StreamGobbler outGobbler = StreamGobbler.start(p.getInputStream());
-        StreamGobbler errGobbler = StreamGobbler.start(p.getErrorStream());
-        try (var os = p.getOutputStream()) {
-            os.write(text.getBytes(StandardCharsets.UTF_8));
-        }
-
-        boolean ok = p.waitFor(props.getTimeoutSeconds(), TimeUnit.SECONDS);
-        if (!ok) {
-            p.destroyForcibly();
-            throw new IllegalStateException("KSS splitter timeout");
-        }
-        String stdout = outGobbler.getOutput();
-        String stderr = errGobbler.getOutput();
-        if (p.exitValue() != 0) {
-            throw new IllegalStateException("KSS splitter failed: " + stderr);
-        }
-
-        String json = extractJsonPayload(stdout).orElse(stdout);
-        try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (Exception e) {
-            // Include both streams for diagnosis but keep it compact.
-            String msg = "KSS splitter returned non-JSON output. stdout=" + abbreviate(stdout) + " stderr=" + abbreviate(stderr);
-            throw new IllegalStateException(msg, e);
-        }
+        return splitter().split(text);
     }
 
-    private static Optional<String> extractJsonPayload(String s) {
-        if (s == null) return Optional.empty();
-        int startArr = s.indexOf('[');
-        int endArr = s.lastIndexOf(']');
-        if (startArr >= 0 && endArr > startArr) {
-            return Optional.of(s.substring(startArr, endArr + 1).trim());
-        }
-        int startObj = s.indexOf('{');
-        int endObj = s.lastIndexOf('}');
-        if (startObj >= 0 && endObj > startObj) {
-            return Optional.of(s.substring(startObj, endObj + 1).trim());
-        }
-        return Optional.empty();
-    }
-
-    private static String abbreviate(String s) {
-        if (s == null) return "";
-        String t = s.replace("\n", "\\n").replace("\r", "\\r");
-        int max = 400;
-        if (t.length() <= max) return t;
-        return t.substring(0, max) + "...";
-    }
-
-    private static final class StreamGobbler implements Runnable {
-        private final InputStream is;
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private final Thread thread;
-
-        private StreamGobbler(InputStream is) {
-            this.is = is;
-            this.thread = new Thread(this, "tts-proc-gobbler");
-            this.thread.setDaemon(true);
-        }
-
-        static StreamGobbler start(InputStream is) {
-            StreamGobbler g = new StreamGobbler(is);
-            g.thread.start();
-            return g;
-        }
-
-        @Override
-        public void run() {
-            try {
-                is.transferTo(baos);
-            } catch (Exception ignored) {
+    private KssSplitterWorker splitter() {
+        KssSplitterWorker worker = splitter;
+        if (worker == null) {
+            synchronized (this) {
+                worker = splitter;
+                if (worker == null) {
+                    String script = props.getKss().getScript();
+                    // If running outside Docker (dev), allow local path.
+                    if (!Files.exists(Path.of(script))) {
+                        script = "scripts/tts_split.py";
+                    }
+                    worker = new KssSplitterWorker(
+                            List.of(props.getKss().getPython(), script, "--serve"),
+                            objectMapper,
+                            Duration.ofSeconds(props.getKss().getTimeoutSeconds()));
+                    splitter = worker;
+                }
             }
         }
+        return worker;
+    }
 
-        String getOutput() {
-            try {
-                thread.join(200); // best-effort; stream should be closed after process exit
-            } catch (InterruptedException ignored) {
-                Thread.currentThread().interrupt();
-            }
-            return baos.toString(StandardCharsets.UTF_8);
+    @PreDestroy
+    void shutdown() {
+        KssSplitterWorker worker = splitter;
+        if (worker != null) {
+            worker.close();
         }
     }
-
 }
@@ -1,12 +1,8 @@
 package com.gahyeonbot.services.tts;
 
-import java.nio.file.Path;
-
 /**
- * Stored as Lavaplayer track userData to allow cleanup on track end.
+ * Stored as Lavaplayer track userData so the scheduler can report segment playback.
+ * {@code listener} may be null.
  */
-public record TtsTrackMetadata(Path wavPath, boolean deleteOnEnd, boolean keepConnection) {
-    public TtsTrackMetadata(Path wavPath, boolean deleteOnEnd) {
-        this(wavPath, deleteOnEnd, false);
-    }
+public record TtsTrackMetadata(boolean keepConnection, TtsPlaybackListener listener) {
 }
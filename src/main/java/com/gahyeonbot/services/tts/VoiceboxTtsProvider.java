@@ -38,6 +38,21 @@ public class VoiceboxTtsProvider implements TtsProvider {
 
     @Override
     public Path synthesize(String text) throws Exception {
+        byte[] audio = synthesizeAudio(text).data();
+        Path dir = Path.of(System.getProperty("java.io.tmpdir"), "gahyeonbot-tts");
+        Files.createDirectories(dir);
+        Path path = Files.createTempFile(dir, "tts_voicebox_", ".wav");
+        try {
+            Files.write(path, audio);
+            return path;
+        } catch (Exception e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    @Override
+    public TtsAudio synthesizeAudio(String text) throws Exception {
         if (!isReady()) {
             throw new IllegalStateException("Voicebox URL과 복제 음성 profile ID가 필요합니다.");
         }
@@ -76,17 +91,7 @@ public class VoiceboxTtsProvider implements TtsProvider {
         if (audio == null || audio.length < 256) {
             throw new IllegalStateException("Voicebox가 빈 오디오를 반환했습니다.");
         }
-
-        Path dir = Path.of(System.getProperty("java.io.tmpdir"), "gahyeonbot-tts");
-        Files.createDirectories(dir);
-        Path path = Files.createTempFile(dir, "tts_voicebox_", ".wav");
-        try {
-            Files.write(path, audio);
-            return path;
-        } catch (Exception e) {
-            Files.deleteIfExists(path);
-            throw e;
-        }
+        return new TtsAudio(audio, "wav");
     }
 
     private String resolveProfileId(
@@ -3,6 +3,10 @@ package com.gahyeonbot.services.weather;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
 /**
  * 날씨 조회 대상 도시 목록.
  * 유럽 여행 주요 도시들의 좌표 정보를 포함합니다.
@@ -59,25 +63,46 @@ public enum City {
      * 현재 날씨 API URL 생성
      */
     public String buildCurrentWeatherUrl() {
-        return String.format(
-                "https://api.open-meteo.com/v1/forecast?latitude=%.4f&longitude=%.4f" +
-                "&current=temperature_2m,precipitation,weather_code,wind_speed_10m" +
-                "&hourly=precipitation_probability" +
-                "&forecast_days=1&timezone=%s",
-                latitude, longitude, timezone
-        );
+        return buildCurrentWeatherUrl(List.of(this));
     }
 
     /**
      * 최대 16일 예보 API URL 생성
      */
     public String buildForecastUrl() {
-        return String.format(
-                "https://api.open-meteo.com/v1/forecast?latitude=%.4f&longitude=%.4f" +
+        return buildForecastUrl(List.of(this));
+    }
+
+    /**
+     * 여러 도시의 현재 날씨를 한 번에 조회하는 API URL 생성.
+     * 도시가 둘 이상이면 응답은 요청 순서대로 도시별 결과를 담은 배열입니다.
+     */
+    public static String buildCurrentWeatherUrl(List<City> cities) {
+        return "https://api.open-meteo.com/v1/forecast?" + locations(cities) +
+                "&current=temperature_2m,precipitation,weather_code,wind_speed_10m" +
+                "&hourly=precipitation_probability" +
+                "&forecast_days=1";
+    }
+
+    /**
+     * 여러 도시의 최대 16일 예보를 한 번에 조회하는 API URL 생성
+     */
+    public static String buildForecastUrl(List<City> cities) {
+        return "https://api.open-meteo.com/v1/forecast?" + locations(cities) +
                 "&daily=temperature_2m_max,temperature_2m_min,weather_code,precipitation_probability_max" +
-                "&forecast_days=16&timezone=%s",
-                latitude, longitude, timezone
-        );
+                "&forecast_days=16";
+    }
+
+    private static String locations(List<City> cities) {
+        return "latitude=" + cities.stream()
+                .map(city -> String.format(Locale.ROOT, "%.4f", city.latitude))
+                .collect(Collectors.joining(",")) +
+                "&longitude=" + cities.stream()
+                .map(city -> String.format(Locale.ROOT, "%.4f", city.longitude))
+                .collect(Collectors.joining(",")) +
+                "&timezone=" + cities.stream()
+                .map(City::getTimezone)
+                .collect(Collectors.joining(","));
     }
 
     /**
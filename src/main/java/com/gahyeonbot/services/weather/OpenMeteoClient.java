@@ -0,0 +1,179 @@
+package com.gahyeonbot.services.weather;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-Meteo 조회 클라이언트.
+ * 도시들을 {@code weather.refresh.batch-size}개씩 묶어 다중 좌표 요청 한 번으로 가져오고,
+ * 묶음 요청이 실패하면 그 묶음의 도시만 하나씩 다시 요청합니다.
+ * 개별 요청은 동시에 {@code weather.refresh.max-concurrency}개까지, 전체 요청은
+ * 초당 {@code weather.refresh.requests-per-second}회를 넘지 않게 보냅니다.
+ */
+@Slf4j
+@Component
+public class OpenMeteoClient {
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+    private static final int READ_TIMEOUT_MS = 15000;
+
+    enum Kind { CURRENT, FORECAST }
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final long intervalNanos;
+    private final AtomicLong nextRequestNanos = new AtomicLong(System.nanoTime());
+
+    @Autowired
+    public OpenMeteoClient(
+            MeterRegistry meterRegistry,
+            @Value("${weather.refresh.batch-size:50}") int batchSize,
+            @Value("${weather.refresh.max-concurrency:4}") int maxConcurrency,
+            @Value("${weather.refresh.requests-per-second:5}") double requestsPerSecond) {
+        this(createRestTemplate(), meterRegistry, batchSize, maxConcurrency, requestsPerSecond);
+    }
+
+    OpenMeteoClient(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            int batchSize,
+            int maxConcurrency,
+            double requestsPerSecond) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+    }
+
+    /**
+     * 도시별 응답 본문을 가져옵니다. 끝내 가져오지 못한 도시는 결과에 없습니다.
+     *
+     * @param kind 현재 날씨 또는 예보
+     * @param cities 조회할 도시
+     * @return 도시별 Open-Meteo 응답
+     */
+    Map<City, Map<String, Object>> fetch(Kind kind, List<City> cities) {
+        Map<City, Map<String, Object>> result = new EnumMap<>(City.class);
+        for (int start = 0; start < cities.size(); start += batchSize) {
+            List<City> chunk = cities.subList(start, Math.min(start + batchSize, cities.size()));
+            long startedNanos = System.nanoTime();
+            try {
+                List<Map<String, Object>> bodies = request(url(kind, chunk));
+                if (bodies.size() != chunk.size()) {
+                    throw new IllegalStateException("응답 도시 수 불일치: " + bodies.size() + "/" + chunk.size());
+                }
+                long elapsedNanos = System.nanoTime() - startedNanos;
+                for (int i = 0; i < chunk.size(); i++) {
+                    result.put(chunk.get(i), bodies.get(i));
+                    record(kind, chunk.get(i), "batch", elapsedNanos);
+                }
+            } catch (Exception e) {
+                log.warn("날씨 묶음 요청 실패, 도시별로 재시도 - {}개 도시: {}", chunk.size(), e.getMessage());
+                result.putAll(fetchEach(kind, chunk));
+            }
+        }
+        return result;
+    }
+
+    private Map<City, Map<String, Object>> fetchEach(Kind kind, List<City> cities) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<City, Future<Map<String, Object>>> futures = new EnumMap<>(City.class);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (City city : cities) {
+                futures.put(city, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        long startedNanos = System.nanoTime();
+                        Map<String, Object> body = request(url(kind, List.of(city))).getFirst();
+                        record(kind, city, "single", System.nanoTime() - startedNanos);
+                        return body;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        Map<City, Map<String, Object>> result = new EnumMap<>(City.class);
+        futures.forEach((city, future) -> {
+            try {
+                result.put(city, future.get());
+            } catch (Exception e) {
+                log.error("날씨 API 호출 실패 - {}: {}", city.getKoreanName(), e.getMessage());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 좌표가 하나면 객체, 여럿이면 배열로 오는 응답을 도시 순서대로 펼칩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> request(String url) throws InterruptedException {
+        awaitRateLimit();
+        ResponseEntity<Object> response = restTemplate.getForEntity(URI.create(url), Object.class);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new IllegalStateException("Open-Meteo 응답 오류: " + response.getStatusCode());
+        }
+        Object body = response.getBody();
+        if (body instanceof Map<?, ?> single) return List.of((Map<String, Object>) single);
+        List<Map<String, Object>> bodies = new ArrayList<>();
+        for (Object item : (List<Object>) body) {
+            bodies.add((Map<String, Object>) item);
+        }
+        return bodies;
+    }
+
+    /**
+     * 요청 간격을 {@code 1 / requests-per-second}초 이상으로 벌립니다. 먼저 예약한 요청부터 순서대로 나갑니다.
+     */
+    private void awaitRateLimit() throws InterruptedException {
+        if (intervalNanos == 0) return;
+        long now = System.nanoTime();
+        long previous = nextRequestNanos.getAndUpdate(next -> Math.max(next, now) + intervalNanos);
+        long waitNanos = Math.max(previous, now) - now;
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private void record(Kind kind, City city, String mode, long nanos) {
+        Timer.builder("gahyeonbot.weather.fetch")
+                .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                .tag("city", city.name().toLowerCase(Locale.ROOT))
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(nanos));
+    }
+
+    private static String url(Kind kind, List<City> cities) {
+        return kind == Kind.CURRENT ? City.buildCurrentWeatherUrl(cities) : City.buildForecastUrl(cities);
+    }
+
+    private static RestTemplate createRestTemplate() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        factory.setReadTimeout(READ_TIMEOUT_MS);
+        return new RestTemplate(factory);
+    }
+}
@@ -4,31 +4,34 @@ import com.gahyeonbot.entity.WeatherData;
 import com.gahyeonbot.entity.WeatherForecast;
 import com.gahyeonbot.repository.WeatherForecastRepository;
 import com.gahyeonbot.repository.WeatherRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.*;
 import org.springframework.context.event.EventListener;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * 날씨 데이터 서비스.
  * Open-Meteo API를 사용하여 여러 도시의 현재 날씨와 7일 예보를 조회합니다.
+ * 갱신 시 API 호출과 응답 파싱은 트랜잭션 밖에서 끝내고, 저장만 짧은 트랜잭션 안에서 JDBC 배치 한 번으로 처리합니다.
  *
  * @author GahyeonBot Team
  * @version 3.0
@@ -40,16 +43,17 @@ public class WeatherService {
 
     private static final int CACHE_DURATION_MINUTES = 30;
     private static final int NEAR_DAYS_THRESHOLD = 2; // 2일 이내는 최신 예보 사용
-    private static final int WEATHER_CONNECT_TIMEOUT_MS = 5000;
-    private static final int WEATHER_READ_TIMEOUT_MS = 15000;
+    private static final int SNAPSHOT_DAYS = 16;      // Open-Meteo 최대 예보 기간
 
     private final WeatherRepository weatherRepository;
     private final WeatherForecastRepository forecastRepository;
-    private RestTemplate restTemplate;
+    private final OpenMeteoClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
-    // 메모리 캐시 (도시별)
-    private final Map<City, WeatherData> weatherCache = new ConcurrentHashMap<>();
-    private LocalDateTime cacheTime;
+    // 갱신마다 통째로 바꾸는 조회 스냅샷
+    private volatile WeatherSnapshot snapshot = WeatherSnapshot.EMPTY;
+    private final AtomicBoolean snapshotRefreshing = new AtomicBoolean();
 
     // Ops/health visibility
     private volatile LocalDateTime lastCurrentAttemptAt;
@@ -61,10 +65,6 @@ public class WeatherService {
 
     @PostConstruct
     public void initialize() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(WEATHER_CONNECT_TIMEOUT_MS);
-        requestFactory.setReadTimeout(WEATHER_READ_TIMEOUT_MS);
-        this.restTemplate = new RestTemplate(requestFactory);
         log.info("날씨 서비스 초기화 완료 - 대상 도시: {}개", City.values().length);
     }
 
@@ -85,50 +85,112 @@ public class WeatherService {
     }
 
     /**
-     * 모든 도시의 현재 날씨 정보를 가져옵니다.
+     * 모든 도시의 현재 날씨 정보를 가져옵니다. 반환된 Map은 수정할 수 없습니다.
      */
     public Map<City, WeatherData> getAllCitiesWeather() {
-        // 캐시 확인
-        if (!weatherCache.isEmpty() && cacheTime != null &&
-                cacheTime.plusMinutes(CACHE_DURATION_MINUTES).isAfter(LocalDateTime.now())) {
-            return new HashMap<>(weatherCache);
-        }
+        return snapshot().current();
+    }
 
-        // DB에서 최신 데이터 조회
-        List<WeatherData> latestData = weatherRepository.findLatestForAllCities();
-        Map<City, WeatherData> result = new HashMap<>();
+    /**
+     * 대화에 사용할 날씨 컨텍스트 문자열 (현재 날씨 + 7일 예보). 스냅샷을 만들 때 미리 만들어 둡니다.
+     */
+    public String getWeatherContext() {
+        return snapshot().weatherContext();
+    }
 
-        for (WeatherData weather : latestData) {
-            try {
-                City city = City.valueOf(weather.getCity());
-                result.put(city, weather);
-                weatherCache.put(city, weather);
-            } catch (IllegalArgumentException e) {
-                log.warn("알 수 없는 도시 코드: {}", weather.getCity());
+    /**
+     * 현재 스냅샷을 반환합니다. 오래되었으면 지금 것을 그대로 돌려주고 백그라운드에서 다시 만듭니다.
+     * 아직 한 번도 만들지 않았을 때만 호출 스레드에서 만듭니다.
+     */
+    private WeatherSnapshot snapshot() {
+        WeatherSnapshot current = snapshot;
+        if (current.isFresh(System.currentTimeMillis())) return current;
+        if (current == WeatherSnapshot.EMPTY) {
+            synchronized (this) {
+                return snapshot == WeatherSnapshot.EMPTY ? rebuildSnapshot() : snapshot;
             }
         }
+        if (snapshotRefreshing.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuildSnapshot();
+                } finally {
+                    snapshotRefreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
 
-        if (!result.isEmpty()) {
-            this.cacheTime = LocalDateTime.now();
+    /**
+     * DB의 최신 날씨와 예보로 스냅샷을 새로 만들어 교체합니다.
+     * 다른 인스턴스가 저장한 갱신도 반영되도록 {@value #CACHE_DURATION_MINUTES}분이 지나거나 날짜가 바뀌면 오래된 것으로 봅니다.
+     */
+    synchronized WeatherSnapshot rebuildSnapshot() {
+        try {
+            LocalDate today = LocalDate.now();
+            Map<City, WeatherData> current = new EnumMap<>(City.class);
+            for (WeatherData weather : weatherRepository.findLatestForAllCities()) {
+                try {
+                    current.put(City.valueOf(weather.getCity()), weather);
+                } catch (IllegalArgumentException e) {
+                    log.warn("알 수 없는 도시 코드: {}", weather.getCity());
+                }
+            }
+
+            // 가까운 날짜(0-2일)는 최신 예보, 먼 날짜는 첫 예보(예보 변경 전 원본)를 사용
+            WeatherForecast[][] forecasts = new WeatherForecast[City.values().length][SNAPSHOT_DAYS];
+            placeForecasts(forecasts, today, forecastRepository.findLatestForecastsBetween(
+                    today, today.plusDays(NEAR_DAYS_THRESHOLD)));
+            placeForecasts(forecasts, today, forecastRepository.findFirstForecastsBetween(
+                    today.plusDays(NEAR_DAYS_THRESHOLD + 1), today.plusDays(SNAPSHOT_DAYS - 1)));
+
+            String[] currentMessages = new String[City.values().length];
+            for (City city : City.values()) {
+                WeatherData weather = current.get(city);
+                if (weather != null) currentMessages[city.ordinal()] = formatCurrentWeather(city, weather);
+            }
+
+            long freshUntil = Math.min(
+                    System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(CACHE_DURATION_MINUTES),
+                    today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            WeatherSnapshot next = new WeatherSnapshot(snapshot.version() + 1, today, freshUntil, current, forecasts,
+                    weatherContext(current, forecasts, today), currentMessages);
+            snapshot = next;
+            log.debug("날씨 스냅샷 교체 - version: {}, 도시: {}개", next.version(), current.size());
+            return next;
+        } catch (Exception e) {
+            log.warn("날씨 스냅샷 생성 실패, 이전 스냅샷 유지: {}", e.getMessage());
+            return snapshot;
         }
+    }
 
-        return result;
+    private static void placeForecasts(WeatherForecast[][] forecasts, LocalDate today, List<WeatherForecast> rows) {
+        for (WeatherForecast forecast : rows) {
+            try {
+                int day = (int) ChronoUnit.DAYS.between(today, forecast.getForecastDate());
+                if (day < 0 || day >= SNAPSHOT_DAYS) continue;
+                forecasts[City.valueOf(forecast.getCity()).ordinal()][day] = forecast;
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 도시 코드: {}", forecast.getCity());
+            }
+        }
     }
 
     /**
      * 대화에 사용할 날씨 컨텍스트 문자열 생성 (현재 날씨 + 7일 예보)
      */
-    public String getWeatherContext() {
+    private static String weatherContext(Map<City, WeatherData> current, WeatherForecast[][] forecasts, LocalDate today) {
         StringBuilder sb = new StringBuilder();
 
         // 현재 날씨
-        String currentWeather = getCurrentWeatherContext();
+        String currentWeather = currentWeatherContext(current);
         if (!currentWeather.isEmpty()) {
             sb.append(currentWeather).append("\n\n");
         }
 
         // 7일 예보
-        String forecast = getForecastContext();
+        String forecast = forecastContext(forecasts, today);
         if (!forecast.isEmpty()) {
             sb.append(forecast);
         }
@@ -139,9 +201,7 @@ public class WeatherService {
     /**
      * 현재 날씨 컨텍스트 생성
      */
-    private String getCurrentWeatherContext() {
-        Map<City, WeatherData> allWeather = getAllCitiesWeather();
-
+    private static String currentWeatherContext(Map<City, WeatherData> allWeather) {
         if (allWeather.isEmpty()) {
             return "";
         }
@@ -180,21 +240,19 @@ public class WeatherService {
      * - 가까운 날짜(0-2일): 최신 예보 사용
      * - 먼 날짜(3-6일): 첫 예보 사용
      */
-    private String getForecastContext() {
-        LocalDate today = LocalDate.now();
+    private static String forecastContext(WeatherForecast[][] forecasts, LocalDate today) {
         StringBuilder sb = new StringBuilder("[7일 예보]\n");
 
         // 서울 기준으로 날짜별 예보 표시 (대표)
-        City representativeCity = City.SEOUL;
-        List<WeatherForecast> forecasts = getSmartForecasts(representativeCity, today, today.plusDays(6));
+        List<WeatherForecast> seoul = presentDays(forecasts[City.SEOUL.ordinal()], 7);
 
-        if (forecasts.isEmpty()) {
+        if (seoul.isEmpty()) {
             return "";
         }
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("M/d(E)", Locale.KOREAN);
 
-        for (WeatherForecast f : forecasts) {
+        for (WeatherForecast f : seoul) {
             sb.append(String.format("▸ %s: %s %.0f~%.0f°C 강수확률%d%%\n",
                     f.getForecastDate().format(formatter),
                     f.getWeatherDescription(),
@@ -207,7 +265,7 @@ public class WeatherService {
         for (City city : City.values()) {
             if (city == City.SEOUL) continue;
 
-            List<WeatherForecast> cityForecasts = getSmartForecasts(city, today, today.plusDays(2));
+            List<WeatherForecast> cityForecasts = presentDays(forecasts[city.ordinal()], 3);
             if (!cityForecasts.isEmpty()) {
                 String summary = cityForecasts.stream()
                         .map(f -> String.format("%.0f~%.0f°C", f.getTempMin(), f.getTempMax()))
@@ -220,14 +278,31 @@ public class WeatherService {
         return sb.toString().trim();
     }
 
+    private static List<WeatherForecast> presentDays(WeatherForecast[] days, int count) {
+        List<WeatherForecast> result = new ArrayList<>();
+        for (int day = 0; day < Math.min(count, days.length); day++) {
+            if (days[day] != null) result.add(days[day]);
+        }
+        return result;
+    }
+
     /**
-     * 스마트 예보 조회: 날짜 거리에 따라 최신/첫 예보 선택
+     * 스마트 예보 조회: 날짜 거리에 따라 최신/첫 예보 선택.
+     * 스냅샷 범위 안이면 스냅샷에서 찾고, 스냅샷에 없는 날짜만 DB에서 조회합니다.
      */
     private List<WeatherForecast> getSmartForecasts(City city, LocalDate startDate, LocalDate endDate) {
-        List<WeatherForecast> result = new ArrayList<>();
         LocalDate today = LocalDate.now();
+        WeatherSnapshot current = snapshot();
+        boolean covered = current.covers(today, startDate, endDate);
 
+        List<WeatherForecast> result = new ArrayList<>();
         for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            WeatherForecast cached = covered ? current.forecast(city, date) : null;
+            if (cached != null) {
+                result.add(cached);
+                continue;
+            }
+
             long daysUntil = ChronoUnit.DAYS.between(today, date);
             Optional<WeatherForecast> forecast;
 
@@ -249,7 +324,6 @@ public class WeatherService {
      * 매시간 현재 날씨 업데이트
      */
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
     public void scheduledWeatherUpdate() {
         log.info("스케줄된 현재 날씨 업데이트 시작 - {}개 도시", City.values().length);
         fetchAllCitiesWeather();
@@ -259,79 +333,103 @@ public class WeatherService {
      * 매일 오전 6시에 7일 예보 업데이트
      */
     @Scheduled(cron = "0 0 6 * * *")
-    @Transactional
     public void scheduledForecastUpdate() {
         log.info("스케줄된 예보 업데이트 시작 - {}개 도시", City.values().length);
         fetchAllCitiesForecasts();
-        cleanupOldForecasts();
+        transactionTemplate.executeWithoutResult(status -> cleanupOldForecasts());
     }
 
     /**
      * 모든 도시의 현재 날씨 데이터 조회
      */
-    @Transactional
     public void fetchAllCitiesWeather() {
+        long startedNanos = System.nanoTime();
         lastCurrentAttemptAt = LocalDateTime.now();
         lastCurrentError = null;
-        int successCount = 0;
-        int failCount = 0;
+        List<City> cities = List.of(City.values());
 
-        for (City city : City.values()) {
+        Map<City, Map<String, Object>> responses = weatherClient.fetch(OpenMeteoClient.Kind.CURRENT, cities);
+        List<WeatherData> rows = new ArrayList<>();
+        for (City city : cities) {
+            Map<String, Object> response = responses.get(city);
+            if (response == null) continue;
             try {
-                WeatherData weather = fetchCurrentWeatherForCity(city);
-                if (weather != null) {
-                    weatherRepository.save(weather);
-                    weatherCache.put(city, weather);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-                Thread.sleep(100);
+                rows.add(parseCurrentWeatherResponse(city, response));
+            } catch (Exception e) {
+                log.error("현재 날씨 응답 파싱 실패 - {}: {}", city.getKoreanName(), e.getMessage());
+                lastCurrentError = e.getMessage();
+            }
+        }
+
+        int successCount = 0;
+        if (!rows.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> weatherRepository.insertAll(rows));
+                successCount = rows.size();
             } catch (Exception e) {
-                log.error("현재 날씨 조회 실패 - {}: {}", city.getKoreanName(), e.getMessage());
+                log.error("현재 날씨 저장 실패 - {}건: {}", rows.size(), e.getMessage());
                 lastCurrentError = e.getMessage();
-                failCount++;
             }
         }
 
-        this.cacheTime = LocalDateTime.now();
         if (successCount > 0) {
-            lastCurrentSuccessAt = cacheTime;
+            lastCurrentSuccessAt = LocalDateTime.now();
+            rebuildSnapshot();
         }
-        log.info("현재 날씨 업데이트 완료 - 성공: {}, 실패: {}", successCount, failCount);
+        recordRefresh("current", startedNanos);
+        log.info("현재 날씨 업데이트 완료 - 성공: {}, 실패: {}", successCount, cities.size() - successCount);
     }
 
     /**
      * 모든 도시의 7일 예보 데이터 조회
      */
-    @Transactional
     public void fetchAllCitiesForecasts() {
+        long startedNanos = System.nanoTime();
         lastForecastAttemptAt = LocalDateTime.now();
         lastForecastError = null;
-        int successCount = 0;
-        int failCount = 0;
+        List<City> cities = List.of(City.values());
+
+        Map<City, Map<String, Object>> responses = weatherClient.fetch(OpenMeteoClient.Kind.FORECAST, cities);
+        List<WeatherForecast> rows = new ArrayList<>();
+        int parsedCities = 0;
+        for (City city : cities) {
+            Map<String, Object> response = responses.get(city);
+            if (response == null) continue;
+            try {
+                List<WeatherForecast> forecasts = parseForecastResponse(city, response);
+                if (forecasts.isEmpty()) continue;
+                rows.addAll(forecasts);
+                parsedCities++;
+            } catch (Exception e) {
+                log.error("예보 응답 파싱 실패 - {}: {}", city.getKoreanName(), e.getMessage());
+                lastForecastError = e.getMessage();
+            }
+        }
 
-        for (City city : City.values()) {
+        int successCount = 0;
+        if (!rows.isEmpty()) {
             try {
-                List<WeatherForecast> forecasts = fetchForecastsForCity(city);
-                if (!forecasts.isEmpty()) {
-                    forecastRepository.saveAll(forecasts);
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-                Thread.sleep(100);
+                transactionTemplate.executeWithoutResult(status -> forecastRepository.insertAll(rows));
+                successCount = parsedCities;
             } catch (Exception e) {
-                log.error("예보 조회 실패 - {}: {}", city.getKoreanName(), e.getMessage());
+                log.error("예보 저장 실패 - {}건: {}", rows.size(), e.getMessage());
                 lastForecastError = e.getMessage();
-                failCount++;
             }
         }
 
         if (successCount > 0) {
             lastForecastSuccessAt = LocalDateTime.now();
+            rebuildSnapshot();
         }
-        log.info("예보 업데이트 완료 - 성공: {}, 실패: {}", successCount, failCount);
+        recordRefresh("forecast", startedNanos);
+        log.info("예보 업데이트 완료 - 성공: {}, 실패: {}", successCount, cities.size() - successCount);
+    }
+
+    private void recordRefresh(String kind, long startedNanos) {
+        Timer.builder("gahyeonbot.weather.refresh")
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedNanos));
     }
 
     public LocalDateTime getLastCurrentAttemptAt() {
@@ -360,7 +458,7 @@ public class WeatherService {
 
     public Optional<WeatherData> getLatestWeather(City city) {
         if (city == null) return Optional.empty();
-        WeatherData cached = weatherCache.get(city);
+        WeatherData cached = snapshot().current().get(city);
         if (cached != null) {
             return Optional.of(cached);
         }
@@ -369,12 +467,15 @@ public class WeatherService {
 
     public String buildCurrentWeatherMessage(City city) {
         City c = city != null ? city : City.SEOUL;
-        Optional<WeatherData> dataOpt = getLatestWeather(c);
-        if (dataOpt.isEmpty()) {
-            return c.getDisplayName() + " 현재 날씨 데이터를 찾지 못했어.";
+        String message = snapshot().currentMessage(c);
+        return message != null ? message : formatCurrentWeather(c, getLatestWeather(c).orElse(null));
+    }
+
+    private static String formatCurrentWeather(City city, WeatherData w) {
+        if (w == null) {
+            return city.getDisplayName() + " 현재 날씨 데이터를 찾지 못했어.";
         }
 
-        WeatherData w = dataOpt.get();
         return String.format(
                 "%s 현재 날씨: %.1f°C, %s, 강수량 %.1fmm, 강수확률 %d%%, 풍속 %.1fkm/h\n(관측: %s)",
                 w.getCityName() + "(" + w.getCountry() + ")",
@@ -476,48 +577,6 @@ public class WeatherService {
         log.info("오래된 예보 데이터 정리 완료 - 기준일: {}", cutoffDate);
     }
 
-    /**
-     * 특정 도시의 현재 날씨 조회
-     */
-    private WeatherData fetchCurrentWeatherForCity(City city) {
-        try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    city.buildCurrentWeatherUrl(),
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<>() {}
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseCurrentWeatherResponse(city, response.getBody());
-            }
-        } catch (Exception e) {
-            log.error("현재 날씨 API 호출 실패 - {}: {}", city.getKoreanName(), e.getMessage());
-        }
-        return null;
-    }
-
-    /**
-     * 특정 도시의 7일 예보 조회
-     */
-    private List<WeatherForecast> fetchForecastsForCity(City city) {
-        try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    city.buildForecastUrl(),
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<>() {}
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseForecastResponse(city, response.getBody());
-            }
-        } catch (Exception e) {
-            log.error("예보 API 호출 실패 - {}: {}", city.getKoreanName(), e.getMessage());
-        }
-        return Collections.emptyList();
-    }
-
     /**
      * 현재 날씨 응답 파싱
      */
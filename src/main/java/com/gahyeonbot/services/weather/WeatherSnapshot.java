@@ -0,0 +1,83 @@
+package com.gahyeonbot.services.weather;
+
+import com.gahyeonbot.entity.WeatherData;
+import com.gahyeonbot.entity.WeatherForecast;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 한 번의 갱신으로 만든 날씨 조회 결과. 만든 뒤에는 바꾸지 않으므로 여러 스레드가 잠금 없이 읽습니다.
+ * 도시별 예보는 {@link #date}부터 하루 단위 배열로, 대화용 문자열은 미리 만들어 둡니다.
+ * 실제 관측·예보 값만 담으며, 데이터가 없는 도시나 날짜는 비워 두어 조회하는 쪽이 DB로 넘어가게 합니다.
+ */
+final class WeatherSnapshot {
+    static final WeatherSnapshot EMPTY = new WeatherSnapshot(
+            0, null, 0, new EnumMap<>(City.class), new WeatherForecast[City.values().length][0], "", new String[0]);
+
+    private final long version;
+    private final LocalDate date;
+    private final long freshUntilMillis;
+    private final Map<City, WeatherData> current;
+    private final WeatherForecast[][] forecasts;
+    private final String weatherContext;
+    private final String[] currentMessages;
+
+    WeatherSnapshot(
+            long version,
+            LocalDate date,
+            long freshUntilMillis,
+            Map<City, WeatherData> current,
+            WeatherForecast[][] forecasts,
+            String weatherContext,
+            String[] currentMessages) {
+        this.version = version;
+        this.date = date;
+        this.freshUntilMillis = freshUntilMillis;
+        this.current = Collections.unmodifiableMap(new EnumMap<>(current));
+        this.forecasts = forecasts;
+        this.weatherContext = weatherContext;
+        this.currentMessages = currentMessages;
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean isFresh(long nowMillis) {
+        return nowMillis < freshUntilMillis;
+    }
+
+    Map<City, WeatherData> current() {
+        return current;
+    }
+
+    String weatherContext() {
+        return weatherContext;
+    }
+
+    /**
+     * @return 미리 만든 현재 날씨 안내 문구, 스냅샷에 그 도시의 관측값이 없으면 null
+     */
+    String currentMessage(City city) {
+        return city.ordinal() < currentMessages.length ? currentMessages[city.ordinal()] : null;
+    }
+
+    /**
+     * @return {@code today} 기준 {@code start}~{@code end}가 이 스냅샷 안에 있으면 true
+     */
+    boolean covers(LocalDate today, LocalDate start, LocalDate end) {
+        return today.equals(date) && !start.isBefore(date)
+                && ChronoUnit.DAYS.between(date, end) < forecasts[0].length;
+    }
+
+    /**
+     * @return 해당 날짜의 예보, 스냅샷에 없으면 null. {@link #covers}로 범위를 먼저 확인해야 합니다.
+     */
+    WeatherForecast forecast(City city, LocalDate day) {
+        return forecasts[city.ordinal()][(int) ChronoUnit.DAYS.between(date, day)];
+    }
+}
@@ -0,0 +1,110 @@
+package com.gahyeonbot.core.audio;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TrackQueueTest {
+    @Test
+    void pollReturnsTracksInInsertionOrder() {
+        TrackQueue queue = new TrackQueue();
+        AudioTrack first = mock(AudioTrack.class);
+        AudioTrack second = mock(AudioTrack.class);
+
+        queue.addTrack(first);
+        queue.addTrack(second);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.peekTrack()).isSameAs(first);
+        assertThat(queue.pollTrack()).isSameAs(first);
+        assertThat(queue.pollTrack()).isSameAs(second);
+        assertThat(queue.pollTrack()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterChanges() {
+        TrackQueue queue = new TrackQueue();
+        List<AudioTrack> tracks = tracks(5);
+        queue.addTracks(tracks);
+
+        TrackQueue.Snapshot snapshot = queue.snapshot();
+        queue.removeTrack(0);
+        queue.clear();
+
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.asList()).containsExactlyElementsOf(tracks);
+    }
+
+    @Test
+    void pageReturnsRequestedWindow() {
+        TrackQueue queue = new TrackQueue();
+        List<AudioTrack> tracks = tracks(40);
+        queue.addTracks(tracks);
+
+        assertThat(queue.getTracks(15, 15)).containsExactlyElementsOf(tracks.subList(15, 30));
+        assertThat(queue.getTracks(30, 15)).containsExactlyElementsOf(tracks.subList(30, 40));
+        assertThat(queue.getTracks(40, 15)).isEmpty();
+    }
+
+    @Test
+    void positionalEditsMatchListSemantics() {
+        TrackQueue queue = new TrackQueue();
+        List<AudioTrack> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            AudioTrack track = mock(AudioTrack.class);
+            int index = random.nextInt(expected.size() + 1);
+            queue.insertTrack(index, track);
+            expected.add(index, track);
+        }
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(expected.size());
+            int to = random.nextInt(expected.size());
+            queue.moveTrack(from, to);
+            expected.add(to, expected.remove(from));
+
+            int removeAt = random.nextInt(expected.size());
+            assertThat(queue.removeTrack(removeAt)).isSameAs(expected.remove(removeAt));
+        }
+
+        assertThat(queue.getTracks()).containsExactlyElementsOf(expected);
+        assertThat(queue.peekTrack()).isSameAs(expected.getFirst());
+    }
+
+    @Test
+    void shuffleKeepsAllTracks() {
+        TrackQueue queue = new TrackQueue();
+        List<AudioTrack> tracks = tracks(50);
+        queue.addTracks(tracks);
+
+        queue.shuffle();
+
+        assertThat(queue.getTracks()).containsExactlyInAnyOrderElementsOf(tracks);
+    }
+
+    @Test
+    void rejectsOutOfRangeIndex() {
+        TrackQueue queue = new TrackQueue();
+        queue.addTrack(mock(AudioTrack.class));
+
+        assertThatThrownBy(() -> queue.removeTrack(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> queue.moveTrack(0, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static List<AudioTrack> tracks(int count) {
+        List<AudioTrack> tracks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tracks.add(mock(AudioTrack.class));
+        }
+        return tracks;
+    }
+}
@@ -0,0 +1,67 @@
+package com.gahyeonbot.listeners;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingReplyTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final Message message = mock(Message.class);
+
+    StreamingReplyTest() {
+        MessageCreateAction send = mock(MessageCreateAction.class);
+        when(send.submit()).thenReturn(CompletableFuture.completedFuture(message));
+        when(channel.sendMessage(anyString())).thenReturn(send);
+        MessageEditAction edit = mock(MessageEditAction.class);
+        when(edit.submit()).thenReturn(CompletableFuture.completedFuture(message));
+        when(message.editMessage(anyString())).thenReturn(edit);
+    }
+
+    @Test
+    void throttlesPartialEditsButAlwaysWritesTheFinalAnswer() {
+        StreamingReply reply = new StreamingReply(channel, Duration.ofHours(1));
+
+        reply.onPartial("안녕");
+        reply.onPartial("안녕하세요");
+        reply.onPartial("안녕하세요, 오늘");
+        reply.complete("안녕하세요, 오늘 날씨는 맑습니다.");
+
+        verify(channel).sendMessage("안녕");
+        verify(message, never()).editMessage("안녕하세요");
+        verify(message, never()).editMessage("안녕하세요, 오늘");
+        verify(message).editMessage("안녕하세요, 오늘 날씨는 맑습니다.");
+        verify(channel, times(1)).sendMessage(anyString());
+    }
+
+    @Test
+    void sendsTheOverflowOfALongAnswerAsFollowUpMessagesInOrder() {
+        StreamingReply reply = new StreamingReply(channel, Duration.ofHours(1));
+        String first = "가".repeat(StreamingReply.MESSAGE_LIMIT);
+        String second = "나".repeat(StreamingReply.MESSAGE_LIMIT);
+        String third = "다".repeat(10);
+
+        reply.onPartial("가");
+        reply.complete(first + second + third);
+
+        InOrder order = inOrder(channel, message);
+        order.verify(channel).sendMessage("가");
+        order.verify(message).editMessage(first);
+        order.verify(channel).sendMessage(second);
+        order.verify(channel).sendMessage(third);
+    }
+}
@@ -0,0 +1,134 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.repository.AiRateLimitBucketRepository;
+import com.gahyeonbot.repository.OpenAiUsageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AiUsageLimiterTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock OpenAiUsageRepository usageRepository;
+    @Mock AiRateLimitBucketRepository bucketRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T03:00:00Z"));
+
+    @Test
+    void countsSlidingWindowsAndExpiresOldRequests() {
+        AiUsageLimiter limiter = limiter();
+        limiter.record(1L, "첫 질문", true);
+        clock.advance(Duration.ofMinutes(30));
+        limiter.record(1L, "두번째 질문", true);
+        limiter.record(1L, "차단된 질문", false);
+        limiter.record(2L, "다른 사용자", true);
+
+        assertThat(limiter.userCount(1L, Duration.ofHours(1))).isEqualTo(2);
+        assertThat(limiter.dailyTotal()).isEqualTo(3);
+
+        clock.advance(Duration.ofMinutes(45));
+        assertThat(limiter.userCount(1L, Duration.ofHours(1))).isEqualTo(1);
+        assertThat(limiter.userCount(1L, Duration.ofDays(1))).isEqualTo(2);
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(limiter.dailyTotal()).isZero();
+        assertThat(limiter.monthlyTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void detectsDuplicatePromptsWithinWindowIncludingFailedOnes() {
+        AiUsageLimiter limiter = limiter();
+        limiter.record(1L, "날씨 알려줘", false);
+
+        assertThat(limiter.isDuplicate(1L, "날씨 알려줘", Duration.ofSeconds(10))).isTrue();
+        assertThat(limiter.isDuplicate(2L, "날씨 알려줘", Duration.ofSeconds(10))).isFalse();
+
+        clock.advance(Duration.ofSeconds(11));
+        assertThat(limiter.isDuplicate(1L, "날씨 알려줘", Duration.ofSeconds(10))).isFalse();
+    }
+
+    @Test
+    void rebuildsCountersFromUsageHistory() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, now.minusMinutes(10)});
+        rows.add(new Object[]{1L, now.minusHours(3)});
+        rows.add(new Object[]{2L, now.minusMinutes(5)});
+        when(usageRepository.findSuccessfulUsageSince(any())).thenReturn(rows);
+        when(usageRepository.countMonthlyUsage(any())).thenReturn(40L);
+
+        AiUsageLimiter limiter = limiter();
+        limiter.rebuild();
+
+        assertThat(limiter.userCount(1L, Duration.ofHours(1))).isEqualTo(1);
+        assertThat(limiter.userCount(1L, Duration.ofDays(1))).isEqualTo(2);
+        assertThat(limiter.dailyTotal()).isEqualTo(3);
+        assertThat(limiter.monthlyTotal()).isEqualTo(40);
+    }
+
+    @Test
+    void admissionChecksAreServedFromMemory() {
+        AiUsageLimiter limiter = new AiUsageLimiter(usageRepository, bucketRepository, null, false);
+        for (long user = 0; user < 1_000; user++) {
+            for (int i = 0; i < 3; i++) {
+                limiter.record(user, "질문 " + i, true);
+            }
+        }
+
+        for (long user = 0; user < 1_000; user++) {
+            limiter.lockFor(user);
+            assertThat(limiter.isDuplicate(user, "질문 1", Duration.ofSeconds(10))).isTrue();
+            assertThat(limiter.isDuplicate(user, "새 질문", Duration.ofSeconds(10))).isFalse();
+            assertThat(limiter.userCount(user, Duration.ofHours(1))).isEqualTo(3);
+        }
+        assertThat(limiter.dailyTotal()).isEqualTo(3_000);
+        assertThat(limiter.monthlyTotal()).isEqualTo(3_000);
+        verifyNoInteractions(usageRepository, bucketRepository);
+    }
+
+    private AiUsageLimiter limiter() {
+        return new AiUsageLimiter(usageRepository, bucketRepository, null, false, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.gahyeonbot.services.ai;
 
 import com.gahyeonbot.entity.ConversationHistory;
 import com.gahyeonbot.repository.ConversationHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -10,12 +11,15 @@ import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +29,7 @@ class ConversationHistoryServiceTest {
     private ConversationHistoryRepository repository;
 
     @Mock
-    private GlmService glmService;
+    private ConversationSummarizer summarizer;
 
     @Test
     void preservesUserAndAssistantRolesInChronologicalOrder() {
@@ -35,7 +39,7 @@ class ConversationHistoryServiceTest {
         when(repository.findRecentByUserId(eq(7L), any(Pageable.class)))
                 .thenReturn(List.of(newer, older));
 
-        var context = new ConversationHistoryService(repository, glmService).buildAgentContext(7L);
+        var context = service().buildAgentContext(7L);
 
         assertThat(context.messages()).hasSize(4);
         assertThat(context.messages().get(0)).isInstanceOf(UserMessage.class);
@@ -46,6 +50,33 @@ class ConversationHistoryServiceTest {
         assertThat(context.messages().get(3).getText()).isEqualTo("후속 답");
     }
 
+    @Test
+    void servesRepeatedContextFromMemoryCacheAndAppendsSavedTurns() {
+        ConversationHistory older = conversation(1L, "첫 질문", "첫 답");
+        when(repository.findLatestSummary(eq(7L), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findRecentByUserId(eq(7L), any(Pageable.class))).thenReturn(List.of(older));
+        when(repository.save(any(ConversationHistory.class))).thenAnswer(invocation -> {
+            ConversationHistory saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+        ConversationHistoryService service = service();
+
+        service.buildAgentContext(7L);
+        service.saveConversation(7L, "후속 질문", "후속 답");
+        var context = service.buildAgentContext(7L);
+
+        assertThat(context.messages()).extracting(message -> message.getText())
+                .containsExactly("첫 질문", "첫 답", "후속 질문", "후속 답");
+        verify(repository, times(1)).findRecentByUserId(eq(7L), any(Pageable.class));
+        verify(summarizer).request(7L);
+    }
+
+    private ConversationHistoryService service() {
+        return new ConversationHistoryService(repository, summarizer,
+                new ConversationMemoryCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry()));
+    }
+
     private ConversationHistory conversation(Long id, String user, String assistant) {
         return ConversationHistory.builder()
                 .id(id)
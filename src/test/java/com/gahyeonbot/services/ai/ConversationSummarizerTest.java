@@ -0,0 +1,74 @@
+package com.gahyeonbot.services.ai;
+
+import com.gahyeonbot.entity.ConversationHistory;
+import com.gahyeonbot.repository.ConversationHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConversationSummarizerTest {
+
+    @Mock
+    private ConversationHistoryRepository repository;
+
+    @Mock
+    private GlmService glmService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void summarizesOldTurnsInBatchesAndCountsSavedCalls() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConversationSummarizer summarizer = new ConversationSummarizer(repository, glmService,
+                new ConversationMemoryCache(10, Duration.ofMinutes(5), registry),
+                transactionTemplate, registry, 0, 2, 1);
+        when(repository.findUnsummarizedOldConversations(7L, ConversationHistoryService.RECENT_CONVERSATION_COUNT))
+                .thenReturn(List.of(conversation(1L), conversation(2L), conversation(3L)));
+        when(glmService.isEnabled()).thenReturn(true);
+        when(glmService.summarizeAll(anyList())).thenAnswer(invocation -> ((List<ConversationHistory>) invocation
+                .getArgument(0)).stream().map(conversation -> "요약 " + conversation.getId()).toList());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Set<Long>>) invocation.getArgument(0)).doInTransaction(null));
+        when(repository.markSummarized(any())).thenAnswer(invocation ->
+                ((Map<Long, String>) invocation.getArgument(0)).keySet());
+
+        summarizer.summarize(7L);
+
+        verify(glmService, times(2)).summarizeAll(anyList());
+        verify(repository).markSummarized(Map.of(1L, "요약 1", 2L, "요약 2"));
+        verify(repository).markSummarized(Map.of(3L, "요약 3"));
+        assertThat(registry.counter("gahyeonbot.ai.summary.written").count()).isEqualTo(3.0);
+        assertThat(registry.counter("gahyeonbot.ai.summary.glm.calls.saved").count()).isEqualTo(1.0);
+        summarizer.shutdown();
+    }
+
+    private ConversationHistory conversation(Long id) {
+        return ConversationHistory.builder()
+                .id(id)
+                .userId(7L)
+                .userMessage("질문 " + id)
+                .aiResponse("답 " + id)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
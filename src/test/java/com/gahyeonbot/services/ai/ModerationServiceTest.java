@@ -0,0 +1,57 @@
+package com.gahyeonbot.services.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModerationServiceTest {
+
+    @Test
+    void cachesVerdictPerNormalizedPrompt() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger calls = new AtomicInteger();
+        ModerationService service = new ModerationService(message -> {
+            calls.incrementAndGet();
+            return message.contains("bad");
+        }, registry, 10, Duration.ofMinutes(5));
+
+        assertThat(service.check("Some  bad\tprompt").join().flagged()).isTrue();
+        ModerationService.Verdict cached = service.check("  some bad PROMPT ").join();
+
+        assertThat(cached.flagged()).isTrue();
+        assertThat(cached.elapsedNanos()).isZero();
+        assertThat(calls).hasValue(1);
+        assertThat(registry.counter("gahyeonbot.ai.moderation.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void failedCheckPassesAndIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        ModerationService service = new ModerationService(message -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("timeout");
+        }, new SimpleMeterRegistry(), 10, Duration.ofMinutes(5));
+
+        assertThat(service.check("hello").join().flagged()).isFalse();
+        assertThat(service.check("hello").join().flagged()).isFalse();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void recordsOverlappedModerationTimeAsSaved() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ModerationService service = new ModerationService(message -> false, registry, 10, Duration.ofMinutes(5));
+
+        service.recordSaved(new ModerationService.Verdict(false, Duration.ofMillis(300).toNanos()),
+                Duration.ofMillis(100).toNanos());
+
+        assertThat(registry.timer("gahyeonbot.ai.moderation.latency.saved").totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(200.0);
+    }
+}
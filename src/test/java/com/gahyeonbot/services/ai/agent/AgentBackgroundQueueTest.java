@@ -1,5 +1,6 @@
 package com.gahyeonbot.services.ai.agent;
 
+import com.gahyeonbot.config.PostgresNotificationListener;
 import com.gahyeonbot.entity.AgentRun;
 import com.gahyeonbot.repository.AgentBackgroundJobRepository;
 import org.junit.jupiter.api.Test;
@@ -8,11 +9,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import java.time.Duration;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({AgentRunLedger.class, AgentBackgroundQueue.class})
+@Import({AgentRunLedger.class, AgentBackgroundQueue.class, AgentBackgroundSignal.class, PostgresNotificationListener.class})
 class AgentBackgroundQueueTest {
     @Autowired AgentRunLedger ledger;
     @Autowired AgentBackgroundQueue queue;
@@ -23,8 +25,10 @@ class AgentBackgroundQueueTest {
         AgentRun run = runningRun("background-claim");
         var scheduled = queue.schedule(run.getId(), "test", "payload", Duration.ZERO, 3);
 
-        assertThat(queue.claimDue()).contains(new AgentBackgroundClaim(
-                scheduled.getId(), run.getId(), "test", "payload"));
+        assertThat(queue.claimDue()).get()
+                .extracting(AgentBackgroundClaim::jobId, AgentBackgroundClaim::runId,
+                        AgentBackgroundClaim::jobType, AgentBackgroundClaim::payload)
+                .containsExactly(scheduled.getId(), run.getId(), "test", "payload");
         assertThat(jobs.findById(scheduled.getId()).orElseThrow().getStatus())
                 .isEqualTo(AgentBackgroundJobStatus.RUNNING);
     }
@@ -42,6 +46,23 @@ class AgentBackgroundQueueTest {
         assertThat(stored.getAttempts()).isEqualTo(1);
     }
 
+    @Test
+    void claimsDueJobsInBatches() {
+        for (int i = 0; i < 3; i++) {
+            AgentRun run = runningRun("background-batch-" + i);
+            queue.schedule(run.getId(), "test", "payload-" + i, Duration.ZERO, 3);
+        }
+
+        var first = queue.claimDue(2);
+        var second = queue.claimDue(2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(Stream.concat(first.stream(), second.stream()).map(AgentBackgroundClaim::payload))
+                .containsExactlyInAnyOrder("payload-0", "payload-1", "payload-2");
+        assertThat(queue.claimDue(2)).isEmpty();
+    }
+
     private AgentRun runningRun(String requestId) {
         AgentRun run = ledger.create(new AgentRunRequest(
                 requestId,
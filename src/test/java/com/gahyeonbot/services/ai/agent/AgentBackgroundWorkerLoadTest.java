@@ -0,0 +1,87 @@
+package com.gahyeonbot.services.ai.agent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the push-based dispatcher with many scheduled jobs against an in-memory queue,
+ * so it isolates dispatch from the database.
+ */
+@ExtendWith(MockitoExtension.class)
+class AgentBackgroundWorkerLoadTest {
+    private static final int JOBS = 400;
+    private static final int HANDLER_MILLIS = 10;
+
+    @Mock AgentBackgroundQueue queue;
+    @Mock AgentRuntime runtime;
+
+    @Test
+    void dispatchesScheduledJobsWithoutWaitingForThePollInterval() throws Exception {
+        Queue<AgentBackgroundClaim> pending = new ConcurrentLinkedQueue<>();
+        Set<String> executed = ConcurrentHashMap.newKeySet();
+        CountDownLatch completed = new CountDownLatch(JOBS);
+        when(queue.claimDue(anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(0);
+            List<AgentBackgroundClaim> claims = new ArrayList<>();
+            AgentBackgroundClaim claim;
+            while (claims.size() < limit && (claim = pending.poll()) != null) claims.add(claim);
+            return claims;
+        });
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(queue).complete(anyString());
+
+        AgentBackgroundHandler handler = new AgentBackgroundHandler() {
+            @Override
+            public String jobType() {
+                return "load";
+            }
+
+            @Override
+            public String execute(String jobId) throws Exception {
+                executed.add(jobId);
+                Thread.sleep(HANDLER_MILLIS);
+                return "done";
+            }
+        };
+        AgentBackgroundSignal signal = new AgentBackgroundSignal(null, false);
+        // The 60 s poll interval means anything faster than that comes from the schedule signal.
+        AgentBackgroundWorker worker = new AgentBackgroundWorker(
+                queue, runtime, signal, List.of(handler), new SimpleMeterRegistry(), 60_000, 16);
+        worker.start();
+        Thread.sleep(50);
+
+        for (int i = 0; i < JOBS; i++) {
+            String jobId = "job-" + i;
+            pending.add(new AgentBackgroundClaim(jobId, "run-" + i, "load", jobId, LocalDateTime.now()));
+            signal.jobScheduled();
+            if (i % 20 == 19) Thread.sleep(5);
+        }
+        // Every job finishing well inside one poll interval means the schedule signal woke the worker.
+        assertThat(completed.await(30, TimeUnit.SECONDS)).isTrue();
+        worker.stop();
+
+        assertThat(executed).hasSize(JOBS);
+        assertThat(pending).isEmpty();
+    }
+}
@@ -19,4 +19,11 @@ class AgentResponseSanitizerTest {
                 "<think>숨겨야 할 추론</think>\n근거가 확인된 답변"))
                 .isEqualTo("근거가 확인된 답변");
     }
+
+    @Test
+    void hidesOpenThinkingBlockAndPartialTagsWhileStreaming() {
+        assertThat(DefaultAgentRuntime.visiblePartial("<think>아직 추론 중")).isEmpty();
+        assertThat(DefaultAgentRuntime.visiblePartial("<think>추론</think>오늘은 맑")).isEqualTo("오늘은 맑");
+        assertThat(DefaultAgentRuntime.visiblePartial("답변입니다. </thi")).isEqualTo("답변입니다.");
+    }
 }
@@ -0,0 +1,98 @@
+package com.gahyeonbot.services.ai.agent;
+
+import com.gahyeonbot.entity.AgentRun;
+import com.gahyeonbot.entity.AgentRunEvent;
+import com.gahyeonbot.repository.AgentRunEventRepository;
+import com.gahyeonbot.repository.AgentRunRepository;
+import com.gahyeonbot.repository.AgentSessionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the ledger against an in-memory row so a due batch write can be interleaved with a cancel.
+ * Every locked read returns a fresh copy of the committed row, like a new transaction would.
+ */
+class AgentRunLedgerJournalTest {
+    private final AgentRunRepository runs = mock(AgentRunRepository.class);
+    private final AgentRunEventRepository events = mock(AgentRunEventRepository.class);
+    private final TransactionTemplate transactions = mock(TransactionTemplate.class);
+    private final AgentRunLedger ledger = new AgentRunLedger(
+            mock(AgentSessionRepository.class), runs, events, transactions);
+
+    private final AtomicReference<AgentRun> committed = new AtomicReference<>();
+    private final AtomicReference<AgentRun> lastLocked = new AtomicReference<>();
+    private final List<Long> sequences = new ArrayList<>();
+
+    AgentRunLedgerJournalTest() {
+        when(runs.findByIdForUpdate(anyString())).thenAnswer(invocation -> {
+            AgentRun copy = copy(committed.get());
+            lastLocked.set(copy);
+            return Optional.of(copy);
+        });
+        when(events.save(any(AgentRunEvent.class))).thenAnswer(invocation -> {
+            sequences.add(invocation.<AgentRunEvent>getArgument(0).getSequence());
+            return invocation.getArgument(0);
+        });
+        doAnswer(invocation -> {
+            invocation.<List<AgentRunEvent>>getArgument(0).forEach(event -> sequences.add(event.getSequence()));
+            return null;
+        }).when(events).insertAll(anyList());
+    }
+
+    @Test
+    void cancelWhileADueBatchWaitsToBeWrittenDoesNotReuseItsSequences() {
+        committed.set(AgentRun.builder()
+                .id("run").userId(1L).status(AgentRunStatus.QUEUED)
+                .currentStep(0).maxSteps(8).nextEventSequence(2)
+                .build());
+        committed.set(copy(ledger.transition("run", AgentRunStatus.RUNNING, AgentEventType.RUN_STARTED, null)));
+
+        // The moderation verdict thread cancels after the batch was drained but before it is written.
+        AtomicBoolean cancelled = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (cancelled.compareAndSet(false, true)) {
+                committed.set(copy(ledger.cancel("run", 1L, "moderation")));
+            }
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            committed.set(copy(lastLocked.get()));
+            return null;
+        }).when(transactions).executeWithoutResult(any());
+
+        for (int i = 0; i < 64; i++) {
+            ledger.appendToolEvent("run", AgentEventType.TOOL_CALL_COMPLETED, "lookup", null);
+        }
+
+        assertThat(cancelled).isTrue();
+        assertThat(sequences).hasSize(66).doesNotHaveDuplicates();
+        assertThat(committed.get().getStatus()).isEqualTo(AgentRunStatus.CANCELLED);
+        assertThat(committed.get().getNextEventSequence()).isEqualTo(68);
+    }
+
+    private static AgentRun copy(AgentRun run) {
+        return AgentRun.builder()
+                .id(run.getId())
+                .userId(run.getUserId())
+                .status(run.getStatus())
+                .currentStep(run.getCurrentStep())
+                .maxSteps(run.getMaxSteps())
+                .nextEventSequence(run.getNextEventSequence())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+}
@@ -39,6 +39,23 @@ class AgentRunLedgerTest {
                         AgentEventType.RUN_SUCCEEDED);
     }
 
+    @Test
+    void buffersRunningEventsUntilStateTransition() {
+        AgentRun run = ledger.create(request("write-behind"));
+        ledger.transition(run.getId(), AgentRunStatus.RUNNING, AgentEventType.RUN_STARTED, null);
+        ledger.advanceStep(run.getId(), AgentEventType.MODEL_CALL_STARTED, null);
+        ledger.appendToolEvent(run.getId(), AgentEventType.TOOL_CALL_STARTED, "get_weather", null);
+
+        assertThat(eventRepository.findByRunIdOrderBySequenceAsc(run.getId())).hasSize(2);
+
+        ledger.transition(run.getId(), AgentRunStatus.WAITING_BACKGROUND,
+                AgentEventType.BACKGROUND_WAIT_STARTED, null);
+
+        assertThat(eventRepository.findByRunIdOrderBySequenceAsc(run.getId()))
+                .extracting(event -> event.getSequence())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
     @Test
     void requestIdIsIdempotent() {
         AgentRun first = ledger.create(request("same-request"));
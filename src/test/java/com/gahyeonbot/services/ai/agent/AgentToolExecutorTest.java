@@ -0,0 +1,57 @@
+package com.gahyeonbot.services.ai.agent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AgentToolExecutorTest {
+    @Test
+    void runsReadOnlyCallsConcurrentlyAndKeepsOrder() {
+        AgentToolExecutor executor = new AgentToolExecutor(2, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<AgentToolExecutor.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int index = i;
+            tasks.add(new AgentToolExecutor.Task("tool" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(80 - index * 20L);
+                    return "result" + index;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, true));
+        }
+
+        List<AgentToolExecutor.Outcome> outcomes = executor.executeAll(tasks);
+
+        assertThat(outcomes).extracting(AgentToolExecutor.Outcome::result)
+                .containsExactly("result0", "result1", "result2", "result3");
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void reportsFailuresAndTimeoutsPerCall() {
+        AgentToolExecutor executor = new AgentToolExecutor(4, Duration.ofMillis(100));
+
+        List<AgentToolExecutor.Outcome> outcomes = executor.executeAll(List.of(
+                new AgentToolExecutor.Task("slow", () -> {
+                    Thread.sleep(5_000);
+                    return "late";
+                }, true),
+                new AgentToolExecutor.Task("broken", () -> {
+                    throw new IllegalArgumentException("bad arguments");
+                }, true),
+                new AgentToolExecutor.Task("write", () -> "written", false)));
+
+        assertThat(outcomes.get(0).failure()).hasMessageContaining("slow");
+        assertThat(outcomes.get(1).failure()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(outcomes.get(2).result()).isEqualTo("written");
+    }
+}
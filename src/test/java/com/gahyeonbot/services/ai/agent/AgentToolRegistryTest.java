@@ -0,0 +1,80 @@
+package com.gahyeonbot.services.ai.agent;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.annotation.Tool;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AgentToolRegistryTest {
+    @Test
+    void exposesOnlyToolsThePolicyDoesNotDenyAndReusesTheView() {
+        AgentToolPolicy policy = new AgentToolPolicy(Map.of("lookup", AgentToolRisk.READ_ONLY));
+        AgentToolRegistry registry = new AgentToolRegistry(policy, List.of(new SampleTools()));
+
+        AgentToolRegistry.View view = registry.view(AgentGateway.TEXT);
+
+        assertThat(view.callbacks()).containsOnlyKeys("lookup");
+        assertThat(registry.view(AgentGateway.TEXT)).isSameAs(view);
+        assertThat(view.newOptions()).isNotSameAs(view.newOptions());
+    }
+
+    @Test
+    void registersToolsWithoutRestart() {
+        AgentToolPolicy policy = new AgentToolPolicy(Map.of("lookup", AgentToolRisk.READ_ONLY));
+        AgentToolRegistry registry = new AgentToolRegistry(policy, List.of(new SampleTools()));
+        AgentToolRegistry.View before = registry.view(AgentGateway.VOICE);
+
+        registry.register(new ExtraTools(), Map.of("extra_lookup", AgentToolRisk.EXTERNAL_READ));
+
+        AgentToolRegistry.View after = registry.view(AgentGateway.VOICE);
+        assertThat(before.callbacks()).containsOnlyKeys("lookup");
+        assertThat(before.decide("extra_lookup")).isEqualTo(AgentToolDecision.DENY);
+        assertThat(after.callbacks()).containsOnlyKeys("lookup", "extra_lookup");
+        assertThat(after.riskOf("extra_lookup")).isEqualTo(AgentToolRisk.EXTERNAL_READ);
+    }
+
+    @Test
+    void failedRegistrationLeavesTheRegistryUnchanged() {
+        AgentToolPolicy policy = new AgentToolPolicy(Map.of("lookup", AgentToolRisk.READ_ONLY));
+        AgentToolRegistry registry = new AgentToolRegistry(policy, List.of(new SampleTools()));
+        AgentToolRegistry.View before = registry.view(AgentGateway.TEXT);
+
+        assertThatThrownBy(() -> registry.register(new DuplicateTools(), Map.of("lookup", AgentToolRisk.DESTRUCTIVE)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.view(AgentGateway.TEXT)).isSameAs(before);
+        assertThat(before.decide("lookup")).isEqualTo(AgentToolDecision.ALLOW);
+        registry.register(new ExtraTools(), Map.of("extra_lookup", AgentToolRisk.READ_ONLY));
+        assertThat(registry.view(AgentGateway.TEXT).callbacks()).containsOnlyKeys("lookup", "extra_lookup");
+    }
+
+    static class SampleTools {
+        @Tool(name = "lookup", description = "조회")
+        public String lookup(String query) {
+            return query;
+        }
+
+        @Tool(name = "unlisted", description = "정책에 없는 도구")
+        public String unlisted() {
+            return "no";
+        }
+    }
+
+    static class ExtraTools {
+        @Tool(name = "extra_lookup", description = "추가 조회")
+        public String extraLookup() {
+            return "extra";
+        }
+    }
+
+    static class DuplicateTools {
+        @Tool(name = "lookup", description = "이미 있는 이름")
+        public String lookup() {
+            return "duplicate";
+        }
+    }
+}
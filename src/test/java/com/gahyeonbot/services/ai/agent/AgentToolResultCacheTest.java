@@ -0,0 +1,82 @@
+package com.gahyeonbot.services.ai.agent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AgentToolResultCacheTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AgentToolCacheProperties properties = new AgentToolCacheProperties();
+    private final AgentToolResultCache cache =
+            new AgentToolResultCache(properties, new ObjectMapper(), registry);
+
+    @Test
+    void reusesResultForEquivalentArguments() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.call("get_current_weather", "{\"location\":\"서울\",\"units\":\"c\"}",
+                () -> "맑음 " + calls.incrementAndGet());
+        String second = cache.call("get_current_weather", "{ \"units\": \"c\", \"location\": \" 서울 \" }",
+                () -> "맑음 " + calls.incrementAndGet());
+
+        assertThat(second).isEqualTo("맑음 1");
+        assertThat(registry.counter("gahyeonbot.agent.tool.cache",
+                "tool", "get_current_weather", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(registry.timer("gahyeonbot.agent.tool.cache.saved",
+                "tool", "get_current_weather").count()).isEqualTo(1);
+    }
+
+    @Test
+    void collapsesConcurrentIdenticalCalls() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> call(() -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "forecast";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> call(() -> {
+            calls.incrementAndGet();
+            return "duplicate";
+        }));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheFailuresOrDisabledTools() throws Exception {
+        assertThatThrownBy(() -> cache.call("get_weather_forecast", "{}", () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.call("get_weather_forecast", "{}", () -> "recovered")).isEqualTo("recovered");
+
+        properties.getTtlSeconds().put("get_current_weather", 0L);
+        cache.call("get_current_weather", "{}", () -> "first");
+        assertThat(cache.call("get_current_weather", "{}", () -> "second")).isEqualTo("second");
+    }
+
+    private String call(Callable<String> loader) {
+        try {
+            return cache.call("get_weather_forecast", "{\"location\":\"부산\"}", loader);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
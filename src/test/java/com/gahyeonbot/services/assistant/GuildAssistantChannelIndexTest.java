@@ -0,0 +1,88 @@
+package com.gahyeonbot.services.assistant;
+
+import com.gahyeonbot.entity.GuildAssistantChannels;
+import com.gahyeonbot.repository.GuildAssistantChannelsRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class GuildAssistantChannelIndexTest {
+
+    @Test
+    void loadsAllGuildsAndAppliesWriteThroughChanges() {
+        GuildAssistantChannelsRepository repository = mock(GuildAssistantChannelsRepository.class);
+        when(repository.findAll()).thenReturn(List.of(channels(30L, 301L, 302L), channels(10L, 101L, 102L)));
+        GuildAssistantChannelIndex index = new GuildAssistantChannelIndex(repository);
+        index.reload();
+
+        assertThat(index.isTextChannel(10L, 101L)).isTrue();
+        assertThat(index.isTextChannel(10L, 102L)).isFalse();
+        assertThat(index.voiceChannelId(30L)).isEqualTo(302L);
+        assertThat(index.textChannelId(20L)).isZero();
+
+        index.changed(channels(20L, 201L, 202L));
+        index.changed(channels(10L, 111L, 112L));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.textChannelId(20L)).isEqualTo(201L);
+        assertThat(index.isTextChannel(10L, 101L)).isFalse();
+        assertThat(index.voiceChannelId(10L)).isEqualTo(112L);
+    }
+
+    @Test
+    void filtersGatewayEventsWithoutTouchingTheDatabase() {
+        int guilds = 10_000;
+        List<GuildAssistantChannels> rows = new ArrayList<>();
+        for (long guildId = 1; guildId <= guilds; guildId++) {
+            rows.add(channels(guildId * 7, guildId * 1_000, guildId * 1_000 + 1));
+        }
+        GuildAssistantChannelsRepository repository = mock(GuildAssistantChannelsRepository.class);
+        when(repository.findAll()).thenReturn(rows);
+        GuildAssistantChannelIndex index = new GuildAssistantChannelIndex(repository);
+        index.reload();
+
+        for (long guildId = 1; guildId <= guilds; guildId++) {
+            assertThat(index.isTextChannel(guildId * 7, guildId * 1_000)).isTrue();
+            assertThat(index.isTextChannel(guildId * 7, guildId * 1_000 + 1)).isFalse();
+            assertThat(index.isTextChannel(guildId * 7 + 1, guildId * 1_000)).isFalse();
+        }
+        verify(repository, times(1)).findAll();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void keepsChangesAppliedWhileReloading() {
+        GuildAssistantChannelsRepository repository = mock(GuildAssistantChannelsRepository.class);
+        GuildAssistantChannelIndex index = new GuildAssistantChannelIndex(repository);
+        // Simulates commits landing between the full read and the snapshot swap.
+        when(repository.findAll()).thenAnswer(invocation -> {
+            index.put(20L, 201L, 202L);
+            index.remove(10L);
+            return List.of(channels(10L, 101L, 102L));
+        });
+
+        index.reload();
+
+        assertThat(index.textChannelId(20L)).isEqualTo(201L);
+        assertThat(index.textChannelId(10L)).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static GuildAssistantChannels channels(long guildId, long textChannelId, long voiceChannelId) {
+        return GuildAssistantChannels.builder()
+                .guildId(guildId)
+                .categoryId(1L)
+                .textChannelId(textChannelId)
+                .voiceChannelId(voiceChannelId)
+                .createdBy(1L)
+                .build();
+    }
+}
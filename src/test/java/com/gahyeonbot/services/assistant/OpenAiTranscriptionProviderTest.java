@@ -0,0 +1,112 @@
+package com.gahyeonbot.services.assistant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiTranscriptionProviderTest {
+    private HttpServer server;
+    private final CountDownLatch requestStarted = new CountDownLatch(1);
+    private volatile byte[] received;
+    private volatile String contentType;
+
+    @BeforeEach
+    void startStubServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/audio/transcriptions", exchange -> {
+            contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            requestStarted.countDown();
+            try (InputStream body = exchange.getRequestBody()) {
+                received = body.readAllBytes();
+            }
+            byte[] response = "{\"text\":\" 안녕하세요 \"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void uploadsWavViewAsMultipart() {
+        OpenAiTranscriptionProvider provider = new OpenAiTranscriptionProvider(properties(), new ObjectMapper());
+        byte[] pcm = pcm(4_000);
+
+        String transcript = provider.transcribe(WavAudio.of(pcm));
+
+        assertThat(transcript).isEqualTo("안녕하세요");
+        assertThat(contentType).startsWith("multipart/form-data; boundary=");
+        String body = new String(received, StandardCharsets.ISO_8859_1);
+        assertThat(body).contains("name=\"model\"\r\n\r\nstub-model\r\n");
+        assertThat(body).contains("filename=\"utterance.wav\"");
+        assertThat(indexOf(received, WavEncoder.pcmToWav(pcm))).isPositive();
+    }
+
+    @Test
+    void liveUploadStartsBeforeSpeechEndsAndSendsTheTail() throws Exception {
+        OpenAiTranscriptionProvider provider = new OpenAiTranscriptionProvider(properties(), new ObjectMapper());
+        UtteranceBufferPool pool = new UtteranceBufferPool(1);
+        UtteranceBuffer buffer = pool.acquire(16_000);
+        LiveUtteranceStream stream = new LiveUtteranceStream(buffer, Duration.ofSeconds(5));
+        byte[] pcm = pcm(8_000);
+
+        buffer.append(pcm, 0, 6_000);
+        stream.publish(buffer.size());
+        CompletableFuture<String> transcript = provider.transcribeLive(stream);
+
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(transcript).isNotDone();
+        buffer.append(pcm, 6_000, 2_000);
+        stream.finish(buffer.size());
+        buffer.release();
+
+        assertThat(transcript.get(5, TimeUnit.SECONDS)).isEqualTo("안녕하세요");
+        byte[] expected = new byte[WavEncoder.HEADER_BYTES + pcm.length];
+        System.arraycopy(WavEncoder.streamingWavHeader(), 0, expected, 0, WavEncoder.HEADER_BYTES);
+        System.arraycopy(pcm, 0, expected, WavEncoder.HEADER_BYTES, pcm.length);
+        assertThat(indexOf(received, expected)).isPositive();
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    private AssistantProperties properties() {
+        AssistantProperties properties = new AssistantProperties();
+        properties.setEnabled(true);
+        properties.getStt().setEnabled(true);
+        properties.getStt().setApiKeyRequired(false);
+        properties.getStt().setModel("stub-model");
+        properties.getStt().setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.getStt().setTimeoutSeconds(5);
+        return properties;
+    }
+
+    private static byte[] pcm(int length) {
+        byte[] pcm = new byte[length];
+        for (int i = 0; i < length; i++) pcm[i] = (byte) (i * 31);
+        return pcm;
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        for (int i = 0; i + needle.length <= haystack.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gahyeonbot.services.assistant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolyphaseResamplerTest {
+    private static final int PACKET_FRAMES = 960;
+
+    @Test
+    void producesOneThirdOfTheInputFrames() {
+        PolyphaseResampler resampler = new PolyphaseResampler();
+        short[] out = new short[PolyphaseResampler.maxOutputSamples(PACKET_FRAMES * 4)];
+
+        int total = 0;
+        for (int i = 0; i < 10; i++) {
+            total += resampler.process(tone(PACKET_FRAMES, i * PACKET_FRAMES, 440, 8_000),
+                    PACKET_FRAMES * 4, out);
+        }
+
+        assertEquals(10 * PACKET_FRAMES / 3, total);
+    }
+
+    @Test
+    void packetSplitDoesNotChangeOutput() {
+        byte[] pcm = tone(PACKET_FRAMES * 2, 0, 1_000, 10_000);
+        short[] whole = resample(new PolyphaseResampler(), pcm, pcm.length);
+
+        PolyphaseResampler split = new PolyphaseResampler();
+        short[] parts = new short[whole.length];
+        int produced = 0;
+        int offset = 0;
+        for (int chunk : new int[]{7, 500, 1_000, 301, 112}) {
+            byte[] part = Arrays.copyOfRange(pcm, offset * 4, (offset + chunk) * 4);
+            short[] out = resample(split, part, part.length);
+            System.arraycopy(out, 0, parts, produced, out.length);
+            produced += out.length;
+            offset += chunk;
+        }
+
+        assertEquals(whole.length, produced);
+        assertArrayEquals(whole, parts);
+    }
+
+    @Test
+    void keepsSpeechBandAndRejectsAliases() {
+        double speech = rms(resample(new PolyphaseResampler(), tone(PACKET_FRAMES * 5, 0, 1_000, 10_000),
+                PACKET_FRAMES * 5 * 4));
+        double alias = rms(resample(new PolyphaseResampler(), tone(PACKET_FRAMES * 5, 0, 12_000, 10_000),
+                PACKET_FRAMES * 5 * 4));
+
+        double inputRms = 10_000 / Math.sqrt(2);
+        assertTrue(Math.abs(speech - inputRms) / inputRms < 0.05, "1 kHz rms " + speech);
+        assertTrue(alias < inputRms * 0.01, "12 kHz rms " + alias);
+    }
+
+    private static short[] resample(PolyphaseResampler resampler, byte[] pcm, int length) {
+        short[] out = new short[PolyphaseResampler.maxOutputSamples(length)];
+        return Arrays.copyOf(out, resampler.process(pcm, length, out));
+    }
+
+    /** Settled RMS, skipping the filter's start-up transient. */
+    private static double rms(short[] samples) {
+        int start = PolyphaseResampler.TAPS;
+        double sum = 0;
+        for (int i = start; i < samples.length; i++) sum += (double) samples[i] * samples[i];
+        return Math.sqrt(sum / (samples.length - start));
+    }
+
+    private static byte[] tone(int frames, int firstFrame, double hz, double amplitude) {
+        byte[] pcm = new byte[frames * 4];
+        for (int i = 0; i < frames; i++) {
+            short sample = (short) Math.round(
+                    amplitude * Math.sin(2 * Math.PI * hz * (firstFrame + i) / WavEncoder.SAMPLE_RATE));
+            for (int channel = 0; channel < 2; channel++) {
+                int offset = i * 4 + channel * 2;
+                pcm[offset] = (byte) sample;
+                pcm[offset + 1] = (byte) (sample >> 8);
+            }
+        }
+        return pcm;
+    }
+}
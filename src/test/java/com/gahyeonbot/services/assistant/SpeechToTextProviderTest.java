@@ -0,0 +1,28 @@
+package com.gahyeonbot.services.assistant;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.SequenceInputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeechToTextProviderTest {
+    @Test
+    void liveTranscriptionFallsBackToTranscribingTheBufferedStream() throws Exception {
+        byte[] pcm = {1, 2, 3, 4, 5, 6};
+        SpeechToTextProvider provider = new SpeechToTextProvider() {
+            @Override public boolean isReady() { return true; }
+            @Override public String transcribe(WavAudio wavAudio) {
+                return wavAudio.pcmLength() + " bytes";
+            }
+        };
+
+        String transcript = provider.transcribeLive(new SequenceInputStream(
+                        new ByteArrayInputStream(WavEncoder.streamingWavHeader()), new ByteArrayInputStream(pcm)))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(transcript).isEqualTo("6 bytes");
+    }
+}
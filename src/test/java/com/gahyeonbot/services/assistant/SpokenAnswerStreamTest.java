@@ -0,0 +1,54 @@
+package com.gahyeonbot.services.assistant;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpokenAnswerStreamTest {
+    @Test
+    void speaksFirstCompleteSentenceOnceAndLeavesTheRest() {
+        List<String> spoken = new ArrayList<>();
+        SpokenAnswerStream stream = new SpokenAnswerStream(sentence -> {
+            spoken.add(sentence);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        stream.onPartial("오늘 서울은 3.");
+        stream.onPartial("오늘 서울은 3.5도예요. 내일");
+        stream.onPartial("오늘 서울은 3.5도예요. 내일은 더 추워요.");
+
+        assertThat(spoken).containsExactly("오늘 서울은 3.5도예요.");
+        assertThat(stream.remainder("오늘 서울은 3.5도예요. 내일은 더 추워요. 따뜻하게 입어요."))
+                .isEqualTo("내일은 더 추워요. 따뜻하게 입어요.");
+    }
+
+    @Test
+    void speaksWholeAnswerWhenEarlySentenceWasNotPartOfIt() {
+        SpokenAnswerStream stream = new SpokenAnswerStream(sentence -> CompletableFuture.completedFuture(null));
+
+        stream.onPartial("날씨를 확인해 볼게요. ");
+
+        assertThat(stream.remainder("서울은 맑아요.")).isEqualTo("서울은 맑아요.");
+    }
+
+    @Test
+    void startsOverAfterAToolCallReset() {
+        List<String> spoken = new ArrayList<>();
+        SpokenAnswerStream stream = new SpokenAnswerStream(sentence -> {
+            spoken.add(sentence);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        stream.onPartial("날씨를 확인해 볼게요. 잠시");
+        stream.onReset();
+        stream.onPartial("서울은 맑아요. 기온은");
+
+        assertThat(spoken).containsExactly("날씨를 확인해 볼게요.", "서울은 맑아요.");
+        assertThat(stream.remainder("서울은 맑아요. 기온은 20도예요.")).isEqualTo("기온은 20도예요.");
+        assertThat(stream.firstPlayback()).isDone();
+    }
+}
@@ -0,0 +1,127 @@
+package com.gahyeonbot.services.assistant;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UtteranceBufferTest {
+    @Test
+    void swapsBytesInPlace() {
+        byte[] pcm = {0x12, 0x34, (byte) 0xFE, (byte) 0xDC};
+
+        WavEncoder.swapBytesInPlace(pcm);
+
+        assertArrayEquals(new byte[]{0x34, 0x12, (byte) 0xDC, (byte) 0xFE}, pcm);
+    }
+
+    @Test
+    void preRollKeepsNewestBytesInOrder() {
+        UtteranceBufferPool pool = new UtteranceBufferPool(1);
+        PcmRingBuffer preRoll = new PcmRingBuffer(8);
+        preRoll.write(bytes(0, 4));
+        preRoll.write(bytes(4, 4));
+        preRoll.write(bytes(8, 4));
+
+        UtteranceBuffer buffer = pool.acquire(16);
+        preRoll.drainTo(buffer);
+
+        assertEquals(0, preRoll.size());
+        byte[] wav = buffer.view().toByteArray();
+        assertEquals(WavEncoder.HEADER_BYTES + 8, wav.length);
+        assertArrayEquals(bytes(4, 8), Arrays.copyOfRange(wav, WavEncoder.HEADER_BYTES, wav.length));
+    }
+
+    @Test
+    void viewMatchesEncodedWavWithoutCopyingLaterAppends() throws Exception {
+        UtteranceBuffer buffer = new UtteranceBufferPool(1).acquire(64);
+        buffer.append(bytes(0, 16));
+
+        WavAudio view = buffer.view();
+        buffer.append(bytes(16, 16));
+
+        byte[] expected = WavEncoder.pcmToWav(bytes(0, 16));
+        assertEquals(expected.length, view.length());
+        assertArrayEquals(expected, view.toByteArray());
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        view.writeTo(written);
+        assertArrayEquals(expected, written.toByteArray());
+        try (InputStream in = view.openStream()) {
+            assertArrayEquals(expected, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void dropsPacketsPastCapacity() {
+        UtteranceBuffer buffer = new UtteranceBufferPool(1).acquire(8);
+
+        buffer.append(bytes(0, 8));
+
+        assertFalse(buffer.append(bytes(8, 4)));
+        assertEquals(8, buffer.size());
+    }
+
+    @Test
+    void growsTowardsTheCapAndShrinksWhenIdle() {
+        UtteranceBufferPool pool = new UtteranceBufferPool(1);
+        int cap = UtteranceBuffer.INITIAL_BYTES * 5;
+        UtteranceBuffer buffer = pool.acquire(cap);
+        assertEquals(UtteranceBuffer.INITIAL_BYTES, buffer.allocated());
+
+        byte[] second = bytes(0, UtteranceBuffer.INITIAL_BYTES);
+        buffer.append(second);
+        WavAudio before = buffer.view();
+        buffer.append(bytes(1, 1));
+        assertEquals(UtteranceBuffer.INITIAL_BYTES * 2, buffer.allocated());
+        buffer.append(new byte[UtteranceBuffer.INITIAL_BYTES * 2]);
+        assertEquals(UtteranceBuffer.INITIAL_BYTES * 4, buffer.allocated());
+        buffer.append(new byte[UtteranceBuffer.INITIAL_BYTES]);
+        assertEquals(cap, buffer.allocated());
+        assertFalse(buffer.append(new byte[UtteranceBuffer.INITIAL_BYTES]));
+        // A view taken before growing still reads the bytes it covers.
+        assertArrayEquals(WavEncoder.pcmToWav(second), before.toByteArray());
+
+        buffer.release();
+        assertSame(buffer, pool.acquire(cap));
+        assertEquals(UtteranceBuffer.INITIAL_BYTES, buffer.allocated());
+    }
+
+    @Test
+    void reusesBufferOnlyAfterLastReleaseAcrossSpeakers() {
+        UtteranceBufferPool pool = new UtteranceBufferPool(4);
+        UtteranceBuffer first = pool.acquire(32);
+        UtteranceBuffer second = pool.acquire(32);
+        assertNotSame(first, second);
+
+        first.append(bytes(0, 8));
+        first.retain(); // in-flight provisional transcription
+        first.release();
+        assertEquals(0, pool.idleCount());
+        first.release();
+        second.release();
+        assertEquals(2, pool.idleCount());
+
+        UtteranceBuffer reused = pool.acquire(32);
+        assertSame(second, reused);
+        assertEquals(0, reused.size());
+        assertThrows(IllegalStateException.class, () -> {
+            UtteranceBuffer extra = pool.acquire(32);
+            extra.release();
+            extra.release();
+        });
+    }
+
+    private static byte[] bytes(int from, int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) result[i] = (byte) (from + i);
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gahyeonbot.services.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DmChannelCacheTest {
+
+    @Test
+    void remembersChannelsUntilEvicted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DmChannelCache cache = new DmChannelCache(registry);
+
+        assertThat(cache.channelId(1L)).isZero();
+        cache.remember(1L, 101L);
+        cache.remember(2L, 202L);
+        assertThat(cache.channelId(1L)).isEqualTo(101L);
+
+        cache.evict(1L);
+        cache.evict(1L);
+        assertThat(cache.channelId(1L)).isZero();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(registry.counter("gahyeonbot.dm.channel.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(registry.counter("gahyeonbot.dm.channel.cache", "result", "miss").count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.gahyeonbot.services.notification;
+
+import com.gahyeonbot.core.BotInitializerRunner;
+import com.gahyeonbot.entity.DmDeliveryLog;
+import com.gahyeonbot.repository.DmDeliveryLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageCreateAction;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DmDispatchServiceTest {
+
+    @Test
+    void repeatCampaignSendsOnRememberedChannelsWithoutOpeningThem() {
+        List<Long> users = List.of(1L, 2L, 3L);
+        PrivateChannel channel = mock(PrivateChannel.class);
+        when(channel.getIdLong()).thenReturn(900L);
+        MessageCreateAction send = mock(MessageCreateAction.class);
+        when(send.submit()).thenReturn(CompletableFuture.completedFuture(null));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class))).thenReturn(send);
+        @SuppressWarnings("unchecked")
+        CacheRestAction<PrivateChannel> open = mock(CacheRestAction.class);
+        when(open.submit()).thenReturn(CompletableFuture.completedFuture(channel));
+
+        ShardManager shardManager = mock(ShardManager.class);
+        when(shardManager.openPrivateChannelById(anyLong())).thenReturn(open);
+        when(shardManager.getPrivateChannelById(900L)).thenReturn(channel);
+        BotInitializerRunner runner = mock(BotInitializerRunner.class);
+        when(runner.getShardManager()).thenReturn(shardManager);
+
+        DmDeliveryLogRepository deliveryLogs = mock(DmDeliveryLogRepository.class);
+        when(deliveryLogs.findDoneDedupeKeysByRunId(anyString())).thenReturn(Set.of());
+        when(deliveryLogs.reserveAll(anyList(), any()))
+                .thenAnswer(invocation -> new ArrayList<DmDeliveryLog>(invocation.getArgument(0)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DmDispatchService service = new DmDispatchService(
+                runner,
+                deliveryLogs,
+                mock(DmSubscriptionService.class),
+                new DmFanout(deliveryLogs, 100, 4),
+                new DmChannelCache(registry),
+                registry);
+        ReflectionTestUtils.setField(service, "dmEnabled", true);
+        MessageEmbed embed = new EmbedBuilder().setTitle("digest").setDescription("repos").build();
+
+        assertThat(service.dispatchEmbedToAll("trending-1", users, embed).sent()).isEqualTo(3);
+        double firstRunCalls = calls(registry);
+        assertThat(service.dispatchEmbedToAll("trending-2", users, embed).sent()).isEqualTo(3);
+        double secondRunCalls = calls(registry) - firstRunCalls;
+
+        assertThat(firstRunCalls).isEqualTo(6.0);
+        assertThat(secondRunCalls).isEqualTo(3.0);
+        assertThat(registry.counter("gahyeonbot.discord.api.calls", "route", "open_private_channel").count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void opensTheChannelAgainWhenTheRememberedOneIsNotInTheJdaCache() {
+        PrivateChannel channel = mock(PrivateChannel.class);
+        when(channel.getIdLong()).thenReturn(901L);
+        MessageCreateAction send = mock(MessageCreateAction.class);
+        when(send.submit()).thenReturn(CompletableFuture.completedFuture(null));
+        when(channel.sendMessageEmbeds(any(MessageEmbed.class))).thenReturn(send);
+        @SuppressWarnings("unchecked")
+        CacheRestAction<PrivateChannel> open = mock(CacheRestAction.class);
+        when(open.submit()).thenReturn(CompletableFuture.completedFuture(channel));
+
+        ShardManager shardManager = mock(ShardManager.class);
+        when(shardManager.openPrivateChannelById(1L)).thenReturn(open);
+        BotInitializerRunner runner = mock(BotInitializerRunner.class);
+        when(runner.getShardManager()).thenReturn(shardManager);
+
+        DmDeliveryLogRepository deliveryLogs = mock(DmDeliveryLogRepository.class);
+        when(deliveryLogs.findDoneDedupeKeysByRunId(anyString())).thenReturn(Set.of());
+        when(deliveryLogs.reserveAll(anyList(), any()))
+                .thenAnswer(invocation -> new ArrayList<DmDeliveryLog>(invocation.getArgument(0)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DmChannelCache channelCache = new DmChannelCache(registry);
+        channelCache.remember(1L, 900L);
+        DmDispatchService service = new DmDispatchService(
+                runner,
+                deliveryLogs,
+                mock(DmSubscriptionService.class),
+                new DmFanout(deliveryLogs, 100, 4),
+                channelCache,
+                registry);
+        ReflectionTestUtils.setField(service, "dmEnabled", true);
+        MessageEmbed embed = new EmbedBuilder().setTitle("digest").build();
+
+        assertThat(service.dispatchEmbedToAll("trending-1", List.of(1L), embed).sent()).isEqualTo(1);
+        assertThat(channelCache.channelId(1L)).isEqualTo(901L);
+        verify(shardManager).openPrivateChannelById(1L);
+    }
+
+    private static double calls(SimpleMeterRegistry registry) {
+        return registry.find("gahyeonbot.discord.api.calls").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,199 @@
+package com.gahyeonbot.services.notification;
+
+import com.gahyeonbot.entity.DmDeliveryLog;
+import com.gahyeonbot.repository.DmDeliveryLogRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DmFanoutTest {
+
+    private final DmDeliveryLogRepository repository = mock(DmDeliveryLogRepository.class);
+    private final List<DmDeliveryLog> written = new ArrayList<>();
+
+    DmFanoutTest() {
+        when(repository.reserveAll(anyList(), any()))
+                .thenAnswer(invocation -> new ArrayList<DmDeliveryLog>(invocation.getArgument(0)));
+        doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+                .when(repository).updateResults(anyList());
+    }
+
+    @Test
+    void resumesAfterAlreadyProcessedUsersAndRecordsFailures() {
+        when(repository.findDoneDedupeKeysByRunId(anyString()))
+                .thenReturn(Set.of(DmFanout.dedupeKey("run", 1L), DmFanout.dedupeKey("run", 2L)));
+        Set<Long> contacted = ConcurrentHashMap.newKeySet();
+        DmFanout fanout = new DmFanout(repository, 2, 2);
+
+        DmFanout.Result result = fanout.dispatch("run", List.of(1L, 2L, 3L, 4L, 5L, 5L), "hash", userId -> {
+            contacted.add(userId);
+            return userId == 4L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("Cannot send messages to this user"))
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        assertThat(result).isEqualTo(new DmFanout.Result(2, 2, 1));
+        assertThat(contacted).containsExactlyInAnyOrder(3L, 4L, 5L);
+        assertThat(written).extracting(DmDeliveryLog::getStatus).containsExactly("SENT", "FAILED_SEND", "SENT");
+        assertThat(written.get(1).getErrorMessage()).contains("Cannot send");
+    }
+
+    @Test
+    void resumesEveryUserLeftUnsentByACrashOnceTheLeaseExpires() {
+        DeliveryLogStore store = new DeliveryLogStore();
+        List<Long> userIds = LongStream.rangeClosed(1, 10).boxed().toList();
+
+        // First run: user 2 fails and the process dies on user 7, leaving 7 and 8 reserved but unsent.
+        DmFanout crashing = new DmFanout(store.repository, 200, 2);
+        assertThatThrownBy(() -> crashing.dispatch("run", userIds, "hash", userId -> {
+            if (userId == 7L) throw new Error("crash");
+            return userId == 2L
+                    ? CompletableFuture.failedFuture(new IllegalStateException("rate limited"))
+                    : CompletableFuture.completedFuture(null);
+        })).hasMessage("crash");
+        assertThat(store.statuses()).containsEntry("run-7", "RECEIVED").containsEntry("run-8", "RECEIVED");
+
+        store.age(DmFanout.RESERVATION_LEASE.plusSeconds(1));
+        Set<Long> secondRun = ConcurrentHashMap.newKeySet();
+        DmFanout.Result result = new DmFanout(store.repository, 200, 2).dispatch("run", userIds, "hash", userId -> {
+            secondRun.add(userId);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // The failed send and every user reserved but never sent are retried; recorded sends are not.
+        assertThat(secondRun).containsExactlyInAnyOrder(2L, 7L, 8L, 9L, 10L);
+        assertThat(result).isEqualTo(new DmFanout.Result(5, 5, 0));
+        assertThat(store.statuses()).hasSize(10).allSatisfy((key, status) -> assertThat(status).isEqualTo("SENT"));
+    }
+
+    @Test
+    void leavesReservationsOfARunStillSendingToIt() throws InterruptedException {
+        DeliveryLogStore store = new DeliveryLogStore();
+        List<Long> userIds = List.of(1L, 2L);
+        CompletableFuture<Void> firstInstanceSend = new CompletableFuture<>();
+        CountDownLatch firstRunSending = new CountDownLatch(2);
+        Set<Long> secondRun = ConcurrentHashMap.newKeySet();
+
+        // The first instance has reserved both users and is still waiting on Discord.
+        CompletableFuture<DmFanout.Result> first = CompletableFuture.supplyAsync(() ->
+                new DmFanout(store.repository, 200, 2).dispatch("run", userIds, "hash", userId -> {
+                    firstRunSending.countDown();
+                    return firstInstanceSend;
+                }));
+        assertThat(firstRunSending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        DmFanout.Result second = new DmFanout(store.repository, 200, 2).dispatch("run", userIds, "hash", userId -> {
+            secondRun.add(userId);
+            return CompletableFuture.completedFuture(null);
+        });
+        firstInstanceSend.complete(null);
+
+        assertThat(second).isEqualTo(new DmFanout.Result(0, 2, 0));
+        assertThat(secondRun).isEmpty();
+        assertThat(first.join()).isEqualTo(new DmFanout.Result(2, 0, 0));
+        assertThat(store.statuses()).containsOnly(Map.entry("run-1", "SENT"), Map.entry("run-2", "SENT"));
+    }
+
+    @Test
+    void sendsConcurrentlyWithinTheCap() {
+        when(repository.findDoneDedupeKeysByRunId(anyString())).thenReturn(Set.of());
+        int users = 2_000;
+        int maxConcurrency = 8;
+        long latencyMillis = 1;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ScheduledExecutorService discord = Executors.newScheduledThreadPool(4);
+        try {
+            DmFanout fanout = new DmFanout(repository, 200, maxConcurrency);
+            List<Long> userIds = LongStream.rangeClosed(1, users).boxed().toList();
+
+            DmFanout.Result result = fanout.dispatch("run", userIds, "hash", userId -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<Void> response = new CompletableFuture<>();
+                discord.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    response.complete(null);
+                }, latencyMillis, TimeUnit.MILLISECONDS);
+                return response;
+            });
+
+            assertThat(result.sent()).isEqualTo(users);
+            assertThat(written).hasSize(users);
+            assertThat(written).extracting(DmDeliveryLog::getUserId).doesNotHaveDuplicates();
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(maxConcurrency);
+        } finally {
+            discord.shutdownNow();
+        }
+    }
+
+    /**
+     * Delivery log table kept in memory, following the reservation rules of the upsert in
+     * {@code DmDeliveryLogBatchRepositoryImpl}.
+     */
+    private static final class DeliveryLogStore {
+        private record Row(String status, LocalDateTime attemptedAt) {}
+
+        private final Map<String, Row> rows = new ConcurrentHashMap<>();
+        private final DmDeliveryLogRepository repository = mock(DmDeliveryLogRepository.class);
+
+        private DeliveryLogStore() {
+            when(repository.findDoneDedupeKeysByRunId(anyString())).thenAnswer(invocation -> statuses().entrySet().stream()
+                    .filter(entry -> !Set.of("RECEIVED", "FAILED_SEND").contains(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet()));
+            when(repository.reserveAll(anyList(), any())).thenAnswer(invocation -> {
+                LocalDateTime staleBefore = invocation.getArgument(1);
+                List<DmDeliveryLog> reserved = new ArrayList<>();
+                synchronized (rows) {
+                    for (DmDeliveryLog entry : invocation.<List<DmDeliveryLog>>getArgument(0)) {
+                        Row previous = rows.get(entry.getDedupeKey());
+                        if (previous == null || previous.status().equals("FAILED_SEND")
+                                || previous.status().equals("RECEIVED") && previous.attemptedAt().isBefore(staleBefore)) {
+                            rows.put(entry.getDedupeKey(), new Row(entry.getStatus(), entry.getAttemptedAt()));
+                            reserved.add(entry);
+                        }
+                    }
+                }
+                return reserved;
+            });
+            doAnswer(invocation -> {
+                for (DmDeliveryLog entry : invocation.<List<DmDeliveryLog>>getArgument(0)) {
+                    rows.put(entry.getDedupeKey(), new Row(entry.getStatus(), entry.getAttemptedAt()));
+                }
+                return null;
+            }).when(repository).updateResults(anyList());
+        }
+
+        private Map<String, String> statuses() {
+            return rows.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().status()));
+        }
+
+        /** Moves every attempt back in time, as if the process had been down for {@code duration}. */
+        private void age(Duration duration) {
+            rows.replaceAll((key, row) -> new Row(row.status(), row.attemptedAt().minus(duration)));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.gahyeonbot.services.streaming;
+
+import com.gahyeonbot.models.SearchResult;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchResultCacheTest {
+    @Test
+    void normalizedQueriesShareOneEntry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SearchResultCache cache = new SearchResultCache(new SearchCacheProperties(), registry);
+        SearchResult result = new SearchResult("scsearch:Hype Boy NewJeans", "cover");
+
+        assertThat(cache.get("hype boy")).isNull();
+        cache.put("  Hype   Boy ", result);
+
+        assertThat(cache.get("HYPE BOY")).isSameAs(result);
+        assertThat(registry.counter("gahyeonbot.music.search.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(registry.counter("gahyeonbot.music.search.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rememberedTrackIsReturnedAsClone() {
+        SearchResultCache cache = new SearchResultCache(new SearchCacheProperties(), new SimpleMeterRegistry());
+        AudioTrack played = mock(AudioTrack.class);
+        AudioTrack prototype = mock(AudioTrack.class);
+        AudioTrack clone = mock(AudioTrack.class);
+        when(played.makeClone()).thenReturn(prototype);
+        when(prototype.makeClone()).thenReturn(clone);
+
+        cache.put("ditto", new SearchResult("scsearch:Ditto", null));
+        cache.rememberTrack("ditto", played);
+
+        assertThat(cache.findTrack("Ditto")).isSameAs(clone);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        SearchCacheProperties properties = new SearchCacheProperties();
+        properties.setMaxEntries(2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SearchResultCache cache = new SearchResultCache(properties, registry);
+
+        cache.put("a", new SearchResult("scsearch:a", null));
+        cache.put("b", new SearchResult("scsearch:b", null));
+        cache.get("a");
+        cache.put("c", new SearchResult("scsearch:c", null));
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(registry.counter("gahyeonbot.music.search.cache.evictions").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void recentPlaysMissingFromCacheArePrewarmCandidates() {
+        SearchResultCache cache = new SearchResultCache(new SearchCacheProperties(), new SimpleMeterRegistry());
+        AudioTrack track = mock(AudioTrack.class);
+
+        cache.rememberTrack("Supernova", track);
+
+        assertThat(cache.prewarmCandidates()).containsExactly("Supernova");
+    }
+
+    @Test
+    void directUrlsAreNotRememberedForPrewarming() {
+        SearchResultCache cache = new SearchResultCache(new SearchCacheProperties(), new SimpleMeterRegistry());
+        AudioTrack track = mock(AudioTrack.class);
+
+        cache.rememberTrack(" https://soundcloud.com/newjeans/supernova", track);
+        cache.rememberTrack("Supernova", track);
+
+        assertThat(cache.prewarmCandidates()).containsExactly("Supernova");
+    }
+}
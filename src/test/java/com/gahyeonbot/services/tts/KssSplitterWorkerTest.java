@@ -0,0 +1,47 @@
+package com.gahyeonbot.services.tts;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KssSplitterWorkerTest {
+    @Test
+    void reusesOneProcessAcrossRequests() throws Exception {
+        // Answers every request line with its own line number, so a restart would reset the count.
+        List<String> command = List.of("sh", "-c",
+                "n=0; while read line; do n=$((n+1)); echo \"[\\\"$n\\\"]\"; done");
+        try (KssSplitterWorker worker = new KssSplitterWorker(command, new ObjectMapper(), Duration.ofSeconds(5))) {
+            assertThat(worker.split("첫 요청")).containsExactly("1");
+            assertThat(worker.split("둘째 요청")).containsExactly("2");
+        }
+    }
+
+    @Test
+    void restartsAfterProcessExits() throws Exception {
+        List<String> command = List.of("sh", "-c", "read line; echo '[\"ok\"]'");
+        try (KssSplitterWorker worker = new KssSplitterWorker(command, new ObjectMapper(), Duration.ofSeconds(5))) {
+            assertThat(worker.split("a")).containsExactly("ok");
+            try {
+                worker.split("b");
+            } catch (Exception expected) {
+                // Fails if the exit is noticed first; the next request starts a fresh process.
+            }
+            assertThat(worker.split("c")).containsExactly("ok");
+        }
+    }
+
+    @Test
+    void timesOutWhenProcessDoesNotAnswer() {
+        List<String> command = List.of("sh", "-c", "sleep 10");
+        try (KssSplitterWorker worker = new KssSplitterWorker(command, new ObjectMapper(), Duration.ofMillis(200))) {
+            assertThatThrownBy(() -> worker.split("a"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("timeout");
+        }
+    }
+}
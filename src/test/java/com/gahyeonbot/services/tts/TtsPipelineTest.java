@@ -0,0 +1,137 @@
+package com.gahyeonbot.services.tts;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gahyeonbot.core.audio.AudioManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TtsPipelineTest {
+    @Test
+    void queuesSegmentsInOrderWithBoundedLookahead() throws Exception {
+        TtsProperties properties = new TtsProperties();
+        properties.setProvider("stub");
+        properties.setLookahead(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        TtsService ttsService = new TtsService(properties, new ObjectMapper(), List.of(new TtsProvider() {
+            @Override public String name() { return "stub"; }
+            @Override public boolean isReady() { return true; }
+            @Override public Path synthesize(String text) { throw new UnsupportedOperationException(); }
+            @Override public TtsAudio synthesizeAudio(String text) throws Exception {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    // Later segments finish first; the sink must still see them in order.
+                    Thread.sleep(60 - Integer.parseInt(text) * 10L);
+                    return new TtsAudio(text.getBytes(StandardCharsets.UTF_8), "wav");
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        }));
+        List<String> played = new CopyOnWriteArrayList<>();
+        TtsPipeline pipeline = new TtsPipeline(ttsService, properties, memoryTracks(), new SimpleMeterRegistry());
+
+        // Each track starts playing as soon as it is queued.
+        int queued = pipeline.play(List.of("0", "1", "2", "3", "4"), null, "test", false, track -> {
+            played.add(track.getIdentifier());
+            startPlaying(track);
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(queued).isEqualTo(5);
+        assertThat(played).containsExactly("0", "1", "2", "3", "4");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void holdsSynthesisBackUntilPlaybackReachesTheLookaheadWindow() throws Exception {
+        TtsProperties properties = new TtsProperties();
+        properties.setProvider("stub");
+        properties.setLookahead(2);
+        List<String> synthesized = new CopyOnWriteArrayList<>();
+        TtsService ttsService = new TtsService(properties, new ObjectMapper(), List.of(new TtsProvider() {
+            @Override public String name() { return "stub"; }
+            @Override public boolean isReady() { return true; }
+            @Override public Path synthesize(String text) { throw new UnsupportedOperationException(); }
+            @Override public TtsAudio synthesizeAudio(String text) {
+                synthesized.add(text);
+                return new TtsAudio(text.getBytes(StandardCharsets.UTF_8), "wav");
+            }
+        }));
+        BlockingQueue<AudioTrack> queue = new LinkedBlockingQueue<>();
+        TtsPipeline pipeline = new TtsPipeline(ttsService, properties, memoryTracks(), new SimpleMeterRegistry());
+
+        // Nothing plays until the test starts a track, like a player busy with an earlier song.
+        CompletableFuture<Integer> queued = pipeline.play(List.of("0", "1", "2", "3"), null, "test", false, queue::add);
+
+        AudioTrack first = queue.poll(5, TimeUnit.SECONDS);
+        AudioTrack second = queue.poll(5, TimeUnit.SECONDS);
+        assertThat(second.getIdentifier()).isEqualTo("1");
+        assertThat(synthesized).containsExactlyInAnyOrder("0", "1");
+
+        startPlaying(first);
+        AudioTrack third = queue.poll(5, TimeUnit.SECONDS);
+        assertThat(third.getIdentifier()).isEqualTo("2");
+        assertThat(synthesized).containsExactlyInAnyOrder("0", "1", "2");
+
+        startPlaying(second);
+        assertThat(queue.poll(5, TimeUnit.SECONDS).getIdentifier()).isEqualTo("3");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    void recordsFirstAudioAndGapFromPlaybackEvents() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TtsProperties properties = new TtsProperties();
+        TtsPipeline pipeline = new TtsPipeline(
+                new TtsService(properties, new ObjectMapper(), List.of()), properties,
+                mock(AudioManager.class), registry);
+
+        TtsPlaybackListener listener = pipeline.listener("test");
+        listener.segmentStarted();
+        listener.segmentEnded();
+        listener.segmentStarted();
+
+        assertThat(registry.timer("gahyeonbot.tts.first.audio", "source", "test").count()).isEqualTo(1);
+        assertThat(registry.timer("gahyeonbot.tts.segment.gap", "source", "test").count()).isEqualTo(1);
+    }
+
+    private static AudioManager memoryTracks() {
+        AudioManager audioManager = mock(AudioManager.class);
+        when(audioManager.createMemoryTrack(anyString(), any(), anyString())).thenAnswer(invocation -> {
+            AudioTrack track = mock(AudioTrack.class);
+            when(track.getIdentifier()).thenReturn(new String(invocation.<byte[]>getArgument(1), StandardCharsets.UTF_8));
+            AtomicReference<Object> userData = new AtomicReference<>();
+            doAnswer(set -> {
+                userData.set(set.getArgument(0));
+                return null;
+            }).when(track).setUserData(any());
+            when(track.getUserData()).thenAnswer(get -> userData.get());
+            return track;
+        });
+        return audioManager;
+    }
+
+    /** Plays the role of the track scheduler announcing that a segment started. */
+    private static void startPlaying(AudioTrack track) {
+        ((TtsTrackMetadata) track.getUserData()).listener().segmentStarted();
+    }
+}
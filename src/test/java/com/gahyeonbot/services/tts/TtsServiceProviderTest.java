@@ -13,12 +13,12 @@ class TtsServiceProviderTest {
     void usesSelectedCustomProvider() throws Exception {
         TtsProperties properties = new TtsProperties();
         properties.setProvider("custom");
-        Path customAudio = Path.of("custom.wav");
+        TtsAudio customAudio = new TtsAudio(new byte[] {1}, "wav");
         TtsService service = new TtsService(properties, new ObjectMapper(), List.of(
                 provider("custom", true, customAudio, null),
-                provider("edge", true, Path.of("edge.mp3"), null)));
+                provider("edge", true, new TtsAudio(new byte[] {2}, "mp3"), null)));
 
-        assertThat(service.synthesizeSegmentToAudio("안녕")).isEqualTo(customAudio);
+        assertThat(service.synthesizeSegment("안녕")).isSameAs(customAudio);
     }
 
     @Test
@@ -26,19 +26,22 @@ class TtsServiceProviderTest {
         TtsProperties properties = new TtsProperties();
         properties.setProvider("custom");
         properties.setFallbackToEdge(true);
-        Path edgeAudio = Path.of("edge.mp3");
+        TtsAudio edgeAudio = new TtsAudio(new byte[] {2}, "mp3");
         TtsService service = new TtsService(properties, new ObjectMapper(), List.of(
                 provider("custom", true, null, new IllegalStateException("offline")),
                 provider("edge", true, edgeAudio, null)));
 
-        assertThat(service.synthesizeSegmentToAudio("안녕")).isEqualTo(edgeAudio);
+        assertThat(service.synthesizeSegment("안녕")).isSameAs(edgeAudio);
     }
 
-    private static TtsProvider provider(String name, boolean ready, Path result, Exception failure) {
+    private static TtsProvider provider(String name, boolean ready, TtsAudio result, Exception failure) {
         return new TtsProvider() {
             @Override public String name() { return name; }
             @Override public boolean isReady() { return ready; }
-            @Override public Path synthesize(String text) throws Exception {
+            @Override public Path synthesize(String text) {
+                throw new UnsupportedOperationException();
+            }
+            @Override public TtsAudio synthesizeAudio(String text) throws Exception {
                 if (failure != null) throw failure;
                 return result;
             }
@@ -0,0 +1,57 @@
+package com.gahyeonbot.services.weather;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OpenMeteoClientTest {
+
+    @Test
+    void fetchesAllCitiesOfAChunkWithOneRequest() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.getForEntity(any(URI.class), eq(Object.class))).thenReturn(ResponseEntity.ok(List.of(
+                Map.of("latitude", 37.5), Map.of("latitude", 48.8), Map.of("latitude", 41.9))));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OpenMeteoClient client = new OpenMeteoClient(restTemplate, registry, 10, 2, 0);
+
+        var result = client.fetch(OpenMeteoClient.Kind.CURRENT, List.of(City.SEOUL, City.PARIS, City.ROME));
+
+        assertThat(result).containsOnlyKeys(City.SEOUL, City.PARIS, City.ROME);
+        assertThat(result.get(City.PARIS)).containsEntry("latitude", 48.8);
+        verify(restTemplate, times(1)).getForEntity(argThat((URI uri) ->
+                uri.toString().contains("latitude=37.5665,48.8566,41.9028")), eq(Object.class));
+        assertThat(registry.find("gahyeonbot.weather.fetch").tag("mode", "batch").timers()).hasSize(3);
+    }
+
+    @Test
+    void fallsBackToSingleCityRequestsWhenTheBatchFails() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.getForEntity(any(URI.class), eq(Object.class))).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0, URI.class).toString();
+            if (url.matches(".*latitude=[^&]*,.*")) throw new ResourceAccessException("batch timeout");
+            if (url.contains("latitude=48.8566")) throw new ResourceAccessException("paris timeout");
+            return ResponseEntity.ok(Map.of("url", url));
+        });
+        OpenMeteoClient client = new OpenMeteoClient(restTemplate, new SimpleMeterRegistry(), 10, 2, 0);
+
+        var result = client.fetch(OpenMeteoClient.Kind.FORECAST, List.of(City.SEOUL, City.PARIS, City.ROME));
+
+        assertThat(result).containsOnlyKeys(City.SEOUL, City.ROME);
+        assertThat((String) result.get(City.ROME).get("url")).contains("daily=");
+    }
+}
@@ -3,7 +3,9 @@ package com.gahyeonbot.services.weather;
 import com.gahyeonbot.entity.WeatherForecast;
 import com.gahyeonbot.repository.WeatherForecastRepository;
 import com.gahyeonbot.repository.WeatherRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Map;
@@ -15,7 +17,10 @@ class WeatherServiceForecastParsingTest {
 
     private final WeatherService service = new WeatherService(
             mock(WeatherRepository.class),
-            mock(WeatherForecastRepository.class)
+            mock(WeatherForecastRepository.class),
+            mock(OpenMeteoClient.class),
+            mock(TransactionTemplate.class),
+            new SimpleMeterRegistry()
     );
 
     @Test
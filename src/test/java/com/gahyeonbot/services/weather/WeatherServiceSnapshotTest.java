@@ -0,0 +1,99 @@
+package com.gahyeonbot.services.weather;
+
+import com.gahyeonbot.entity.WeatherData;
+import com.gahyeonbot.entity.WeatherForecast;
+import com.gahyeonbot.repository.WeatherForecastRepository;
+import com.gahyeonbot.repository.WeatherRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherServiceSnapshotTest {
+
+    private final WeatherRepository weatherRepository = mock(WeatherRepository.class);
+    private final WeatherForecastRepository forecastRepository = mock(WeatherForecastRepository.class);
+    private final WeatherService service = new WeatherService(
+            weatherRepository,
+            forecastRepository,
+            mock(OpenMeteoClient.class),
+            mock(TransactionTemplate.class),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    void servesReadsFromOneSnapshotAndFallsBackToTheDatabaseOnMisses() {
+        LocalDate today = LocalDate.now();
+        when(weatherRepository.findLatestForAllCities()).thenReturn(List.of(current(City.SEOUL, 21.5)));
+        when(forecastRepository.findLatestForecastsBetween(any(), any())).thenReturn(List.of(
+                forecast(City.SEOUL, today, 25.0), forecast(City.SEOUL, today.plusDays(1), 26.0)));
+        when(forecastRepository.findFirstForecastsBetween(any(), any())).thenReturn(List.of(
+                forecast(City.SEOUL, today.plusDays(5), 20.0)));
+
+        assertThat(service.buildCurrentWeatherMessage(City.SEOUL)).contains("21.5°C");
+        assertThat(service.buildCurrentWeatherMessage(City.PARIS)).contains("데이터를 찾지 못했어");
+        assertThat(service.getWeatherContext()).contains("[현재 날씨]", "[7일 예보]");
+        assertThat(service.buildForecastMessage(City.SEOUL, today, today.plusDays(6))).contains("14~26°C");
+
+        verify(weatherRepository, times(1)).findLatestForAllCities();
+        verify(weatherRepository, never()).findLatestByCity("SEOUL");
+        verify(weatherRepository).findLatestByCity("PARIS");
+        // Only the days missing from the snapshot are looked up.
+        verify(forecastRepository).findLatestForecast("SEOUL", today.plusDays(2));
+        verify(forecastRepository, never()).findLatestForecast("SEOUL", today);
+        verify(forecastRepository, times(3)).findFirstForecast(anyString(), any());
+
+        long version = service.rebuildSnapshot().version();
+        assertThat(service.rebuildSnapshot().version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void repeatedReadsDoNotTouchTheDatabase() {
+        when(weatherRepository.findLatestForAllCities()).thenReturn(List.of(current(City.SEOUL, 21.5)));
+        service.rebuildSnapshot();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(service.getWeatherContext()).contains("21.5°C");
+            assertThat(service.buildCurrentWeatherMessage(City.SEOUL)).contains("21.5°C");
+        }
+
+        verify(weatherRepository, times(1)).findLatestForAllCities();
+        verify(weatherRepository, never()).findLatestByCity(anyString());
+    }
+
+    private static WeatherData current(City city, double temperature) {
+        return WeatherData.builder()
+                .city(city.name())
+                .cityName(city.getKoreanName())
+                .country(city.getCountry())
+                .temperature(temperature)
+                .precipitation(0.0)
+                .windSpeed(3.0)
+                .weatherDescription("맑음")
+                .build();
+    }
+
+    private static WeatherForecast forecast(City city, LocalDate date, double tempMax) {
+        return WeatherForecast.builder()
+                .city(city.name())
+                .cityName(city.getKoreanName())
+                .country(city.getCountry())
+                .forecastDate(date)
+                .tempMax(tempMax)
+                .tempMin(tempMax - 6)
+                .precipitationProbability(10)
+                .weatherDescription("맑음")
+                .build();
+    }
+}